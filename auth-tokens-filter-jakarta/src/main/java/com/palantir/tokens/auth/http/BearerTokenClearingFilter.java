@@ -30,5 +30,6 @@ public class BearerTokenClearingFilter implements ContainerRequestFilter {
     @Override
     public final void filter(ContainerRequestContext _requestContext) {
         Utilities.clearMdc();
+        RequestAuthHeader.clearCurrent();
     }
 }
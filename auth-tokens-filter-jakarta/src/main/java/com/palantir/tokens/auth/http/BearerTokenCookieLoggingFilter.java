@@ -38,6 +38,7 @@ class BearerTokenCookieLoggingFilter implements ContainerRequestFilter {
     @Override
     public void filter(ContainerRequestContext requestContext) {
         Utilities.clearMdc();
+        RequestAuthHeader.clearCurrent();
 
         Cookie authCookie = requestContext.getCookies().get(cookie);
         if (authCookie == null) {
@@ -20,75 +20,66 @@ import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalStateException;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
-import com.palantir.tokens.auth.BearerToken;
-import jakarta.ws.rs.CookieParam;
-import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.container.DynamicFeature;
 import jakarta.ws.rs.container.ResourceInfo;
 import jakarta.ws.rs.core.FeatureContext;
-import jakarta.ws.rs.core.HttpHeaders;
-import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public final class BearerTokenLoggingFeature implements DynamicFeature {
     private static final SafeLogger log = SafeLoggerFactory.get(BearerTokenLoggingFeature.class);
 
+    private final EndpointBindings endpointBindings = new EndpointBindings();
+    private final boolean lazyIdentity;
+
+    public BearerTokenLoggingFeature() {
+        this(false);
+    }
+
+    private BearerTokenLoggingFeature(boolean lazyIdentity) {
+        this.lazyIdentity = lazyIdentity;
+    }
+
+    /**
+     * Returns a feature which registers the {@link LazyBearerTokenLoggingFilter} in place of the
+     * {@link BearerTokenLoggingFilter}, so that the Authorization header is only validated and decoded for requests
+     * which use the identity it carries.
+     */
+    public static BearerTokenLoggingFeature withLazyIdentity() {
+        return new BearerTokenLoggingFeature(true);
+    }
+
     @Override
     public void configure(ResourceInfo resourceInfo, FeatureContext context) {
-        List<Method> superInterfaceMethods = Stream.concat(
-                        Stream.of(resourceInfo.getResourceMethod()),
-                        Arrays.stream(resourceInfo.getResourceClass().getInterfaces())
-                                .flatMap(cls -> {
-                                    try {
-                                        return Stream.of(cls.getDeclaredMethod(
-                                                resourceInfo.getResourceMethod().getName(),
-                                                resourceInfo.getResourceMethod().getParameterTypes()));
-                                    } catch (NoSuchMethodException e) {
-                                        return Stream.empty();
-                                    }
-                                }))
-                .collect(Collectors.toList());
-
-        Optional<List<Parameter>> authorizationHeaderParams = superInterfaceMethods.stream()
-                .map(method -> Arrays.stream(method.getParameters())
-                        .filter(param -> param.getAnnotation(HeaderParam.class) != null)
-                        .filter(param -> param.getAnnotation(HeaderParam.class)
-                                .value()
-                                .equalsIgnoreCase(HttpHeaders.AUTHORIZATION))
-                        .collect(Collectors.toList()))
-                .filter(paramList -> !paramList.isEmpty())
+        List<EndpointBindings.MethodBindings> methodBindings =
+                endpointBindings.resolve(resourceInfo.getResourceClass(), resourceInfo.getResourceMethod());
+
+        Optional<EndpointBindings.MethodBindings> authorizationHeaderParams = methodBindings.stream()
+                .filter(bindings -> bindings.authorizationHeaders() > 0)
                 .findFirst();
 
         if (authorizationHeaderParams.isPresent()
-                && authorizationHeaderParams.get().size() > 1) {
+                && authorizationHeaderParams.get().authorizationHeaders() > 1) {
             throw new SafeIllegalStateException(
                     "Multiple parameters annotated with @HeaderParam('Authorization')",
                     SafeArg.of("class", resourceInfo.getResourceClass()),
                     SafeArg.of("method", Objects.toString(resourceInfo.getResourceMethod())));
         }
 
-        if (authorizationHeaderParams.isPresent()
-                && authorizationHeaderParams.get().size() == 1) {
+        if (authorizationHeaderParams.isPresent()) {
             log.debug(
                     "Enabling BearerTokenLoggingFilter",
                     SafeArg.of("class", resourceInfo.getResourceClass()),
-                    SafeArg.of("method", Objects.toString(resourceInfo.getResourceMethod())));
-            context.register(BearerTokenLoggingFilter.class);
+                    SafeArg.of("method", Objects.toString(resourceInfo.getResourceMethod())),
+                    SafeArg.of("lazyIdentity", lazyIdentity));
+            context.register(lazyIdentity ? LazyBearerTokenLoggingFilter.class : BearerTokenLoggingFilter.class);
             return;
         }
 
-        Optional<List<Parameter>> cookieParams = superInterfaceMethods.stream()
-                .map(method -> Arrays.stream(method.getParameters())
-                        .filter(param -> param.getAnnotation(CookieParam.class) != null)
-                        .filter(param -> param.getType().isAssignableFrom(BearerToken.class))
-                        .collect(Collectors.toList()))
-                .filter(paramList -> !paramList.isEmpty())
+        Optional<List<String>> cookieParams = methodBindings.stream()
+                .map(EndpointBindings.MethodBindings::bearerTokenCookies)
+                .filter(cookieNames -> !cookieNames.isEmpty())
                 .findFirst();
 
         if (cookieParams.isPresent() && cookieParams.get().size() > 1) {
@@ -99,8 +90,7 @@ public final class BearerTokenLoggingFeature implements DynamicFeature {
         }
 
         if (cookieParams.isPresent() && cookieParams.get().size() == 1) {
-            String cookieName =
-                    cookieParams.get().get(0).getAnnotation(CookieParam.class).value();
+            String cookieName = cookieParams.get().get(0);
             log.debug(
                     "Enabling BearerTokenCookieLoggingFilter",
                     SafeArg.of("class", resourceInfo.getResourceClass()),
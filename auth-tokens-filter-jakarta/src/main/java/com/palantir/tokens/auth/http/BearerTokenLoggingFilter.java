@@ -18,11 +18,13 @@ package com.palantir.tokens.auth.http;
 
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
-import com.palantir.tokens.auth.UnverifiedJsonWebToken;
+import com.palantir.tokens.auth.AuthHeader;
 import jakarta.annotation.Priority;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
 import jakarta.ws.rs.core.HttpHeaders;
 import java.util.Optional;
 import org.slf4j.MDC;
@@ -32,9 +34,14 @@ import org.slf4j.MDC;
  * request's} {@link HttpHeaders#AUTHORIZATION authorization header}, and populates the SLF4J {@link MDC} and the {@link
  * ContainerRequestContext request context} with user id, session id, and token id extracted from the JWT. This filter
  * is best-effort and does not throw an exception in case any of these steps fail.
+ * <p>
+ * The validated {@link AuthHeader} is also stored in the request context, both directly and as a
+ * {@link RequestAuthHeader}, and handed to {@link AuthHeaderParamConverterProvider} so that resource methods receive
+ * the same instance. See {@link LazyBearerTokenLoggingFilter} for a variant which defers all of this work until the
+ * identity is needed.
  */
 @Priority(Priorities.AUTHORIZATION)
-public class BearerTokenLoggingFilter implements ContainerRequestFilter {
+public class BearerTokenLoggingFilter implements ContainerRequestFilter, ContainerResponseFilter {
     private static final SafeLogger log = SafeLoggerFactory.get(BearerTokenLoggingFilter.class);
 
     public static final String USER_ID_KEY = Utilities.Key.USER_ID.getMdcKey();
@@ -44,6 +51,7 @@ public class BearerTokenLoggingFilter implements ContainerRequestFilter {
     @Override
     public final void filter(ContainerRequestContext requestContext) {
         Utilities.clearMdc();
+        RequestAuthHeader.clearCurrent();
 
         String rawAuthHeader = requestContext.getHeaderString(HttpHeaders.AUTHORIZATION);
         if (rawAuthHeader == null) {
@@ -51,8 +59,20 @@ public class BearerTokenLoggingFilter implements ContainerRequestFilter {
             return;
         }
 
-        Optional<UnverifiedJsonWebToken> parsedJwt = UnverifiedJsonWebToken.tryParse(rawAuthHeader);
-        Utilities.recordUnverifiedJwt(requestContext, parsedJwt);
+        RequestAuthHeader header = RequestAuthHeader.record(requestContext, rawAuthHeader);
+        Optional<AuthHeader> authHeader = header.getAuthHeader();
+        if (authHeader.isEmpty()) {
+            log.debug("Invalid AuthHeader present on request.");
+            return;
+        }
+        requestContext.setProperty(Utilities.AUTH_HEADER_KEY, authHeader.get());
+        Utilities.recordUnverifiedJwt(requestContext, header.getUnverifiedJwt());
+    }
+
+    /** Forgets the Authorization header of the request once its response has been produced. */
+    @Override
+    public final void filter(ContainerRequestContext _requestContext, ContainerResponseContext _responseContext) {
+        RequestAuthHeader.clearCurrent();
     }
 
     /**
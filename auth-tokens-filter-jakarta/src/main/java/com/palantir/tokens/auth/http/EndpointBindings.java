@@ -0,0 +1,171 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.http;
+
+import com.palantir.tokens.auth.BearerToken;
+import jakarta.ws.rs.CookieParam;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.core.HttpHeaders;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds the parameters of resource methods which carry bearer tokens, for {@link BearerTokenLoggingFeature}.
+ * <p>
+ * JAX-RS annotations are usually declared on an interface shared by many resource methods, so each interface is
+ * indexed by method signature in a single reflection pass the first time it is seen rather than searched once per
+ * resource method. Types described by {@link GeneratedBearerTokenBindings} found on the class path are not reflected
+ * over at all.
+ */
+final class EndpointBindings {
+
+    private static final MethodBindings NONE = new MethodBindings(0, List.of());
+
+    private final Map<Class<?>, Map<Signature, MethodBindings>> types = new ConcurrentHashMap<>();
+
+    EndpointBindings() {
+        this(ServiceLoader.load(GeneratedBearerTokenBindings.class));
+    }
+
+    EndpointBindings(Iterable<GeneratedBearerTokenBindings> generatedBindings) {
+        for (GeneratedBearerTokenBindings generated : generatedBindings) {
+            Map<Signature, MethodBindings> index = new HashMap<>();
+            generated.bind((name, parameterTypes, authorizationHeaders, bearerTokenCookies) -> index.put(
+                    new Signature(name, parameterTypes),
+                    new MethodBindings(authorizationHeaders, List.of(bearerTokenCookies))));
+            types.put(generated.type(), index);
+        }
+    }
+
+    /**
+     * Returns the bindings of {@code resourceMethod}, followed by those of the methods with the same signature declared
+     * by each of the interfaces directly implemented by {@code resourceClass}.
+     */
+    List<MethodBindings> resolve(Class<?> resourceClass, Method resourceMethod) {
+        Class<?>[] resourceInterfaces = resourceClass.getInterfaces();
+        List<MethodBindings> bindings = new ArrayList<>(1 + resourceInterfaces.length);
+        Signature signature = new Signature(resourceMethod.getName(), resourceMethod.getParameterTypes());
+        Map<Signature, MethodBindings> declared = types.get(resourceMethod.getDeclaringClass());
+        bindings.add(declared == null ? MethodBindings.of(resourceMethod) : declared.getOrDefault(signature, NONE));
+        for (Class<?> resourceInterface : resourceInterfaces) {
+            MethodBindings interfaceBindings = types.computeIfAbsent(resourceInterface, EndpointBindings::index)
+                    .get(signature);
+            if (interfaceBindings != null) {
+                bindings.add(interfaceBindings);
+            }
+        }
+        return bindings;
+    }
+
+    private static Map<Signature, MethodBindings> index(Class<?> resourceInterface) {
+        Map<Signature, Method> methods = new HashMap<>();
+        for (Method method : resourceInterface.getDeclaredMethods()) {
+            methods.merge(
+                    new Signature(method.getName(), method.getParameterTypes()),
+                    method,
+                    EndpointBindings::mostSpecific);
+        }
+        Map<Signature, MethodBindings> index = new HashMap<>(methods.size() * 2);
+        methods.forEach((signature, method) -> index.put(signature, MethodBindings.of(method)));
+        return index;
+    }
+
+    /** Chooses between methods with the same signature in the same way as {@link Class#getDeclaredMethod}. */
+    private static Method mostSpecific(Method existing, Method method) {
+        return existing.getReturnType().isAssignableFrom(method.getReturnType()) ? method : existing;
+    }
+
+    /** The bearer token parameters of a single method. */
+    static final class MethodBindings {
+        private final int authorizationHeaders;
+        private final List<String> bearerTokenCookies;
+
+        private MethodBindings(int authorizationHeaders, List<String> bearerTokenCookies) {
+            this.authorizationHeaders = authorizationHeaders;
+            this.bearerTokenCookies = bearerTokenCookies;
+        }
+
+        static MethodBindings of(Method method) {
+            Annotation[][] annotations = method.getParameterAnnotations();
+            Class<?>[] types = method.getParameterTypes();
+            int authorizationHeaders = 0;
+            List<String> bearerTokenCookies = new ArrayList<>(0);
+            for (int i = 0; i < annotations.length; i++) {
+                for (Annotation annotation : annotations[i]) {
+                    if (isAuthorizationHeader(annotation)) {
+                        authorizationHeaders++;
+                    } else if (annotation instanceof CookieParam && types[i].isAssignableFrom(BearerToken.class)) {
+                        bearerTokenCookies.add(((CookieParam) annotation).value());
+                    }
+                }
+            }
+            return new MethodBindings(authorizationHeaders, bearerTokenCookies);
+        }
+
+        /** Returns the number of parameters annotated with {@code @HeaderParam("Authorization")}. */
+        int authorizationHeaders() {
+            return authorizationHeaders;
+        }
+
+        /** Returns the cookie names of the {@link BearerToken} parameters annotated with {@code @CookieParam}. */
+        List<String> bearerTokenCookies() {
+            return bearerTokenCookies;
+        }
+
+        private static boolean isAuthorizationHeader(Annotation annotation) {
+            return annotation instanceof HeaderParam
+                    && ((HeaderParam) annotation).value().equalsIgnoreCase(HttpHeaders.AUTHORIZATION);
+        }
+    }
+
+    private static final class Signature {
+        private final String name;
+        private final Class<?>[] parameterTypes;
+        private final int hashCode;
+
+        Signature(String name, Class<?>[] parameterTypes) {
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            this.hashCode = 31 * name.hashCode() + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Signature)) {
+                return false;
+            }
+            Signature that = (Signature) other;
+            return hashCode == that.hashCode
+                    && name.equals(that.name)
+                    && Arrays.equals(parameterTypes, that.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
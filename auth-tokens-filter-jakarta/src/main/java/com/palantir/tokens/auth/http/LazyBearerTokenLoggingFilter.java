@@ -0,0 +1,56 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.http;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+
+/**
+ * A variant of {@link BearerTokenLoggingFilter} which defers all work on the {@link HttpHeaders#AUTHORIZATION
+ * authorization header} until the identity it carries is needed.
+ * <p>
+ * The filter only records the raw header as a {@link RequestAuthHeader}. The header is validated and its JWT decoded
+ * the first time the {@link RequestAuthHeader} is read from the request context, an {@code AuthHeader} parameter is
+ * converted by {@link AuthHeaderParamConverterProvider}, or the identity is put into the SLF4J MDC by
+ * {@link RequestAuthHeader#populateMdc()}. Requests which do none of these never decode their token. The user id,
+ * session id and token id are not written to individual request context properties.
+ */
+@Priority(Priorities.AUTHORIZATION)
+public final class LazyBearerTokenLoggingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        Utilities.clearMdc();
+        RequestAuthHeader.clearCurrent();
+
+        String rawAuthHeader = requestContext.getHeaderString(HttpHeaders.AUTHORIZATION);
+        if (rawAuthHeader == null) {
+            return;
+        }
+        RequestAuthHeader.record(requestContext, rawAuthHeader);
+    }
+
+    /** Forgets the Authorization header of the request once its response has been produced. */
+    @Override
+    public void filter(ContainerRequestContext _requestContext, ContainerResponseContext _responseContext) {
+        RequestAuthHeader.clearCurrent();
+    }
+}
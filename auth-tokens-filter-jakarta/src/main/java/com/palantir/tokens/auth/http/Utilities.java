@@ -18,17 +18,40 @@ package com.palantir.tokens.auth.http;
 
 import com.palantir.tokens.auth.UnverifiedJsonWebToken;
 import jakarta.ws.rs.container.ContainerRequestContext;
+import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.MDC;
 
 final class Utilities {
 
     static final String JSON_WEB_TOKEN_KEY = getRequestPropertyKey("jwt");
+    static final String AUTH_HEADER_KEY = getRequestPropertyKey("authHeader");
+    static final String REQUEST_AUTH_HEADER_KEY = getRequestPropertyKey("requestAuthHeader");
 
     static void clearMdc() {
-        MDC.remove(Key.USER_ID.getMdcKey());
-        MDC.remove(Key.SESSION_ID.getMdcKey());
-        MDC.remove(Key.TOKEN_ID.getMdcKey());
+        for (Key key : Key.VALUES) {
+            MDC.remove(key.getMdcKey());
+        }
+    }
+
+    /** Returns the values of the identity keys of the MDC, in the order of {@link Key}. */
+    static String[] captureMdc() {
+        String[] values = new String[Key.VALUES.length];
+        for (int i = 0; i < Key.VALUES.length; i++) {
+            values[i] = MDC.get(Key.VALUES[i].getMdcKey());
+        }
+        return values;
+    }
+
+    /** Sets the identity keys of the MDC to values returned by {@link #captureMdc()}. */
+    static void restoreMdc(String[] values) {
+        for (int i = 0; i < Key.VALUES.length; i++) {
+            if (values[i] == null) {
+                MDC.remove(Key.VALUES[i].getMdcKey());
+            } else {
+                MDC.put(Key.VALUES[i].getMdcKey(), values[i]);
+            }
+        }
     }
 
     /** Writes to both the MDC and ContainerRequestContext. */
@@ -43,6 +66,20 @@ final class Utilities {
         }
     }
 
+    /** Writes to the MDC only, for tokens which are decoded after the request has been filtered. */
+    static void recordInMdc(UnverifiedJsonWebToken jwt) {
+        MDC.put(Key.USER_ID.getMdcKey(), jwt.getUnverifiedUserId());
+        jwt.getUnverifiedSessionId().ifPresent(sessionId -> MDC.put(Key.SESSION_ID.getMdcKey(), sessionId));
+        jwt.getUnverifiedTokenId().ifPresent(tokenId -> MDC.put(Key.TOKEN_ID.getMdcKey(), tokenId));
+    }
+
+    /** Returns true if the identity keys of the MDC hold the identity decoded from {@code jwt}, and nothing else. */
+    static boolean isInMdc(UnverifiedJsonWebToken jwt) {
+        return jwt.getUnverifiedUserId().equals(MDC.get(Key.USER_ID.getMdcKey()))
+                && Objects.equals(jwt.getUnverifiedSessionId().orElse(null), MDC.get(Key.SESSION_ID.getMdcKey()))
+                && Objects.equals(jwt.getUnverifiedTokenId().orElse(null), MDC.get(Key.TOKEN_ID.getMdcKey()));
+    }
+
     private static void setUnverifiedContext(ContainerRequestContext requestContext, Key key, String value) {
         MDC.put(key.getMdcKey(), value);
         requestContext.setProperty(key.getContextKey(), value);
@@ -63,6 +100,8 @@ final class Utilities {
         SESSION_ID("sessionId"),
         TOKEN_ID("tokenId");
 
+        static final Key[] VALUES = values();
+
         private final String mdc;
         private final String context;
 
@@ -87,6 +87,21 @@ final class BasicAuthToBearerTokenFilterTest {
         assertRequestUnchanged();
     }
 
+    @Test
+    void testBearerTokenContainingBasic() throws Exception {
+        setAuthHeader("Bearer tokenBasic");
+        filter();
+        assertRequestUnchanged();
+    }
+
+    @Test
+    void testSchemeIsCaseInsensitive() throws Exception {
+        String encodedCreds = Base64.getUrlEncoder().encodeToString("foo:password".getBytes(StandardCharsets.UTF_8));
+        setAuthHeader("basic " + encodedCreds);
+        filter();
+        assertChainRequestHasAuthHeader("Bearer password");
+    }
+
     @Test
     void testCannotDecode() throws Exception {
         String encodedCreds = "not base-64 encoded";
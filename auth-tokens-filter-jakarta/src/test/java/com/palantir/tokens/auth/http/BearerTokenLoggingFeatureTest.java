@@ -0,0 +1,185 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.palantir.tokens.auth.AuthHeader;
+import com.palantir.tokens.auth.BearerToken;
+import jakarta.ws.rs.CookieParam;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.FeatureContext;
+import java.lang.reflect.Method;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+final class BearerTokenLoggingFeatureTest {
+
+    @Mock
+    private ResourceInfo resourceInfo;
+
+    @Mock
+    private FeatureContext context;
+
+    private final BearerTokenLoggingFeature feature = new BearerTokenLoggingFeature();
+
+    @Test
+    void registersHeaderFilterForInterfaceAnnotations() throws NoSuchMethodException {
+        configure(ServiceResource.class, "header", AuthHeader.class, String.class);
+        verify(context).register(BearerTokenLoggingFilter.class);
+    }
+
+    @Test
+    void registersCookieFilterForInterfaceAnnotations() throws NoSuchMethodException {
+        configure(ServiceResource.class, "cookie", BearerToken.class);
+        verify(context).register(any(BearerTokenCookieLoggingFilter.class));
+    }
+
+    @Test
+    void registersClearingFilterWithoutTokenParameters() throws NoSuchMethodException {
+        configure(ServiceResource.class, "unauthenticated", String.class);
+        verify(context).register(any(BearerTokenClearingFilter.class));
+    }
+
+    @Test
+    void registersLazyHeaderFilterWithLazyIdentity() throws NoSuchMethodException {
+        when(resourceInfo.getResourceClass()).thenAnswer(_invocation -> ServiceResource.class);
+        when(resourceInfo.getResourceMethod())
+                .thenReturn(ServiceResource.class.getMethod("header", AuthHeader.class, String.class));
+        BearerTokenLoggingFeature.withLazyIdentity().configure(resourceInfo, context);
+        verify(context).register(LazyBearerTokenLoggingFilter.class);
+    }
+
+    @Test
+    void registersHeaderFilterForResourceMethodAnnotations() throws NoSuchMethodException {
+        configure(DirectResource.class, "header", AuthHeader.class);
+        verify(context).register(BearerTokenLoggingFilter.class);
+    }
+
+    @Test
+    void rejectsMultipleAuthorizationHeaders() {
+        assertThatThrownBy(() -> configure(ServiceResource.class, "headers", AuthHeader.class, AuthHeader.class))
+                .hasMessageContaining("Multiple parameters annotated with @HeaderParam('Authorization')");
+    }
+
+    @Test
+    void rejectsMultipleBearerTokenCookies() {
+        assertThatThrownBy(() -> configure(ServiceResource.class, "cookies", BearerToken.class, BearerToken.class))
+                .hasMessageContaining("Multiple BearerToken parameters annotated with @CookieParam");
+    }
+
+    @Test
+    void resolvesBindingsFromResourceMethodThenInterfaces() throws NoSuchMethodException {
+        EndpointBindings bindings = new EndpointBindings();
+        Method method = ServiceResource.class.getMethod("cookie", BearerToken.class);
+
+        List<EndpointBindings.MethodBindings> resolved = bindings.resolve(ServiceResource.class, method);
+
+        assertThat(resolved).hasSize(2);
+        assertThat(resolved.get(0).bearerTokenCookies()).isEmpty();
+        assertThat(resolved.get(1).bearerTokenCookies()).containsExactly("TOKEN");
+        assertThat(resolved.get(1).authorizationHeaders()).isZero();
+        assertThat(bindings.resolve(ServiceResource.class, method).get(1)).isSameAs(resolved.get(1));
+    }
+
+    @Test
+    void prefersGeneratedBindingsToReflection() throws NoSuchMethodException {
+        GeneratedBearerTokenBindings generated = new GeneratedBearerTokenBindings() {
+            @Override
+            public Class<?> type() {
+                return Service.class;
+            }
+
+            @Override
+            public void bind(Binder binder) {
+                binder.method("unauthenticated", new Class<?>[] {String.class}, 0, "GENERATED");
+            }
+        };
+        EndpointBindings bindings = new EndpointBindings(List.of(generated));
+
+        List<EndpointBindings.MethodBindings> unauthenticated = bindings.resolve(
+                ServiceResource.class, ServiceResource.class.getMethod("unauthenticated", String.class));
+        List<EndpointBindings.MethodBindings> header = bindings.resolve(
+                ServiceResource.class, ServiceResource.class.getMethod("header", AuthHeader.class, String.class));
+
+        assertThat(unauthenticated).hasSize(2);
+        assertThat(unauthenticated.get(1).bearerTokenCookies()).containsExactly("GENERATED");
+        assertThat(header).hasSize(1);
+    }
+
+    private void configure(Class<?> resourceClass, String name, Class<?>... parameterTypes)
+            throws NoSuchMethodException {
+        Method method = resourceClass.getMethod(name, parameterTypes);
+        when(resourceInfo.getResourceClass()).thenAnswer(_invocation -> resourceClass);
+        when(resourceInfo.getResourceMethod()).thenReturn(method);
+        feature.configure(resourceInfo, context);
+    }
+
+    public interface Service {
+        String header(@HeaderParam("authorization") AuthHeader authHeader, @PathParam("id") String id);
+
+        String headers(@HeaderParam("Authorization") AuthHeader first, @HeaderParam("Authorization") AuthHeader second);
+
+        String cookie(@CookieParam("TOKEN") BearerToken token);
+
+        String cookies(@CookieParam("FIRST") BearerToken first, @CookieParam("SECOND") BearerToken second);
+
+        String unauthenticated(@HeaderParam("Other") String other);
+    }
+
+    public static final class ServiceResource implements Service {
+        @Override
+        public String header(AuthHeader authHeader, String id) {
+            return id;
+        }
+
+        @Override
+        public String headers(AuthHeader first, AuthHeader second) {
+            return first.toString();
+        }
+
+        @Override
+        public String cookie(BearerToken token) {
+            return token.toString();
+        }
+
+        @Override
+        public String cookies(BearerToken first, BearerToken second) {
+            return first.toString();
+        }
+
+        @Override
+        public String unauthenticated(String other) {
+            return other;
+        }
+    }
+
+    public static final class DirectResource {
+        public String header(@HeaderParam("Authorization") AuthHeader authHeader) {
+            return authHeader.toString();
+        }
+    }
+}
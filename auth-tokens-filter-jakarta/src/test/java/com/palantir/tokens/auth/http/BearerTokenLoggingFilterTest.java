@@ -17,14 +17,17 @@
 package com.palantir.tokens.auth.http;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
+import com.palantir.tokens.auth.AuthHeader;
 import com.palantir.tokens.auth.UnverifiedJsonWebToken;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.ext.ParamConverter;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,6 +65,9 @@ final class BearerTokenLoggingFilterTest {
                 })
                 .when(requestContext)
                 .setProperty(anyString(), any());
+        lenient()
+                .when(requestContext.getProperty(anyString()))
+                .thenAnswer(invocation -> requestProperties.get(invocation.<String>getArgument(0)));
     }
 
     @Test
@@ -124,6 +130,46 @@ final class BearerTokenLoggingFilterTest {
                         .hasValue(TestConstants.TOKEN_ID));
     }
 
+    @Test
+    void authHeaderIsSharedWithParamConverter() {
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn(TestConstants.AUTH_HEADER);
+        filter.filter(requestContext);
+
+        ParamConverter<AuthHeader> converter =
+                new AuthHeaderParamConverterProvider().getConverter(AuthHeader.class, AuthHeader.class, null);
+        assertThat(requestProperties.get(Utilities.AUTH_HEADER_KEY))
+                .isEqualTo(AuthHeader.valueOf(TestConstants.AUTH_HEADER))
+                .isSameAs(converter.fromString(TestConstants.AUTH_HEADER));
+        assertThat(RequestAuthHeader.of(requestContext).flatMap(RequestAuthHeader::getAuthHeader))
+                .containsSame(converter.fromString(TestConstants.AUTH_HEADER));
+
+        filter.filter(requestContext, null);
+        assertThat(converter.fromString(TestConstants.AUTH_HEADER))
+                .isNotSameAs(requestProperties.get(Utilities.AUTH_HEADER_KEY))
+                .isEqualTo(requestProperties.get(Utilities.AUTH_HEADER_KEY));
+    }
+
+    @Test
+    void paramConverterIgnoresOtherHeaders() {
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn(TestConstants.AUTH_HEADER);
+        filter.filter(requestContext);
+
+        ParamConverter<AuthHeader> converter =
+                new AuthHeaderParamConverterProvider().getConverter(AuthHeader.class, AuthHeader.class, null);
+        assertThat(converter.fromString("Bearer other")).isEqualTo(AuthHeader.valueOf("Bearer other"));
+        assertThatThrownBy(() -> converter.fromString("BOGUS TOKEN")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(new AuthHeaderParamConverterProvider().getConverter(String.class, String.class, null))
+                .isNull();
+    }
+
+    @Test
+    void invalidAuthHeaderIsNotStored() {
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn("BOGUS TOKEN");
+        filter.filter(requestContext);
+
+        assertThat(requestProperties).doesNotContainKey(Utilities.AUTH_HEADER_KEY);
+    }
+
     private void assertThatMdcIsCleared() {
         MDC.put(USER_ID_KEY, "uid");
         MDC.put(SESSION_ID_KEY, "sid");
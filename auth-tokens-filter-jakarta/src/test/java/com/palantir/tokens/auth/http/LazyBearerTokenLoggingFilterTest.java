@@ -0,0 +1,178 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import com.palantir.tokens.auth.AuthHeader;
+import com.palantir.tokens.auth.UnverifiedJsonWebToken;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.ext.ParamConverter;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+
+@ExtendWith(MockitoExtension.class)
+final class LazyBearerTokenLoggingFilterTest {
+
+    private static final String USER_ID_KEY = Utilities.Key.USER_ID.getMdcKey();
+
+    @Mock
+    private ContainerRequestContext requestContext;
+
+    private Map<String, Object> requestProperties;
+    private LazyBearerTokenLoggingFilter filter;
+
+    @BeforeEach
+    void before() {
+        requestProperties = new HashMap<>();
+        filter = new LazyBearerTokenLoggingFilter();
+        MDC.clear();
+
+        lenient()
+                .doAnswer(invocation -> requestProperties.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(requestContext)
+                .setProperty(anyString(), any());
+        lenient()
+                .when(requestContext.getProperty(anyString()))
+                .thenAnswer(invocation -> requestProperties.get(invocation.<String>getArgument(0)));
+    }
+
+    @Test
+    void onlyRecordsRawHeader() {
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn(TestConstants.AUTH_HEADER);
+        MDC.put(USER_ID_KEY, "uid");
+        filter.filter(requestContext);
+
+        assertThat(MDC.get(USER_ID_KEY)).isNull();
+        assertThat(requestProperties).containsOnlyKeys(Utilities.REQUEST_AUTH_HEADER_KEY);
+        assertThat(RequestAuthHeader.of(requestContext))
+                .containsSame(RequestAuthHeader.current().orElseThrow());
+        assertThat(RequestAuthHeader.current().orElseThrow().getRawAuthHeader()).isSameAs(TestConstants.AUTH_HEADER);
+    }
+
+    @Test
+    void decodesIdentityOnFirstUse() {
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn(TestConstants.AUTH_HEADER);
+        filter.filter(requestContext);
+        RequestAuthHeader header = RequestAuthHeader.of(requestContext).orElseThrow();
+
+        assertThat(header.getUnverifiedJwt())
+                .isEqualTo(UnverifiedJsonWebToken.tryParse(TestConstants.AUTH_HEADER))
+                .isSameAs(header.getUnverifiedJwt());
+        ParamConverter<AuthHeader> converter =
+                new AuthHeaderParamConverterProvider().getConverter(AuthHeader.class, AuthHeader.class, null);
+        assertThat(header.getAuthHeader()).containsSame(converter.fromString(TestConstants.AUTH_HEADER));
+
+        RequestAuthHeader.populateMdc();
+        assertThat(MDC.get(USER_ID_KEY)).isEqualTo(TestConstants.USER_ID);
+        assertThat(MDC.get(Utilities.Key.SESSION_ID.getMdcKey())).isEqualTo(TestConstants.SESSION_ID);
+        assertThat(MDC.get(Utilities.Key.TOKEN_ID.getMdcKey())).isEqualTo(TestConstants.TOKEN_ID);
+    }
+
+    @Test
+    void replacesIdentityOfAnotherRequest() {
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn(TestConstants.AUTH_HEADER);
+        filter.filter(requestContext);
+
+        RequestAuthHeader.populateMdc();
+        MDC.put(USER_ID_KEY, "uid");
+        MDC.put(Utilities.Key.TOKEN_ID.getMdcKey(), "tid");
+        RequestAuthHeader.populateMdc();
+        assertThat(MDC.get(USER_ID_KEY)).isEqualTo(TestConstants.USER_ID);
+        assertThat(MDC.get(Utilities.Key.TOKEN_ID.getMdcKey())).isEqualTo(TestConstants.TOKEN_ID);
+
+        filter.filter(requestContext);
+        assertThat(MDC.get(Utilities.Key.SESSION_ID.getMdcKey())).isNull();
+        RequestAuthHeader.populateMdc();
+        assertThat(MDC.get(USER_ID_KEY)).isEqualTo(TestConstants.USER_ID);
+    }
+
+    @Test
+    void forgetsHeaderAfterResponse() {
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn(TestConstants.AUTH_HEADER);
+        filter.filter(requestContext);
+        filter.filter(requestContext, null);
+
+        assertThat(RequestAuthHeader.current()).isEmpty();
+        RequestAuthHeader.populateMdc();
+        assertThat(MDC.get(USER_ID_KEY)).isNull();
+    }
+
+    @Test
+    void invalidHeaderHasNoIdentity() {
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn("BOGUS TOKEN");
+        filter.filter(requestContext);
+
+        RequestAuthHeader header = RequestAuthHeader.of(requestContext).orElseThrow();
+        assertThat(header.getAuthHeader()).isEmpty();
+        assertThat(header.getUnverifiedJwt()).isEmpty();
+        RequestAuthHeader.populateMdc();
+        assertThat(MDC.get(USER_ID_KEY)).isNull();
+    }
+
+    @Test
+    void invalidHeaderClearsIdentityOfAnotherRequest() {
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn("BOGUS TOKEN");
+        filter.filter(requestContext);
+
+        MDC.put(USER_ID_KEY, "uid");
+        MDC.put(Utilities.Key.SESSION_ID.getMdcKey(), "sid");
+        RequestAuthHeader.populateMdc();
+        assertThat(MDC.get(USER_ID_KEY)).isNull();
+        assertThat(MDC.get(Utilities.Key.SESSION_ID.getMdcKey())).isNull();
+    }
+
+    @Test
+    void missingHeaderClearsPreviousRequest() {
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn(TestConstants.AUTH_HEADER);
+        filter.filter(requestContext);
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn(null);
+        filter.filter(requestContext);
+
+        assertThat(RequestAuthHeader.current()).isEmpty();
+    }
+
+    @Test
+    void replacesHeaderNotForgottenByPreviousRequest() {
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn(TestConstants.AUTH_HEADER);
+        filter.filter(requestContext);
+        RequestAuthHeader.populateMdc();
+        RequestAuthHeader previous = RequestAuthHeader.current().orElseThrow();
+
+        // The previous request was suspended, so its response filter never ran on this thread
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer other");
+        filter.filter(requestContext);
+
+        RequestAuthHeader header = RequestAuthHeader.current().orElseThrow();
+        assertThat(header)
+                .isNotSameAs(previous)
+                .isSameAs(RequestAuthHeader.of(requestContext).orElseThrow());
+        assertThat(header.getRawAuthHeader()).isEqualTo("Bearer other");
+        RequestAuthHeader.populateMdc();
+        assertThat(MDC.get(USER_ID_KEY)).isNull();
+    }
+}
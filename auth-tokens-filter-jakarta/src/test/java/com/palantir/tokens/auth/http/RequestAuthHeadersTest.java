@@ -0,0 +1,152 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+
+@ExtendWith(MockitoExtension.class)
+final class RequestAuthHeadersTest {
+
+    private static final String USER_ID_KEY = Utilities.Key.USER_ID.getMdcKey();
+
+    @Mock
+    private ContainerRequestContext requestContext;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void before() {
+        executor = Executors.newSingleThreadExecutor();
+        MDC.clear();
+        RequestAuthHeader.clearCurrent();
+    }
+
+    @AfterEach
+    void after() throws InterruptedException {
+        executor.shutdownNow();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        RequestAuthHeader.clearCurrent();
+    }
+
+    @Test
+    void carriesHeaderAndIdentityToWrappedTasks() throws Exception {
+        RequestAuthHeader header = filterEagerly();
+
+        Optional<RequestAuthHeader> seen = executor.submit(RequestAuthHeaders.wrap(() -> RequestAuthHeader.current()))
+                .get();
+        String userId = CompletableFuture.supplyAsync(() -> MDC.get(USER_ID_KEY), RequestAuthHeaders.wrap(executor))
+                .get();
+
+        assertThat(seen).containsSame(header);
+        assertThat(userId).isEqualTo(TestConstants.USER_ID);
+        assertThat(executor.submit(RequestAuthHeader::current).get()).isEmpty();
+        assertThat(executor.submit(() -> MDC.get(USER_ID_KEY)).get()).isNull();
+    }
+
+    @Test
+    void carriesHeaderThroughCompletableFutureStages() throws Exception {
+        RequestAuthHeader header = filterEagerly();
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<Optional<RequestAuthHeader>> result = pending.thenApplyAsync(
+                        RequestAuthHeaders.wrapFunction(value -> MDC.get(USER_ID_KEY) + value), executor)
+                .thenApplyAsync(
+                        RequestAuthHeaders.wrapFunction(value -> {
+                            assertThat(value).isEqualTo(TestConstants.USER_ID + "!");
+                            return RequestAuthHeader.current();
+                        }),
+                        executor);
+        RequestAuthHeader.clearCurrent();
+        Utilities.clearMdc();
+        pending.complete("!");
+
+        assertThat(result.get()).containsSame(header);
+    }
+
+    @Test
+    void populatesMdcLazilyOnWorkerThreads() throws Exception {
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn(TestConstants.AUTH_HEADER);
+        new LazyBearerTokenLoggingFilter().filter(requestContext);
+
+        String userId = executor.submit(RequestAuthHeaders.wrap(() -> {
+                    assertThat(MDC.get(USER_ID_KEY)).isNull();
+                    RequestAuthHeader.populateMdc();
+                    return MDC.get(USER_ID_KEY);
+                }))
+                .get();
+
+        assertThat(userId).isEqualTo(TestConstants.USER_ID);
+        assertThat(MDC.get(USER_ID_KEY)).isNull();
+        RequestAuthHeader.populateMdc();
+        assertThat(MDC.get(USER_ID_KEY)).isEqualTo(TestConstants.USER_ID);
+    }
+
+    @Test
+    void restoresPreviousHeaderAndIdentity() {
+        RequestAuthHeader header = filterEagerly();
+        RequestAuthHeader other = RequestAuthHeader.record(requestContext, "Bearer other");
+        RequestAuthHeader.clearCurrent();
+        MDC.put("requestId", "request");
+
+        other.run(() -> {
+            assertThat(RequestAuthHeader.current()).containsSame(other);
+            assertThat(MDC.get(USER_ID_KEY)).isNull();
+            assertThat(MDC.get("requestId")).isEqualTo("request");
+            header.run(() -> assertThat(MDC.get(USER_ID_KEY)).isEqualTo(TestConstants.USER_ID));
+            assertThat(RequestAuthHeader.current()).containsSame(other);
+            assertThat(MDC.get(USER_ID_KEY)).isNull();
+        });
+
+        assertThat(RequestAuthHeader.current()).isEmpty();
+        assertThat(MDC.get(USER_ID_KEY)).isEqualTo(TestConstants.USER_ID);
+    }
+
+    @Test
+    void doesNotLeakHeaderOfWorkerThread() throws Exception {
+        filterEagerly();
+        executor.submit(RequestAuthHeaders.wrap(() -> {})).get();
+        RequestAuthHeader.clearCurrent();
+        Utilities.clearMdc();
+
+        Runnable unbound = RequestAuthHeaders.wrap(() -> {
+            assertThat(RequestAuthHeader.current()).isEmpty();
+            assertThat(MDC.get(USER_ID_KEY)).isNull();
+        });
+        executor.submit(unbound).get();
+    }
+
+    private RequestAuthHeader filterEagerly() {
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn(TestConstants.AUTH_HEADER);
+        new BearerTokenLoggingFilter().filter(requestContext);
+        return RequestAuthHeader.current().orElseThrow();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.http;
+
+import com.palantir.tokens.auth.AuthHeader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Optional;
+import javax.ws.rs.ext.ParamConverter;
+import javax.ws.rs.ext.ParamConverterProvider;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * Converts {@link AuthHeader} parameters to the instance already validated by {@link BearerTokenLoggingFilter} or
+ * {@link LazyBearerTokenLoggingFilter} for the current request, so that the header is validated and its token copied
+ * only once per request.
+ * <p>
+ * The filters make the header available to the converter through {@link RequestAuthHeader#current()} on the request
+ * thread, and the converter only reuses it for a parameter with the same value; any other value, including every value
+ * on requests which no filter handled, is converted with {@link AuthHeader#valueOf(String)} as usual. A header left
+ * current by an earlier request on the same thread is therefore only reused when it holds the same value, in which case
+ * it is equal to the header of this request. Register this provider alongside {@link BearerTokenLoggingFeature}.
+ */
+@Provider
+public final class AuthHeaderParamConverterProvider implements ParamConverterProvider {
+
+    private static final ParamConverter<AuthHeader> CONVERTER = new ParamConverter<AuthHeader>() {
+        @Override
+        public AuthHeader fromString(String value) {
+            Optional<AuthHeader> validated = RequestAuthHeader.current()
+                    .filter(header -> header.getRawAuthHeader().equals(value))
+                    .flatMap(RequestAuthHeader::getAuthHeader);
+            return validated.isPresent() ? validated.get() : AuthHeader.valueOf(value);
+        }
+
+        @Override
+        public String toString(AuthHeader value) {
+            return value.toString();
+        }
+    };
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ParamConverter<T> getConverter(Class<T> rawType, Type _genericType, Annotation[] _annotations) {
+        return rawType == AuthHeader.class ? (ParamConverter<T>) CONVERTER : null;
+    }
+}
@@ -21,6 +21,7 @@ import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
 import com.palantir.tokens.auth.AuthHeader;
+import com.palantir.tokens.auth.AuthHeaderClassification;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
@@ -124,6 +125,8 @@ public class BasicAuthToBearerTokenFilter implements Filter {
     }
 
     private boolean isBasicAuth(String rawAuthHeader) {
-        return rawAuthHeader != null && rawAuthHeader.contains(BASIC_AUTH_STR);
+        return rawAuthHeader != null
+                && AuthHeaderClassification.classify(rawAuthHeader).getScheme()
+                        == AuthHeaderClassification.Scheme.BASIC;
     }
 }
@@ -0,0 +1,43 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.http;
+
+/**
+ * The bearer token parameters of the methods of a resource class or interface, generated at compile time by the
+ * {@code auth-tokens-processor} annotation processor.
+ * <p>
+ * {@link BearerTokenLoggingFeature} discovers implementations with {@link java.util.ServiceLoader} and uses them instead
+ * of reflecting over the parameter annotations of the described type. Implementations are not intended to be written
+ * by hand.
+ */
+public interface GeneratedBearerTokenBindings {
+
+    /** Returns the resource class or interface whose declared methods are described. */
+    Class<?> type();
+
+    /** Passes each declared method of {@link #type()} which has bearer token parameters to {@code binder}. */
+    void bind(Binder binder);
+
+    interface Binder {
+        /**
+         * Records that the method with the given name and erased parameter types has {@code authorizationHeaders}
+         * parameters annotated with {@code @HeaderParam("Authorization")}, and a parameter annotated with
+         * {@code @CookieParam} to which a {@link com.palantir.tokens.auth.BearerToken} may be assigned for each of
+         * {@code bearerTokenCookies}.
+         */
+        void method(String name, Class<?>[] parameterTypes, int authorizationHeaders, String... bearerTokenCookies);
+    }
+}
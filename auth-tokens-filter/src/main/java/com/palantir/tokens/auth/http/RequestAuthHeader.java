@@ -0,0 +1,194 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.http;
+
+import com.palantir.tokens.auth.AuthHeader;
+import com.palantir.tokens.auth.UnverifiedJsonWebToken;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import javax.ws.rs.container.ContainerRequestContext;
+import org.slf4j.MDC;
+
+/**
+ * The Authorization header of a request, which is validated and whose JWT is decoded only when first needed.
+ * <p>
+ * {@link BearerTokenLoggingFilter} and {@link LazyBearerTokenLoggingFilter} store the header of each request in the
+ * request context, where it can be found with {@link #of(ContainerRequestContext)}, and make it available to the
+ * thread handling the request through {@link #current()}. As with {@link UnverifiedJsonWebToken}, the decoded identity
+ * has not been verified and must not be used for security-sensitive decisions.
+ * <p>
+ * The header is immutable once recorded, so the identity of a request can be carried to other threads by handing over
+ * this one object rather than a copy of the MDC: {@link #run(Runnable)} and {@link #call(Callable)} make it current for
+ * the duration of a task, and {@link RequestAuthHeaders} wraps executors and {@code CompletableFuture} stages to do so
+ * for work resumed on other threads, such as an {@code AsyncResponse}.
+ */
+public final class RequestAuthHeader {
+
+    // Holds the header of the request being handled by each thread, until the next request is filtered
+    private static final ThreadLocal<RequestAuthHeader> current = new ThreadLocal<>();
+
+    private final String rawAuthHeader;
+
+    // Computed on first use. Racing threads compute equal values, and Optional is safely published.
+    private Optional<AuthHeader> authHeader;
+    private Optional<UnverifiedJsonWebToken> unverifiedJwt;
+
+    private RequestAuthHeader(String rawAuthHeader) {
+        this.rawAuthHeader = rawAuthHeader;
+    }
+
+    /** Returns the Authorization header stored in the given request context by one of the logging filters. */
+    public static Optional<RequestAuthHeader> of(ContainerRequestContext requestContext) {
+        Object header = requestContext.getProperty(Utilities.REQUEST_AUTH_HEADER_KEY);
+        return header instanceof RequestAuthHeader ? Optional.of((RequestAuthHeader) header) : Optional.empty();
+    }
+
+    /**
+     * Returns the Authorization header of the request being handled by the current thread.
+     * <p>
+     * The logging filters replace this header before each request, but the thread which resumes or abandons an
+     * asynchronous request does not forget it until it handles its next request. Where the request context is at hand,
+     * prefer {@link #of(ContainerRequestContext)}, which always returns the header of that request.
+     */
+    public static Optional<RequestAuthHeader> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /**
+     * Puts the user id, session id, token id and organization id decoded from the Authorization header of the request
+     * being handled by the current thread into the SLF4J MDC, replacing any identity which does not match that header.
+     * <p>
+     * {@link LazyBearerTokenLoggingFilter} leaves the MDC empty so that requests which never log do not decode their
+     * token. Call this from a hook run before each log event is written, such as a Logback {@code TurboFilter} or a
+     * Log4j {@code ContextDataProvider}, to decode the token for the first log event of each request. The token is
+     * decoded once per request, and later calls only compare the MDC with the identity already decoded, so that an
+     * identity left in the MDC by another request handled by this thread is never attributed to this one.
+     */
+    public static void populateMdc() {
+        RequestAuthHeader header = current.get();
+        if (header == null) {
+            return;
+        }
+        Optional<UnverifiedJsonWebToken> jwt = header.getUnverifiedJwt();
+        boolean matches =
+                jwt.isPresent() ? Utilities.isInMdc(jwt.get()) : MDC.get(Utilities.Key.USER_ID.getMdcKey()) == null;
+        if (!matches) {
+            Utilities.clearMdc();
+            jwt.ifPresent(Utilities::recordInMdc);
+        }
+    }
+
+    /**
+     * Runs {@code task} on the current thread with this as the header of the request being handled, restoring the
+     * previous header and the identity held in the MDC once it completes.
+     */
+    public void run(Runnable task) {
+        try (Scope scope = bind(this)) {
+            task.run();
+        }
+    }
+
+    /**
+     * Calls {@code task} on the current thread with this as the header of the request being handled, restoring the
+     * previous header and the identity held in the MDC once it completes.
+     */
+    public <T> T call(Callable<T> task) throws Exception {
+        try (Scope scope = bind(this)) {
+            return task.call();
+        }
+    }
+
+    /** Returns the raw value of the Authorization header. */
+    public String getRawAuthHeader() {
+        return rawAuthHeader;
+    }
+
+    /** Returns the header, validated on first use, or empty if it does not hold a valid bearer token. */
+    public Optional<AuthHeader> getAuthHeader() {
+        Optional<AuthHeader> result = authHeader;
+        if (result == null) {
+            result = AuthHeader.tryValueOf(rawAuthHeader);
+            authHeader = result;
+        }
+        return result;
+    }
+
+    /** Returns the JWT held by the header, decoded on first use, or empty if it cannot be parsed. */
+    public Optional<UnverifiedJsonWebToken> getUnverifiedJwt() {
+        Optional<UnverifiedJsonWebToken> result = unverifiedJwt;
+        if (result == null) {
+            result = getAuthHeader().flatMap(header -> UnverifiedJsonWebToken.tryParse(header.getBearerToken()));
+            unverifiedJwt = result;
+        }
+        return result;
+    }
+
+    /**
+     * Makes {@code rawAuthHeader} the header of the request being handled by the current thread, and stores it in the
+     * request context.
+     */
+    static RequestAuthHeader record(ContainerRequestContext requestContext, String rawAuthHeader) {
+        RequestAuthHeader header = new RequestAuthHeader(rawAuthHeader);
+        current.set(header);
+        requestContext.setProperty(Utilities.REQUEST_AUTH_HEADER_KEY, header);
+        return header;
+    }
+
+    /** Forgets the header of any previous request handled by the current thread. */
+    static void clearCurrent() {
+        current.remove();
+    }
+
+    /**
+     * Makes {@code header}, which may be null, the header of the request being handled by the current thread until the
+     * returned scope is closed. Only the identity keys of the MDC are replaced: they are filled in straight away if the
+     * token has already been decoded, and otherwise left to {@link #populateMdc()}.
+     */
+    static Scope bind(RequestAuthHeader header) {
+        Scope scope = new Scope(current.get(), Utilities.captureMdc());
+        if (header == null) {
+            current.remove();
+        } else {
+            current.set(header);
+        }
+        Utilities.clearMdc();
+        if (header != null && header.unverifiedJwt != null) {
+            header.unverifiedJwt.ifPresent(Utilities::recordInMdc);
+        }
+        return scope;
+    }
+
+    /** Restores the header and MDC identity which were current before a call to {@link #bind}. */
+    static final class Scope implements AutoCloseable {
+        private final RequestAuthHeader previous;
+        private final String[] previousMdc;
+
+        private Scope(RequestAuthHeader previous, String[] previousMdc) {
+            this.previous = previous;
+            this.previousMdc = previousMdc;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                current.remove();
+            } else {
+                current.set(previous);
+            }
+            Utilities.restoreMdc(previousMdc);
+        }
+    }
+}
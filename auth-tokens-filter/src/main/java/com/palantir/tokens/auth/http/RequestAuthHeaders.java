@@ -0,0 +1,110 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.http;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Carries the {@link RequestAuthHeader} of the current request to work run on other threads.
+ * <p>
+ * Each wrapper captures the header which is current when it is created and makes it current on the thread which runs
+ * the task, replacing only the identity keys of the MDC rather than copying the whole map, and restoring both once the
+ * task completes. Tasks wrapped on a thread which is not handling a request run without a header, so that they never
+ * see the header of an earlier request handled by the worker thread.
+ * <p>
+ * Executors wrapped by {@link #wrap(Executor)} capture the header when each task is submitted. A
+ * {@code CompletableFuture} stage submits its task when the previous stage completes, possibly on a thread which is
+ * not handling the request, so the functions passed to stages should be wrapped instead:
+ * <pre>{@code
+ * CompletableFuture.supplyAsync(RequestAuthHeaders.wrapSupplier(this::load), executor)
+ *         .thenApplyAsync(RequestAuthHeaders.wrapFunction(this::render), executor)
+ *         .thenAccept(RequestAuthHeaders.wrapConsumer(asyncResponse::resume));
+ * }</pre>
+ */
+public final class RequestAuthHeaders {
+
+    /** Returns an executor which runs each task with the header which was current when the task was submitted. */
+    public static Executor wrap(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+
+    /** Returns a task which runs {@code task} with the header which is current now. */
+    public static Runnable wrap(Runnable task) {
+        RequestAuthHeader header = RequestAuthHeader.current().orElse(null);
+        return () -> {
+            try (RequestAuthHeader.Scope scope = RequestAuthHeader.bind(header)) {
+                task.run();
+            }
+        };
+    }
+
+    /** Returns a task which calls {@code task} with the header which is current now. */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        RequestAuthHeader header = RequestAuthHeader.current().orElse(null);
+        return () -> {
+            try (RequestAuthHeader.Scope scope = RequestAuthHeader.bind(header)) {
+                return task.call();
+            }
+        };
+    }
+
+    /** Returns a supplier which calls {@code supplier} with the header which is current now. */
+    public static <T> Supplier<T> wrapSupplier(Supplier<T> supplier) {
+        RequestAuthHeader header = RequestAuthHeader.current().orElse(null);
+        return () -> {
+            try (RequestAuthHeader.Scope scope = RequestAuthHeader.bind(header)) {
+                return supplier.get();
+            }
+        };
+    }
+
+    /** Returns a function which applies {@code function} with the header which is current now. */
+    public static <T, R> Function<T, R> wrapFunction(Function<T, R> function) {
+        RequestAuthHeader header = RequestAuthHeader.current().orElse(null);
+        return value -> {
+            try (RequestAuthHeader.Scope scope = RequestAuthHeader.bind(header)) {
+                return function.apply(value);
+            }
+        };
+    }
+
+    /** Returns a function which applies {@code function} with the header which is current now. */
+    public static <T, U, R> BiFunction<T, U, R> wrapBiFunction(BiFunction<T, U, R> function) {
+        RequestAuthHeader header = RequestAuthHeader.current().orElse(null);
+        return (first, second) -> {
+            try (RequestAuthHeader.Scope scope = RequestAuthHeader.bind(header)) {
+                return function.apply(first, second);
+            }
+        };
+    }
+
+    /** Returns a consumer which calls {@code consumer} with the header which is current now. */
+    public static <T> Consumer<T> wrapConsumer(Consumer<T> consumer) {
+        RequestAuthHeader header = RequestAuthHeader.current().orElse(null);
+        return value -> {
+            try (RequestAuthHeader.Scope scope = RequestAuthHeader.bind(header)) {
+                consumer.accept(value);
+            }
+        };
+    }
+
+    private RequestAuthHeaders() {}
+}
@@ -0,0 +1,85 @@
+/*
+ * (c) Copyright 2019 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.HttpHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+
+@ExtendWith(MockitoExtension.class)
+final class RequestAuthHeadersTest {
+
+    private static final String USER_ID_KEY = Utilities.Key.USER_ID.getMdcKey();
+    private static final String ORGANIZATION_ID_KEY = Utilities.Key.ORGANIZATION_ID.getMdcKey();
+
+    @Mock
+    private ContainerRequestContext requestContext;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void before() {
+        executor = Executors.newSingleThreadExecutor();
+        MDC.clear();
+        RequestAuthHeader.clearCurrent();
+    }
+
+    @AfterEach
+    void after() throws InterruptedException {
+        executor.shutdownNow();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        RequestAuthHeader.clearCurrent();
+    }
+
+    @Test
+    void doesNotKeepOrganizationOfPreviousTask() throws Exception {
+        executor.submit(() -> MDC.put(ORGANIZATION_ID_KEY, "organization")).get();
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn(TestConstants.AUTH_HEADER);
+        new BearerTokenLoggingFilter().filter(requestContext);
+
+        executor.submit(RequestAuthHeaders.wrap(() -> {
+                    assertThat(MDC.get(USER_ID_KEY)).isEqualTo(TestConstants.USER_ID);
+                    assertThat(MDC.get(ORGANIZATION_ID_KEY)).isNull();
+                }))
+                .get();
+
+        assertThat(executor.submit(() -> MDC.get(ORGANIZATION_ID_KEY)).get()).isEqualTo("organization");
+    }
+
+    @Test
+    void populateMdcReplacesOrganizationOfAnotherRequest() {
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn(TestConstants.AUTH_HEADER);
+        new LazyBearerTokenLoggingFilter().filter(requestContext);
+        RequestAuthHeader.populateMdc();
+
+        MDC.put(ORGANIZATION_ID_KEY, "organization");
+        RequestAuthHeader.populateMdc();
+        assertThat(MDC.get(USER_ID_KEY)).isEqualTo(TestConstants.USER_ID);
+        assertThat(MDC.get(ORGANIZATION_ID_KEY)).isNull();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.logscanner;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Locates bearer tokens in a region of bytes without copying them.
+ * <p>
+ * The region is searched eight bytes at a time: each word is tested for a 'B' byte using the SWAR zero-byte trick, and
+ * only candidate positions are compared with the "Bearer " prefix, which the JIT compiles to a few instructions per
+ * word regardless of the surrounding content.
+ */
+final class BearerTokenLocator {
+
+    private static final String PREFIX = "Bearer ";
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long B_BYTES = ONES * 'B';
+    // "Bearer " as the low seven bytes of a little-endian word
+    private static final long PREFIX_WORD = prefixWord();
+    private static final long PREFIX_MASK = 0x00FFFFFFFFFFFFFFL;
+    private static final boolean[] TOKEN_CHARACTERS = tokenCharacters();
+
+    /** Receives the bounds of each token found. */
+    @FunctionalInterface
+    interface TokenConsumer {
+        void accept(int start, int end);
+    }
+
+    private BearerTokenLocator() {}
+
+    /**
+     * Passes the bounds of every token following a "Bearer " prefix which starts between {@code from} (inclusive) and
+     * {@code to} (exclusive) to {@code consumer}. Tokens may extend up to the limit of the buffer. The buffer is read
+     * using absolute indices and its position is not changed.
+     */
+    static void scan(ByteBuffer buffer, int from, int to, TokenConsumer consumer) {
+        ByteBuffer words = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int limit = words.limit();
+        int index = from;
+        for (int wordEnd = Math.min(to, limit - Long.BYTES); index <= wordEnd - Long.BYTES; index += Long.BYTES) {
+            long candidates = zeroBytes(words.getLong(index) ^ B_BYTES);
+            while (candidates != 0) {
+                int start = index + Long.numberOfTrailingZeros(candidates) / Byte.SIZE;
+                if ((words.getLong(start) & PREFIX_MASK) == PREFIX_WORD) {
+                    accept(words, start + PREFIX.length(), consumer);
+                }
+                candidates &= candidates - 1;
+            }
+        }
+        for (; index < to; index++) {
+            if (matchesPrefix(words, index, limit)) {
+                accept(words, index + PREFIX.length(), consumer);
+            }
+        }
+    }
+
+    private static void accept(ByteBuffer buffer, int start, TokenConsumer consumer) {
+        int limit = buffer.limit();
+        int end = start;
+        while (end < limit && isTokenCharacter(buffer.get(end))) {
+            end++;
+        }
+        if (end > start) {
+            consumer.accept(start, end);
+        }
+    }
+
+    private static boolean matchesPrefix(ByteBuffer buffer, int index, int limit) {
+        if (index + PREFIX.length() > limit) {
+            return false;
+        }
+        for (int i = 0; i < PREFIX.length(); i++) {
+            if (buffer.get(index + i) != PREFIX.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a word with the high bit of every zero byte of {@code word} set. Bytes above a zero byte may also be
+     * flagged, which is harmless as every candidate is compared with the prefix.
+     */
+    private static long zeroBytes(long word) {
+        return (word - ONES) & ~word & HIGH_BITS;
+    }
+
+    private static boolean isTokenCharacter(byte value) {
+        return value >= 0 && TOKEN_CHARACTERS[value];
+    }
+
+    private static long prefixWord() {
+        long word = 0;
+        for (int i = PREFIX.length() - 1; i >= 0; i--) {
+            word = (word << Byte.SIZE) | PREFIX.charAt(i);
+        }
+        return word;
+    }
+
+    private static boolean[] tokenCharacters() {
+        boolean[] table = new boolean[128];
+        String allowed = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-._~+/=";
+        for (int i = 0; i < allowed.length(); i++) {
+            table[allowed.charAt(i)] = true;
+        }
+        return table;
+    }
+}
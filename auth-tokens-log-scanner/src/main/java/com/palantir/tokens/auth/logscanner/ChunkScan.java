@@ -0,0 +1,132 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.logscanner;
+
+import com.palantir.tokens.auth.UnverifiedJsonWebToken;
+import com.palantir.tokens.auth.UnverifiedJsonWebTokenParseResult;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The tokens found in one chunk of a log file. Tokens are parsed straight from the mapped bytes, and only the rows of
+ * CSV output, when requested, are rendered as strings. The mapped bytes are released once the chunk has been scanned.
+ */
+final class ChunkScan implements BearerTokenLocator.TokenConsumer {
+
+    private ByteBuffer buffer;
+    private final String path;
+    private final long offset;
+    private final LogScanner.GroupBy groupBy;
+    private final UuidCounter counter = new UuidCounter();
+    private final StringBuilder rows;
+    private long tokens;
+    private long failures;
+
+    ChunkScan(ByteBuffer buffer, String path, long offset, LogScanner.GroupBy groupBy, boolean csv) {
+        this.buffer = buffer;
+        this.path = csvField(path);
+        this.offset = offset;
+        this.groupBy = groupBy;
+        this.rows = csv ? new StringBuilder() : null;
+    }
+
+    /** Scans the tokens whose prefix starts before {@code end}, the end of this chunk within the mapped buffer. */
+    ChunkScan scan(int end) {
+        BearerTokenLocator.scan(buffer, 0, end, this);
+        // Allow the mapping to be released while the chunk waits for earlier chunks to be written
+        buffer = null;
+        return this;
+    }
+
+    @Override
+    public void accept(int start, int end) {
+        tokens++;
+        UnverifiedJsonWebTokenParseResult result = UnverifiedJsonWebToken.parse(buffer, start, end - start);
+        Optional<UnverifiedJsonWebToken> parsed = result.getToken();
+        if (parsed.isEmpty()) {
+            failures++;
+            if (rows != null) {
+                appendRow(start, "", "", "", result.getFailure().get().name());
+            }
+            return;
+        }
+        UnverifiedJsonWebToken token = parsed.get();
+        if (groupBy == LogScanner.GroupBy.USER) {
+            counter.add(
+                    token.getUnverifiedUserIdMostSignificantBits(), token.getUnverifiedUserIdLeastSignificantBits(), 1);
+        } else {
+            Optional<UUID> organizationId = token.getUnverifiedOrganizationIdAsUuid();
+            if (organizationId.isPresent()) {
+                counter.add(
+                        organizationId.get().getMostSignificantBits(),
+                        organizationId.get().getLeastSignificantBits(),
+                        1);
+            }
+        }
+        if (rows != null) {
+            appendRow(
+                    start,
+                    token.getUnverifiedUserId(),
+                    token.getUnverifiedSessionId().orElse(""),
+                    token.getUnverifiedOrganizationId().orElse(""),
+                    "");
+        }
+    }
+
+    private void appendRow(int start, String userId, String sessionId, String organizationId, String failure) {
+        rows.append(path)
+                .append(',')
+                .append(offset + start)
+                .append(',')
+                .append(userId)
+                .append(',')
+                .append(sessionId)
+                .append(',')
+                .append(organizationId)
+                .append(',')
+                .append(failure)
+                .append('\n');
+    }
+
+    /** Quotes the value as a CSV field if it contains a delimiter, a quote or a line break. */
+    static String csvField(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == ',' || ch == '"' || ch == '\n' || ch == '\r') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+
+    UuidCounter counter() {
+        return counter;
+    }
+
+    /** Returns the CSV rows of this chunk, or null if CSV output was not requested. */
+    CharSequence rows() {
+        return rows;
+    }
+
+    long tokens() {
+        return tokens;
+    }
+
+    long failures() {
+        return failures;
+    }
+}
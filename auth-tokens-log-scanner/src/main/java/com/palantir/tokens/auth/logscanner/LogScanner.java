@@ -0,0 +1,269 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.logscanner;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Command line tool which attributes the requests recorded in access or audit logs to users or organizations, by
+ * extracting the claims of every bearer token in the logs.
+ * <p>
+ * Each file is memory-mapped in chunks which are scanned in parallel, and tokens are parsed straight from the mapped
+ * bytes, so they are never copied onto the heap. Only a few chunks per thread are scanned ahead of the one whose
+ * results are being written, so memory use does not grow with the size of the logs. The output is either the number of
+ * requests per user or organization, in descending order, or a CSV row per token.
+ * <p>
+ * As for {@link com.palantir.tokens.auth.UnverifiedJsonWebToken}, the signatures of the tokens are not verified.
+ */
+public final class LogScanner {
+
+    static final String USAGE =
+            "Usage: auth-tokens-log-scanner [--group-by user|org] [--csv] [--threads <count>] <file>...";
+
+    // Tokens whose prefix starts in a chunk are read from the bytes which follow it, up to this many bytes past the
+    // end of the chunk; longer tokens are truncated and will fail to parse.
+    static final int MAX_TOKEN_LENGTH = 64 * 1024;
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+
+    enum GroupBy {
+        USER("user_id"),
+        ORG("organization_id");
+
+        private final String column;
+
+        GroupBy(String column) {
+            this.column = column;
+        }
+    }
+
+    private final GroupBy groupBy;
+    private final boolean csv;
+    private final int threads;
+    private final int chunkSize;
+
+    LogScanner(GroupBy groupBy, boolean csv, int threads, int chunkSize) {
+        this.groupBy = groupBy;
+        this.csv = csv;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    public static void main(String[] args) throws IOException {
+        PrintWriter err = new PrintWriter(new OutputStreamWriter(System.err, StandardCharsets.UTF_8), true);
+        List<Path> files = new ArrayList<>();
+        LogScanner scanner;
+        try {
+            scanner = parseArguments(args, files);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        long started = System.nanoTime();
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        Summary summary = scanner.scan(files, out);
+        out.flush();
+        double seconds = Math.max(1, System.nanoTime() - started) / 1e9;
+        err.printf(
+                Locale.ROOT,
+                "Scanned %d bytes in %.2f s (%.1f MB/s): %d tokens, %d could not be parsed%n",
+                summary.bytes,
+                seconds,
+                summary.bytes / seconds / 1e6,
+                summary.tokens,
+                summary.failures);
+    }
+
+    static LogScanner parseArguments(String[] args, List<Path> files) {
+        GroupBy groupBy = GroupBy.USER;
+        boolean csv = false;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int index = 0;
+        while (index < args.length) {
+            String arg = args[index++];
+            if (arg.equals("--csv")) {
+                csv = true;
+            } else if (arg.equals("--group-by") && index < args.length) {
+                groupBy = parseGroupBy(args[index++]);
+            } else if (arg.equals("--threads") && index < args.length) {
+                threads = parseThreads(args[index++]);
+            } else if (arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown or incomplete option: " + arg);
+            } else {
+                files.add(Paths.get(arg));
+            }
+        }
+        if (files.isEmpty()) {
+            throw new IllegalArgumentException("No files to scan");
+        }
+        return new LogScanner(groupBy, csv, threads, DEFAULT_CHUNK_SIZE);
+    }
+
+    private static GroupBy parseGroupBy(String value) {
+        switch (value) {
+            case "user":
+                return GroupBy.USER;
+            case "org":
+                return GroupBy.ORG;
+            default:
+                throw new IllegalArgumentException("Unknown grouping: " + value);
+        }
+    }
+
+    private static int parseThreads(String value) {
+        try {
+            int threads = Integer.parseInt(value);
+            if (threads > 0) {
+                return threads;
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the error below
+        }
+        throw new IllegalArgumentException("Invalid thread count: " + value);
+    }
+
+    /** Scans the given files, writing the counts or CSV rows to {@code out}. */
+    Summary scan(List<Path> files, Writer out) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        List<FileChannel> channels = new ArrayList<>();
+        try {
+            List<Callable<ChunkScan>> chunks = new ArrayList<>();
+            Summary summary = new Summary();
+            for (Path file : files) {
+                FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                channels.add(channel);
+                long size = channel.size();
+                summary.bytes += size;
+                String path = file.toString();
+                for (long start = 0; start < size; start += chunkSize) {
+                    long chunkStart = start;
+                    chunks.add(() -> scanChunk(channel, path, chunkStart, size));
+                }
+            }
+            if (csv) {
+                out.write("path,offset,user_id,session_id,organization_id,failure\n");
+            }
+            UuidCounter counter = new UuidCounter();
+            // Results are consumed in order and dropped straight away, and no more than two chunks per thread are in
+            // flight, so that the rows held on the heap are bounded regardless of the size of the logs
+            Deque<Future<ChunkScan>> pending = new ArrayDeque<>();
+            Iterator<Callable<ChunkScan>> remaining = chunks.iterator();
+            while (remaining.hasNext() || !pending.isEmpty()) {
+                while (remaining.hasNext() && pending.size() < threads * 2) {
+                    pending.add(pool.submit(remaining.next()));
+                }
+                consume(getUnchecked(pending.poll()), summary, counter, out);
+            }
+            if (!csv) {
+                writeCounts(counter, out);
+            }
+            return summary;
+        } finally {
+            pool.shutdownNow();
+            for (FileChannel channel : channels) {
+                channel.close();
+            }
+        }
+    }
+
+    private ChunkScan scanChunk(FileChannel channel, String path, long start, long fileSize) {
+        long end = Math.min(fileSize, start + chunkSize);
+        long mappedEnd = Math.min(fileSize, end + MAX_TOKEN_LENGTH);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, mappedEnd - start);
+            return new ChunkScan(buffer, path, start, groupBy, csv).scan((int) (end - start));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void consume(ChunkScan chunk, Summary summary, UuidCounter counter, Writer out) throws IOException {
+        summary.tokens += chunk.tokens();
+        summary.failures += chunk.failures();
+        if (csv) {
+            out.append(chunk.rows());
+        } else {
+            counter.addAll(chunk.counter());
+        }
+    }
+
+    private void writeCounts(UuidCounter counter, Writer out) throws IOException {
+        out.write(groupBy.column);
+        out.write(",requests\n");
+        for (UuidCounter.Entry entry : counter.entries()) {
+            out.write(entry.uuid().toString());
+            out.write(',');
+            out.write(Long.toString(entry.count()));
+            out.write('\n');
+        }
+    }
+
+    private static ChunkScan getUnchecked(Future<ChunkScan> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while scanning", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw new IOException("Failed to scan chunk", e.getCause());
+        }
+    }
+
+    /** Totals across every scanned file. */
+    static final class Summary {
+        private long bytes;
+        private long tokens;
+        private long failures;
+
+        long bytes() {
+            return bytes;
+        }
+
+        long tokens() {
+            return tokens;
+        }
+
+        long failures() {
+            return failures;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.logscanner;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Counts occurrences of UUIDs held as their most and least significant bits, in an open-addressing table which does
+ * not allocate per increment. Instances are not thread-safe; each worker counts into its own instance and the results
+ * are merged.
+ */
+final class UuidCounter {
+
+    private long[] mostSignificantBits = new long[1024];
+    private long[] leastSignificantBits = new long[1024];
+    // Zero marks an empty slot, as every stored UUID has been counted at least once
+    private long[] counts = new long[1024];
+    private int size;
+
+    /** Adds {@code count} occurrences of the given UUID. */
+    void add(long most, long least, long count) {
+        if (size * 2 >= counts.length) {
+            resize();
+        }
+        int mask = counts.length - 1;
+        int slot = hash(most, least) & mask;
+        while (counts[slot] != 0 && (mostSignificantBits[slot] != most || leastSignificantBits[slot] != least)) {
+            slot = (slot + 1) & mask;
+        }
+        if (counts[slot] == 0) {
+            mostSignificantBits[slot] = most;
+            leastSignificantBits[slot] = least;
+            size++;
+        }
+        counts[slot] += count;
+    }
+
+    /** Adds the counts of {@code other} to this counter. */
+    void addAll(UuidCounter other) {
+        for (int slot = 0; slot < other.counts.length; slot++) {
+            if (other.counts[slot] != 0) {
+                add(other.mostSignificantBits[slot], other.leastSignificantBits[slot], other.counts[slot]);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** Returns the counted UUIDs ordered by descending count, then by UUID. */
+    List<Entry> entries() {
+        List<Entry> entries = new ArrayList<>(size);
+        for (int slot = 0; slot < counts.length; slot++) {
+            if (counts[slot] != 0) {
+                entries.add(new Entry(new UUID(mostSignificantBits[slot], leastSignificantBits[slot]), counts[slot]));
+            }
+        }
+        entries.sort(Comparator.comparingLong(Entry::count).reversed().thenComparing(Entry::uuid));
+        return entries;
+    }
+
+    private void resize() {
+        long[] oldMost = mostSignificantBits;
+        long[] oldLeast = leastSignificantBits;
+        long[] oldCounts = counts;
+        mostSignificantBits = new long[oldCounts.length * 2];
+        leastSignificantBits = new long[oldCounts.length * 2];
+        counts = new long[oldCounts.length * 2];
+        size = 0;
+        for (int slot = 0; slot < oldCounts.length; slot++) {
+            if (oldCounts[slot] != 0) {
+                add(oldMost[slot], oldLeast[slot], oldCounts[slot]);
+            }
+        }
+    }
+
+    private static int hash(long most, long least) {
+        long mixed = (most ^ Long.rotateLeft(least, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed >>> 32);
+    }
+
+    static final class Entry {
+        private final UUID uuid;
+        private final long count;
+
+        Entry(UUID uuid, long count) {
+            this.uuid = uuid;
+            this.count = count;
+        }
+
+        UUID uuid() {
+            return uuid;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
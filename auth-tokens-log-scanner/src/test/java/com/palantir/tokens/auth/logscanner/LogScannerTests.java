@@ -0,0 +1,178 @@
+/*
+ * (c) Copyright 2016 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.logscanner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class LogScannerTests {
+
+    private static final String USER = "c393f659-0301-434e-a9c9-72304a507ffc";
+    private static final String OTHER_USER = "3fc663d4-3e48-4ded-ba4e-d78af98b8363";
+    private static final String ORG = "3fc663d4-3e48-4ded-ba4e-d78af98b8363";
+    private static final String USER_TOKEN = jwt("{\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\"}");
+    private static final String ORG_TOKEN =
+            jwt("{\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\",\"org\":\"P8Zj1D5ITe26TteK+YuDYw==\"}");
+    private static final String OTHER_TOKEN = jwt("{\"sub\":\"P8Zj1D5ITe26TteK+YuDYw==\"}");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testCountsRequestsPerUser() throws IOException {
+        Path log = writeLog();
+
+        StringWriter out = new StringWriter();
+        LogScanner.Summary summary = new LogScanner(LogScanner.GroupBy.USER, false, 4, 64).scan(List.of(log), out);
+
+        assertThat(out.toString()).isEqualTo("user_id,requests\n" + USER + ",200\n" + OTHER_USER + ",100\n");
+        assertThat(summary.tokens()).isEqualTo(400);
+        assertThat(summary.failures()).isEqualTo(100);
+        assertThat(summary.bytes()).isEqualTo(Files.size(log));
+    }
+
+    @Test
+    void testCountsRequestsPerOrganization() throws IOException {
+        Path log = writeLog();
+
+        StringWriter out = new StringWriter();
+        new LogScanner(LogScanner.GroupBy.ORG, false, 2, 1 << 20).scan(List.of(log, log), out);
+
+        assertThat(out.toString()).isEqualTo("organization_id,requests\n" + ORG + ",200\n");
+    }
+
+    @Test
+    void testWritesCsv() throws IOException {
+        Path log = directory.resolve("small.log");
+        Files.writeString(
+                log, "GET / Authorization: Bearer " + ORG_TOKEN + "\nGET / Authorization: Bearer not.a.jwt\n");
+
+        StringWriter out = new StringWriter();
+        new LogScanner(LogScanner.GroupBy.USER, true, 1, 1 << 20).scan(List.of(log), out);
+
+        assertThat(out.toString())
+                .isEqualTo("path,offset,user_id,session_id,organization_id,failure\n"
+                        + log + ",28," + USER + ",," + ORG + ",\n"
+                        + log + "," + (28 + ORG_TOKEN.length() + 1 + 28) + ",,,,INVALID_BASE64\n");
+    }
+
+    @Test
+    void testWritesCsvInOrderAcrossManyChunks() throws IOException {
+        Path log = directory.resolve("access \"1\",2.log");
+        StringBuilder content = new StringBuilder();
+        StringBuilder expected = new StringBuilder("path,offset,user_id,session_id,organization_id,failure\n");
+        for (int i = 0; i < 100; i++) {
+            expected.append("\"")
+                    .append(log.toString().replace("\"", "\"\""))
+                    .append("\",")
+                    .append(content.length() + 28)
+                    .append(',')
+                    .append(USER)
+                    .append(",,,\n");
+            content.append("GET / Authorization: Bearer ").append(USER_TOKEN).append('\n');
+        }
+        Files.writeString(log, content);
+
+        StringWriter out = new StringWriter();
+        new LogScanner(LogScanner.GroupBy.USER, true, 2, 64).scan(List.of(log), out);
+
+        assertThat(out.toString()).isEqualTo(expected.toString());
+        assertThat(ChunkScan.csvField("plain.log")).isEqualTo("plain.log");
+    }
+
+    @Test
+    void testLocatesTokens() {
+        Random random = new Random(0);
+        for (int iteration = 0; iteration < 200; iteration++) {
+            StringBuilder builder = new StringBuilder();
+            List<Integer> expected = new ArrayList<>();
+            while (builder.length() < 300) {
+                int choice = random.nextInt(4);
+                if (choice == 0) {
+                    builder.append("Bearer ");
+                    expected.add(builder.length());
+                    builder.append("abc").append(random.nextInt(100));
+                } else if (choice == 1) {
+                    builder.append("BBearer  Bearerx B");
+                } else {
+                    builder.append((char) ('A' + random.nextInt(8)));
+                }
+                builder.append(random.nextBoolean() ? " " : "\n");
+            }
+            byte[] bytes = builder.toString().getBytes(StandardCharsets.US_ASCII);
+            int from = random.nextInt(16);
+            List<Integer> found = new ArrayList<>();
+            BearerTokenLocator.scan(ByteBuffer.wrap(bytes), from, bytes.length, (start, end) -> {
+                assertThat(bytes[end - 1]).isNotEqualTo((byte) ' ');
+                found.add(start);
+            });
+
+            expected.removeIf(start -> start - "Bearer ".length() < from);
+            assertThat(found).as(builder.toString()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testParsesArguments() {
+        List<Path> files = new ArrayList<>();
+        LogScanner.parseArguments(new String[] {"--group-by", "org", "--csv", "--threads", "3", "a.log"}, files);
+        assertThat(files).containsExactly(Path.of("a.log"));
+
+        assertThatThrownBy(() -> LogScanner.parseArguments(new String[] {"--threads", "0", "a.log"}, files))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LogScanner.parseArguments(new String[] {"--group-by"}, files))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LogScanner.parseArguments(new String[0], new ArrayList<>()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Path writeLog() throws IOException {
+        StringBuilder log = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            log.append("127.0.0.1 - GET /api/")
+                    .append(i)
+                    .append(" Authorization: Bearer ")
+                    .append(USER_TOKEN);
+            log.append("\n127.0.0.1 - GET /api Authorization: Bearer ")
+                    .append(ORG_TOKEN)
+                    .append(" 200\n");
+            log.append("Bearer ").append(OTHER_TOKEN).append('\n');
+            log.append("Bearer invalid.token.value Bearer\n");
+        }
+        Path path = directory.resolve("access.log");
+        Files.writeString(path, log);
+        return path;
+    }
+
+    private static String jwt(String payload) {
+        return "eyJhbGciOiJFUzI1NiJ9."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.processor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a {@code GeneratedBearerTokenBindings} for each JAX-RS resource class or interface, so that
+ * {@code BearerTokenLoggingFeature} can choose the filter for each resource method without reflecting over parameter
+ * annotations when the application starts.
+ * <p>
+ * Both {@code javax.ws.rs} and {@code jakarta.ws.rs} annotations are recognized. Types which the generated code cannot
+ * refer to, such as private nested classes, are skipped and left to the feature's reflective fallback.
+ */
+public final class BearerTokenBindingsProcessor extends AbstractProcessor {
+
+    static final String BINDINGS = "com.palantir.tokens.auth.http.GeneratedBearerTokenBindings";
+
+    private static final String SUFFIX = "BearerTokenBindings";
+    private static final String BEARER_TOKEN = "com.palantir.tokens.auth.BearerToken";
+    private static final String AUTHORIZATION = "Authorization";
+    private static final List<String> PACKAGES = List.of("javax.ws.rs", "jakarta.ws.rs");
+    private static final List<String> ANNOTATIONS =
+            List.of("Path", "GET", "POST", "PUT", "DELETE", "PATCH", "HEAD", "OPTIONS", "HeaderParam", "CookieParam");
+
+    private final Set<String> processedTypes = new LinkedHashSet<>();
+    private final List<String> generatedBindings = new ArrayList<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return PACKAGES.stream()
+                .flatMap(pkg -> ANNOTATIONS.stream().map(annotation -> pkg + '.' + annotation))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        if (annotations.isEmpty()) {
+            return false;
+        }
+        if (elements().getTypeElement(BINDINGS) == null) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(
+                            Diagnostic.Kind.NOTE,
+                            "Not generating bearer token bindings as " + BINDINGS + " is not on the class path");
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                enclosingType(element)
+                        .filter(type ->
+                                processedTypes.add(type.getQualifiedName().toString()))
+                        .ifPresent(this::generate);
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        if (!isAccessible(type, type)) {
+            skip(type, "it is not accessible from its package");
+            return;
+        }
+        List<String> bindings = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (!hasBearerTokenParameters(method)) {
+                continue;
+            }
+            Optional<List<String>> parameterTypes = parameterTypes(type, method);
+            if (parameterTypes.isEmpty()) {
+                skip(type, "the parameter types of " + method.getSimpleName() + " are not accessible from its package");
+                return;
+            }
+            bindings.add(binding(method, parameterTypes.get()));
+        }
+
+        PackageElement pkg = elements().getPackageOf(type);
+        String simpleName = type.getQualifiedName()
+                        .toString()
+                        .substring(pkg.isUnnamed() ? 0 : pkg.getQualifiedName().length() + 1)
+                        .replace('.', '_')
+                + SUFFIX;
+        String name = pkg.isUnnamed() ? simpleName : pkg.getQualifiedName() + "." + simpleName;
+        try (Writer writer =
+                processingEnv.getFiler().createSourceFile(name, type).openWriter()) {
+            writer.write(source(pkg, simpleName, type, bindings));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        generatedBindings.add(name);
+        originatingElements.add(type);
+    }
+
+    private boolean hasBearerTokenParameters(ExecutableElement method) {
+        return method.getParameters().stream()
+                .anyMatch(parameter -> isAuthorizationHeader(parameter) || isBearerTokenCookie(parameter));
+    }
+
+    /** Returns the statement passing the bearer token parameters of {@code method} to the binder. */
+    private String binding(ExecutableElement method, List<String> parameterTypes) {
+        StringBuilder statement = new StringBuilder()
+                .append("binder.method(")
+                .append(elements().getConstantExpression(method.getSimpleName().toString()))
+                .append(", new java.lang.Class<?>[] {")
+                .append(String.join(", ", parameterTypes))
+                .append("}, ")
+                .append(method.getParameters().stream()
+                        .filter(this::isAuthorizationHeader)
+                        .count());
+        for (VariableElement parameter : method.getParameters()) {
+            if (isBearerTokenCookie(parameter)) {
+                statement
+                        .append(", ")
+                        .append(elements()
+                                .getConstantExpression(annotationValue(parameter, "CookieParam")
+                                        .get()));
+            }
+        }
+        return statement.append(");").toString();
+    }
+
+    /** Returns the class literals of the erased parameter types, or empty if any cannot be referred to. */
+    private Optional<List<String>> parameterTypes(TypeElement type, ExecutableElement method) {
+        List<String> parameterTypes = new ArrayList<>();
+        for (VariableElement parameter : method.getParameters()) {
+            Optional<String> literal = classLiteral(type, types().erasure(parameter.asType()));
+            if (literal.isEmpty()) {
+                return Optional.empty();
+            }
+            parameterTypes.add(literal.get());
+        }
+        return Optional.of(parameterTypes);
+    }
+
+    private boolean isAuthorizationHeader(VariableElement parameter) {
+        return annotationValue(parameter, "HeaderParam")
+                .filter(AUTHORIZATION::equalsIgnoreCase)
+                .isPresent();
+    }
+
+    private boolean isBearerTokenCookie(VariableElement parameter) {
+        return annotationValue(parameter, "CookieParam").isPresent()
+                && acceptsBearerToken(types().erasure(parameter.asType()));
+    }
+
+    private String source(PackageElement pkg, String simpleName, TypeElement type, List<String> bindings) {
+        StringBuilder source = new StringBuilder();
+        if (!pkg.isUnnamed()) {
+            source.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+        }
+        if (elements().getTypeElement("javax.annotation.processing.Generated") != null) {
+            source.append("@javax.annotation.processing.Generated(\"")
+                    .append(BearerTokenBindingsProcessor.class.getName())
+                    .append("\")\n");
+        }
+        source.append("public final class ")
+                .append(simpleName)
+                .append(" implements ")
+                .append(BINDINGS)
+                .append(" {\n    @java.lang.Override\n    public java.lang.Class<?> type() {\n        return ")
+                .append(type.getQualifiedName())
+                .append(".class;\n    }\n\n    @java.lang.Override\n    public void bind(Binder binder) {\n");
+        for (String binding : bindings) {
+            source.append("        ").append(binding).append('\n');
+        }
+        return source.append("    }\n}\n").toString();
+    }
+
+    private void writeServiceFile() {
+        if (generatedBindings.isEmpty()) {
+            return;
+        }
+        try (Writer writer = processingEnv
+                .getFiler()
+                .createResource(
+                        StandardLocation.CLASS_OUTPUT,
+                        "",
+                        "META-INF/services/" + BINDINGS,
+                        originatingElements.toArray(new Element[0]))
+                .openWriter()) {
+            for (String name : generatedBindings) {
+                writer.write(name);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void skip(TypeElement type, String reason) {
+        processingEnv
+                .getMessager()
+                .printMessage(Diagnostic.Kind.NOTE, "Not generating bearer token bindings as " + reason, type);
+    }
+
+    /**
+     * Returns the value of the JAX-RS annotation with the given simple name on {@code parameter}, if it is present.
+     */
+    private Optional<String> annotationValue(VariableElement parameter, String simpleName) {
+        for (AnnotationMirror mirror : parameter.getAnnotationMirrors()) {
+            TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotation.getSimpleName().contentEquals(simpleName)
+                    && PACKAGES.contains(elements()
+                            .getPackageOf(annotation)
+                            .getQualifiedName()
+                            .toString())) {
+                return mirror.getElementValues().entrySet().stream()
+                        .filter(entry -> entry.getKey().getSimpleName().contentEquals("value"))
+                        .map(Map.Entry::getValue)
+                        .map(AnnotationValue::getValue)
+                        .map(String.class::cast)
+                        .findFirst();
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** Returns whether a {@code BearerToken} may be assigned to a parameter of the erased type. */
+    private boolean acceptsBearerToken(TypeMirror erased) {
+        TypeElement bearerToken = elements().getTypeElement(BEARER_TOKEN);
+        if (bearerToken == null) {
+            return erased.getKind() == TypeKind.DECLARED
+                    && ((TypeElement) ((DeclaredType) erased).asElement())
+                            .getQualifiedName()
+                            .contentEquals("java.lang.Object");
+        }
+        return types().isAssignable(bearerToken.asType(), erased);
+    }
+
+    /** Returns the class literal for the erased type, or empty if it cannot be referred to from {@code type}. */
+    private Optional<String> classLiteral(TypeElement type, TypeMirror erased) {
+        if (erased.getKind().isPrimitive()) {
+            return Optional.of(erased.getKind().name().toLowerCase(Locale.ROOT) + ".class");
+        }
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return classLiteral(type, ((ArrayType) erased).getComponentType())
+                    .map(component -> component.substring(0, component.length() - ".class".length()) + "[].class");
+        }
+        if (erased.getKind() == TypeKind.DECLARED) {
+            TypeElement element = (TypeElement) ((DeclaredType) erased).asElement();
+            if (isAccessible(type, element)) {
+                return Optional.of(element.getQualifiedName() + ".class");
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** Returns whether {@code element} may be referred to by a top level class in the package of {@code type}. */
+    private boolean isAccessible(TypeElement type, TypeElement element) {
+        PackageElement pkg = elements().getPackageOf(type);
+        Element current = element;
+        while (current instanceof TypeElement) {
+            TypeElement currentType = (TypeElement) current;
+            NestingKind nesting = currentType.getNestingKind();
+            if (nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            Set<Modifier> modifiers = currentType.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)
+                    || (!modifiers.contains(Modifier.PUBLIC)
+                            && !elements().getPackageOf(currentType).equals(pkg))) {
+                return false;
+            }
+            current = currentType.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private static Optional<TypeElement> enclosingType(Element element) {
+        Element current = element;
+        while (current != null && !(current instanceof TypeElement)) {
+            current = current.getEnclosingElement();
+        }
+        return Optional.ofNullable((TypeElement) current);
+    }
+
+    private Elements elements() {
+        return processingEnv.getElementUtils();
+    }
+
+    private Types types() {
+        return processingEnv.getTypeUtils();
+    }
+}
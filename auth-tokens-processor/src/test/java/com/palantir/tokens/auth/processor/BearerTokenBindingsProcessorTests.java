@@ -0,0 +1,235 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.tokens.auth.AuthHeader;
+import com.palantir.tokens.auth.http.BearerTokenLoggingFeature;
+import com.palantir.tokens.auth.http.GeneratedBearerTokenBindings;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.FeatureContext;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class BearerTokenBindingsProcessorTests {
+
+    private static final String SERVICE = String.join(
+            "\n",
+            "package com.example;",
+            "",
+            "import com.palantir.tokens.auth.AuthHeader;",
+            "import com.palantir.tokens.auth.BearerToken;",
+            "import jakarta.ws.rs.CookieParam;",
+            "import jakarta.ws.rs.GET;",
+            "import jakarta.ws.rs.HeaderParam;",
+            "import jakarta.ws.rs.Path;",
+            "import jakarta.ws.rs.PathParam;",
+            "import jakarta.ws.rs.core.HttpHeaders;",
+            "import java.util.List;",
+            "",
+            "@Path(\"/service\")",
+            "public interface Service {",
+            "    @GET",
+            "    String header(@HeaderParam(HttpHeaders.AUTHORIZATION) AuthHeader authHeader, @PathParam(\"id\") int"
+                    + " id);",
+            "",
+            "    @GET",
+            "    String cookie(@CookieParam(\"TOKEN\\\"\") BearerToken token, List<String>[] values);",
+            "",
+            "    @GET",
+            "    String headers(@HeaderParam(\"authorization\") AuthHeader first, @HeaderParam(\"Authorization\")"
+                    + " String s);",
+            "",
+            "    @GET",
+            "    String objectCookie(@CookieParam(\"OTHER\") Object token);",
+            "",
+            "    @GET",
+            "    String stringCookie(@CookieParam(\"OTHER\") String token);",
+            "",
+            "    @GET",
+            "    String unauthenticated();",
+            "",
+            "    final class Resource implements Service {",
+            "        public String header(AuthHeader authHeader, int id) { return null; }",
+            "        public String cookie(BearerToken token, List<String>[] values) { return null; }",
+            "        public String headers(AuthHeader first, String second) { return null; }",
+            "        public String objectCookie(Object token) { return null; }",
+            "        public String stringCookie(String token) { return null; }",
+            "        public String unauthenticated() { return null; }",
+            "",
+            "        @Path(\"/hidden\")",
+            "        private interface Hidden {",
+            "            @GET",
+            "            String header(@HeaderParam(\"Authorization\") AuthHeader authHeader);",
+            "        }",
+            "    }",
+            "}",
+            "");
+
+    @TempDir
+    Path directory;
+
+    private Path classes;
+
+    @BeforeEach
+    void before() throws IOException {
+        classes = Files.createDirectories(directory.resolve("classes"));
+        Path source = Files.createDirectories(directory.resolve("com/example")).resolve("Service.java");
+        Files.writeString(source, SERVICE, StandardCharsets.UTF_8);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                    null,
+                    fileManager,
+                    diagnostics,
+                    List.of("-classpath", classPath(), "-d", classes.toString()),
+                    null,
+                    fileManager.getJavaFileObjects(source));
+            task.setProcessors(List.of(new BearerTokenBindingsProcessor()));
+            boolean success = task.call();
+            assertThat(success)
+                    .as(diagnostics.getDiagnostics().stream()
+                            .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                            .collect(Collectors.joining("\n")))
+                    .isTrue();
+        }
+        assertThat(diagnostics.getDiagnostics())
+                .filteredOn(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE)
+                .extracting(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                .containsExactly("Not generating bearer token bindings as it is not accessible from its package");
+    }
+
+    @Test
+    void generatesBindingsForResourceTypes() throws Exception {
+        assertThat(Files.readAllLines(classes.resolve("META-INF/services/" + BearerTokenBindingsProcessor.BINDINGS)))
+                .containsExactly("com.example.ServiceBearerTokenBindings");
+
+        try (URLClassLoader loader = loader()) {
+            GeneratedBearerTokenBindings bindings =
+                    (GeneratedBearerTokenBindings) loader.loadClass("com.example.ServiceBearerTokenBindings")
+                            .getConstructor()
+                            .newInstance();
+            List<String> methods = new ArrayList<>();
+            bindings.bind((name, parameterTypes, authorizationHeaders, bearerTokenCookies) -> methods.add(name + " "
+                    + Arrays.stream(parameterTypes).map(Class::getSimpleName).collect(Collectors.toList()) + " "
+                    + authorizationHeaders + " " + Arrays.toString(bearerTokenCookies)));
+
+            assertThat(bindings.type().getName()).isEqualTo("com.example.Service");
+            assertThat(methods)
+                    .containsExactly(
+                            "header [AuthHeader, int] 1 []",
+                            "cookie [BearerToken, List[]] 0 [TOKEN\"]",
+                            "headers [AuthHeader, String] 2 []",
+                            "objectCookie [Object] 0 [OTHER]");
+        }
+    }
+
+    @Test
+    void featureUsesGeneratedBindings() throws Exception {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader loader = loader()) {
+            Thread.currentThread().setContextClassLoader(loader);
+            BearerTokenLoggingFeature feature = new BearerTokenLoggingFeature();
+            Class<?> resourceClass = loader.loadClass("com.example.Service$Resource");
+
+            assertThat(configure(feature, resourceClass.getMethod("header", AuthHeader.class, int.class)))
+                    .isEqualTo(List.of("BearerTokenLoggingFilter"));
+            assertThat(configure(feature, resourceClass.getMethod("unauthenticated")))
+                    .isEqualTo(List.of("BearerTokenClearingFilter"));
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    /** Returns the class path holding the JAX-RS API, auth-tokens and the filter. */
+    private static String classPath() {
+        return Stream.of(AuthHeader.class, GeneratedBearerTokenBindings.class, FeatureContext.class)
+                .map(type -> {
+                    try {
+                        return Paths.get(type.getProtectionDomain()
+                                        .getCodeSource()
+                                        .getLocation()
+                                        .toURI())
+                                .toString();
+                    } catch (URISyntaxException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    private URLClassLoader loader() throws IOException {
+        return new URLClassLoader(
+                new URL[] {classes.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private static List<String> configure(BearerTokenLoggingFeature feature, Method method) {
+        List<String> registered = new ArrayList<>();
+        FeatureContext context = (FeatureContext) Proxy.newProxyInstance(
+                FeatureContext.class.getClassLoader(),
+                new Class<?>[] {FeatureContext.class},
+                (proxy, _method, args) -> {
+                    Object component = args[0];
+                    registered.add(
+                            component instanceof Class
+                                    ? ((Class<?>) component).getSimpleName()
+                                    : component.getClass().getSimpleName());
+                    return proxy;
+                });
+        feature.configure(
+                new ResourceInfo() {
+                    @Override
+                    public Method getResourceMethod() {
+                        return method;
+                    }
+
+                    @Override
+                    public Class<?> getResourceClass() {
+                        return method.getDeclaringClass();
+                    }
+                },
+                context);
+        return registered;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.tokens.auth;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A {@link CharSequence} view over a region of bytes, decoding each byte as a single ISO-8859-1 character.
+ * <p>
+ * Header values and tokens only contain single-byte characters, so this allows them to be validated and parsed where
+ * servers already hold them as bytes, copying them only once a {@link String} is required. Any byte which is not
+ * ASCII decodes to a character which fails validation.
+ */
+final class AsciiCharSequence implements CharSequence {
+
+    private final byte[] array;
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    private AsciiCharSequence(byte[] array, ByteBuffer buffer, int offset, int length) {
+        this.array = array;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /** Returns a view over {@code length} bytes of {@code bytes} starting at {@code offset}. */
+    static AsciiCharSequence of(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return new AsciiCharSequence(bytes, null, offset, length);
+    }
+
+    /**
+     * Returns a view over {@code length} bytes of {@code buffer} starting at the absolute {@code index}, which must lie
+     * within the limit of the buffer. The position of the buffer is neither used nor changed.
+     */
+    static AsciiCharSequence of(ByteBuffer buffer, int index, int length) {
+        Objects.checkFromIndexSize(index, length, buffer.limit());
+        if (buffer.hasArray()) {
+            return new AsciiCharSequence(buffer.array(), null, buffer.arrayOffset() + index, length);
+        }
+        return new AsciiCharSequence(null, buffer, index, length);
+    }
+
+    /** Returns the array holding the bytes of this sequence, or null if they are held by a direct buffer. */
+    byte[] array() {
+        return array;
+    }
+
+    /** Returns the index of the first byte of this sequence within its array or buffer. */
+    int offset() {
+        return offset;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        byte value = array != null ? array[offset + index] : buffer.get(offset + index);
+        return (char) (value & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return new AsciiCharSequence(array, buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        if (array != null) {
+            return new String(array, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        byte[] bytes = new byte[length];
+        buffer.duplicate().position(offset).get(bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -17,6 +17,9 @@
 package com.palantir.tokens.auth;
 
 import com.palantir.logsafe.DoNotLog;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 import org.immutables.value.Value;
 
 /**
@@ -36,12 +39,54 @@ public abstract class AuthHeader {
      * Takes the string form: "Bearer [token]" and creates a new {@link AuthHeader}.
      */
     public static AuthHeader valueOf(String authHeader) {
+        return valueOf(authHeader, 0, authHeader.length());
+    }
+
+    /**
+     * Takes the string form: "Bearer [token]" from the characters of {@code authHeader} between {@code start}
+     * (inclusive) and {@code end} (exclusive) and creates a new {@link AuthHeader}. Only the token is copied.
+     */
+    public static AuthHeader valueOf(CharSequence authHeader, int start, int end) {
         // See https://datatracker.ietf.org/doc/html/rfc7235#section-2.1
-        BearerToken bearerToken = BearerToken.valueOf(
-                authHeader.regionMatches(/* ignoreCase */ true, 0, "Bearer ", 0, 7)
-                        ? authHeader.substring(7)
-                        : authHeader);
-        return ImmutableAuthHeader.of(bearerToken);
+        AuthHeaderClassification classification = AuthHeaderClassification.classify(authHeader, start, end);
+        if (classification.isBearerToken()) {
+            return ImmutableAuthHeader.of(
+                    BearerToken.fromValidCharacters(authHeader, classification.getTokenStart(), end));
+        }
+        // Only the bearer scheme is stripped, so that BearerToken.valueOf rejects anything else as before
+        int tokenStart = classification.getScheme() == AuthHeaderClassification.Scheme.BEARER
+                ? classification.getTokenStart()
+                : start;
+        return ImmutableAuthHeader.of(BearerToken.valueOf(authHeader, tokenStart, end));
+    }
+
+    /**
+     * Takes the string form: "Bearer [token]" from {@code length} ASCII bytes of {@code authHeader} starting at
+     * {@code offset} and creates a new {@link AuthHeader}.
+     */
+    public static AuthHeader valueOf(byte[] authHeader, int offset, int length) {
+        return valueOf(AsciiCharSequence.of(authHeader, offset, length), 0, length);
+    }
+
+    /**
+     * Takes the string form: "Bearer [token]" from {@code length} ASCII bytes of {@code authHeader} starting at the
+     * absolute {@code index} and creates a new {@link AuthHeader}, without changing the position of the buffer.
+     */
+    public static AuthHeader valueOf(ByteBuffer authHeader, int index, int length) {
+        return valueOf(AsciiCharSequence.of(authHeader, index, length), 0, length);
+    }
+
+    /**
+     * Equivalent to {@link #valueOf(String)}, but returns empty rather than throwing if {@code authHeader} does not
+     * hold a valid bearer token, for callers which handle untrusted headers on a best-effort basis.
+     */
+    public static Optional<AuthHeader> tryValueOf(String authHeader) {
+        AuthHeaderClassification classification = AuthHeaderClassification.classify(authHeader);
+        if (!classification.isBearerToken()) {
+            return Optional.empty();
+        }
+        return Optional.of(ImmutableAuthHeader.of(
+                BearerToken.fromValidCharacters(authHeader, classification.getTokenStart(), authHeader.length())));
     }
 
     public static AuthHeader of(BearerToken bearerToken) {
@@ -49,11 +94,44 @@ public abstract class AuthHeader {
     }
 
     /**
-     * Gets the string form: "Bearer [token]".
+     * Gets the header as US-ASCII bytes in the form "Bearer [token]". The returned array is a copy, which may be
+     * modified by the caller.
+     */
+    @DoNotLog
+    public final byte[] toAsciiBytes() {
+        return getEncodedValue().clone();
+    }
+
+    /**
+     * Gets a read-only buffer over the US-ASCII bytes of the header in the form "Bearer [token]", positioned at the
+     * start of the header. The bytes are encoded once, and shared by every buffer returned by this header.
+     */
+    @DoNotLog
+    public final ByteBuffer toAsciiByteBuffer() {
+        return ByteBuffer.wrap(getEncodedValue()).asReadOnlyBuffer();
+    }
+
+    @Value.Lazy
+    @DoNotLog
+    @SuppressWarnings("DesignForExtension")
+    String getValue() {
+        return "Bearer " + getBearerToken().getToken();
+    }
+
+    // Tokens are made up of single byte characters, so the header does not have to be encoded with a CharsetEncoder
+    @Value.Lazy
+    @DoNotLog
+    @SuppressWarnings("DesignForExtension")
+    byte[] getEncodedValue() {
+        return getValue().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Gets the string form: "Bearer [token]", which is computed once.
      */
     @DoNotLog
     @Override
     public final String toString() {
-        return "Bearer " + getBearerToken().getToken();
+        return getValue();
     }
 }
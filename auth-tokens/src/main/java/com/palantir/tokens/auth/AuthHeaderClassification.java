@@ -0,0 +1,231 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Safe;
+import java.util.Objects;
+
+/**
+ * The structure of an HTTP authorization header, determined with a single pass over its characters.
+ * <p>
+ * The classification reports the authentication scheme, the region holding the token or credentials, whether those
+ * characters are valid for a {@link BearerToken}, and the position of the dots separating the segments of a JWT. This
+ * allows filters and parsers to share the result of one scan instead of each rescanning the header.
+ */
+@Safe
+public final class AuthHeaderClassification {
+
+    /** The authentication scheme of a header, matched case-insensitively as required by RFC 7235. */
+    public enum Scheme {
+        /** The header starts with "Bearer ". */
+        BEARER("Bearer "),
+        /** The header starts with "Basic ". */
+        BASIC("Basic "),
+        /** The header has no recognized scheme and consists of the token alone. */
+        NONE("");
+
+        private final String prefix;
+
+        Scheme(String prefix) {
+            this.prefix = prefix;
+        }
+
+        /** Returns the scheme name together with the following space. */
+        public String getPrefix() {
+            return prefix;
+        }
+    }
+
+    /** The kind of token held by a header. */
+    public enum TokenKind {
+        /** A token made up of exactly three dot-separated segments, which may be parsed as a JWT. */
+        JWT,
+        /** Any other token made up of valid characters. */
+        OPAQUE,
+        /** A token which is empty or contains characters not allowed in a {@link BearerToken}. */
+        INVALID;
+    }
+
+    private static final byte INVALID_CHARACTER = 0;
+    private static final byte TOKEN_CHARACTER = 1;
+    private static final byte DOT = 2;
+
+    // The type of each ASCII character, where TOKEN_CHARACTER are those allowed in a BearerToken other than the dot
+    // and the trailing padding
+    private static final byte[] CHARACTER_TYPES = characterTypes();
+
+    private Scheme scheme;
+    private int tokenStart;
+    private int tokenEnd;
+    private int dotCount;
+    private int firstDot;
+    private int secondDot;
+    private boolean validCharacters;
+
+    // Instances are only mutated by scan, which the parser calls on its own thread-local instance. Instances returned
+    // by classify are never modified afterwards.
+    AuthHeaderClassification() {}
+
+    /** Classifies the provided header. */
+    public static AuthHeaderClassification classify(CharSequence authHeader) {
+        return classify(authHeader, 0, authHeader.length());
+    }
+
+    /**
+     * Classifies the header held in the characters of {@code authHeader} between {@code start} (inclusive) and
+     * {@code end} (exclusive).
+     */
+    public static AuthHeaderClassification classify(CharSequence authHeader, int start, int end) {
+        Objects.checkFromToIndex(start, end, authHeader.length());
+        AuthHeaderClassification classification = new AuthHeaderClassification();
+        classification.scan(authHeader, start, end);
+        return classification;
+    }
+
+    /** Returns the authentication scheme of the header. */
+    public Scheme getScheme() {
+        return scheme;
+    }
+
+    /** Returns the kind of token following the scheme. */
+    public TokenKind getTokenKind() {
+        if (!validCharacters) {
+            return TokenKind.INVALID;
+        }
+        return dotCount == 2 ? TokenKind.JWT : TokenKind.OPAQUE;
+    }
+
+    /** Returns the index at which the token, or the credentials of a basic auth header, start. */
+    public int getTokenStart() {
+        return tokenStart;
+    }
+
+    /** Returns the index at which the token ends, exclusive. */
+    public int getTokenEnd() {
+        return tokenEnd;
+    }
+
+    /** Returns the number of dots in the token. */
+    public int getDotCount() {
+        return dotCount;
+    }
+
+    /** Returns the index of the first dot in the token, or -1 if there is none. */
+    public int getFirstDot() {
+        return firstDot;
+    }
+
+    /** Returns the index of the second dot in the token, or -1 if there are fewer than two. */
+    public int getSecondDot() {
+        return secondDot;
+    }
+
+    /** Returns true if the token is non-empty and contains only characters allowed in a {@link BearerToken}. */
+    public boolean hasValidCharacters() {
+        return validCharacters;
+    }
+
+    /**
+     * Returns true if the header holds a valid {@link BearerToken}, i.e. it is not a basic auth header and its token
+     * has valid characters.
+     */
+    public boolean isBearerToken() {
+        return scheme != Scheme.BASIC && validCharacters;
+    }
+
+    void scan(CharSequence authHeader, int start, int end) {
+        this.scheme = scheme(authHeader, start, end);
+        this.tokenStart = start + scheme.prefix.length();
+        this.tokenEnd = end;
+
+        // Dots are tracked in locals rather than fields so that the loop does not write to memory
+        int dots = 0;
+        int first = -1;
+        int second = -1;
+        int index = tokenStart;
+        for (; index < end; index++) {
+            char character = authHeader.charAt(index);
+            byte type = character < CHARACTER_TYPES.length ? CHARACTER_TYPES[character] : INVALID_CHARACTER;
+            if (type != TOKEN_CHARACTER) {
+                if (type != DOT) {
+                    break;
+                }
+                dots++;
+                first = dots == 1 ? index : first;
+                second = dots == 2 ? index : second;
+            }
+        }
+        this.firstDot = first;
+        this.secondDot = second;
+
+        int paddingStart = index;
+        while (index < end && authHeader.charAt(index) == '=') {
+            index++;
+        }
+        this.validCharacters = index == end && paddingStart > tokenStart;
+        this.dotCount = dots + countRemainingDots(authHeader, index, end);
+    }
+
+    /** Counts the dots following the invalid character of a token, so that the segment count can still be reported. */
+    private int countRemainingDots(CharSequence authHeader, int start, int end) {
+        int dots = 0;
+        for (int index = start; index < end; index++) {
+            if (authHeader.charAt(index) == '.') {
+                dots++;
+                firstDot = firstDot < 0 ? index : firstDot;
+                secondDot = secondDot < 0 && firstDot != index ? index : secondDot;
+            }
+        }
+        return dots;
+    }
+
+    private static Scheme scheme(CharSequence authHeader, int start, int end) {
+        if (hasPrefix(authHeader, start, end, Scheme.BEARER.prefix)) {
+            return Scheme.BEARER;
+        }
+        return hasPrefix(authHeader, start, end, Scheme.BASIC.prefix) ? Scheme.BASIC : Scheme.NONE;
+    }
+
+    private static boolean hasPrefix(CharSequence authHeader, int start, int end, String prefix) {
+        int prefixLength = prefix.length();
+        if (end - start < prefixLength) {
+            return false;
+        }
+        for (int index = 0; index < prefixLength; index++) {
+            char actual = authHeader.charAt(start + index);
+            char expected = prefix.charAt(index);
+            if (actual != expected && Character.toLowerCase(actual) != Character.toLowerCase(expected)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthHeaderClassification{scheme=" + scheme + ", tokenKind=" + getTokenKind() + ", tokenStart="
+                + tokenStart + ", tokenEnd=" + tokenEnd + ", dotCount=" + dotCount + "}";
+    }
+
+    private static byte[] characterTypes() {
+        byte[] types = new byte[128];
+        for (char character = 0; character < types.length; character++) {
+            types[character] = BearerTokenValidator.isAllowedCharacter(character) ? TOKEN_CHARACTER : INVALID_CHARACTER;
+        }
+        types['.'] = DOT;
+        return types;
+    }
+}
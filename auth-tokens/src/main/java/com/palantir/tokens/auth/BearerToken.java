@@ -22,8 +22,8 @@ import com.palantir.logsafe.DoNotLog;
 import com.palantir.logsafe.Preconditions;
 import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
-import java.security.MessageDigest;
-import java.util.BitSet;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 import org.immutables.value.Value;
 
 /** Value class representing an authentication bearer token. */
@@ -33,75 +33,53 @@ import org.immutables.value.Value;
 public abstract class BearerToken {
 
     private static final String VALIDATION_PATTERN_STRING = "^[A-Za-z0-9\\-\\._~\\+/]+=*$";
-    private static final BitSet allowedCharacters = new BitSet();
-
-    static {
-        allowedCharacters.set('A', 'Z' + 1);
-        allowedCharacters.set('a', 'z' + 1);
-        allowedCharacters.set('0', '9' + 1);
-        allowedCharacters.set('-');
-        allowedCharacters.set('.');
-        allowedCharacters.set('_');
-        allowedCharacters.set('~');
-        allowedCharacters.set('+');
-        allowedCharacters.set('/');
-    }
 
     @Value.Parameter
     @JsonValue
     @DoNotLog
     public abstract String getToken();
 
-    // We use a hand-written getBytes() implementation for performance reasons.
-    // Note that we don't need to worry about the character set (e.g., UTF-8) because
-    // the set of allowable characters are single bytes.
-    @Value.Derived
-    @DoNotLog
-    @SuppressWarnings("DesignForExtension")
-    byte[] getTokenAsBytes() {
-        String token = getToken();
-        byte[] result = new byte[token.length()];
-        for (int i = 0; i < result.length; i++) {
-            result[i] = (byte) token.charAt(i);
-        }
-        return result;
-    }
-
     @JsonCreator
     public static BearerToken valueOf(String token) {
         Preconditions.checkArgument(token != null, "BearerToken cannot be null");
-        Preconditions.checkArgument(!token.isEmpty(), "BearerToken cannot be empty");
-        if (!isValidBearerToken(token)) {
+        return valueOf(token, 0, token.length());
+    }
+
+    /**
+     * Creates a {@link BearerToken} from the characters of {@code token} between {@code start} (inclusive) and
+     * {@code end} (exclusive), validating them in place before they are copied.
+     */
+    public static BearerToken valueOf(CharSequence token, int start, int end) {
+        Preconditions.checkArgument(token != null, "BearerToken cannot be null");
+        Objects.checkFromToIndex(start, end, token.length());
+        Preconditions.checkArgument(start < end, "BearerToken cannot be empty");
+        if (!BearerTokenValidator.isValid(token, start, end)) {
             throw new SafeIllegalArgumentException(
                     "BearerToken must match pattern", SafeArg.of("validationPattern", VALIDATION_PATTERN_STRING));
         }
-        return ImmutableBearerToken.of(token);
+        return ImmutableBearerToken.of(token.subSequence(start, end).toString());
     }
 
-    // Optimized implementation of the regular expression VALIDATION_PATTERN_STRING
-    private static boolean isValidBearerToken(String token) {
-        int length = token.length();
-        int cursor = 0;
-
-        for (; cursor < length; cursor++) {
-            if (!allowedCharacters.get(token.charAt(cursor))) {
-                break;
-            }
-        }
-
-        // Need at least one valid character
-        if (cursor == 0) {
-            return false;
-        }
+    /**
+     * Creates a {@link BearerToken} from {@code length} ASCII bytes of {@code token} starting at {@code offset}.
+     */
+    public static BearerToken valueOf(byte[] token, int offset, int length) {
+        Preconditions.checkArgument(token != null, "BearerToken cannot be null");
+        return valueOf(AsciiCharSequence.of(token, offset, length), 0, length);
+    }
 
-        // Only trailing '=' is allowed after valid characters
-        for (; cursor < length; cursor++) {
-            if (token.charAt(cursor) != '=') {
-                return false;
-            }
-        }
+    /**
+     * Creates a {@link BearerToken} from {@code length} ASCII bytes of {@code token} starting at the absolute
+     * {@code index}, without changing the position of the buffer.
+     */
+    public static BearerToken valueOf(ByteBuffer token, int index, int length) {
+        Preconditions.checkArgument(token != null, "BearerToken cannot be null");
+        return valueOf(AsciiCharSequence.of(token, index, length), 0, length);
+    }
 
-        return true;
+    /** Creates a token from a region which has already been checked to hold valid characters. */
+    static BearerToken fromValidCharacters(CharSequence token, int start, int end) {
+        return ImmutableBearerToken.of(token.subSequence(start, end).toString());
     }
 
     @Override
@@ -112,8 +90,7 @@ public abstract class BearerToken {
 
     @Override
     public final boolean equals(Object other) {
-        return other instanceof BearerToken
-                && MessageDigest.isEqual(((BearerToken) other).getTokenAsBytes(), getTokenAsBytes());
+        return other instanceof BearerToken && constantTimeEquals(((BearerToken) other).getToken(), getToken());
     }
 
     @Override
@@ -121,4 +98,21 @@ public abstract class BearerToken {
     public final int hashCode() {
         return getToken().hashCode();
     }
+
+    // Equivalent to MessageDigest.isEqual on the bytes of the tokens, which are single byte characters, without holding
+    // a second copy of every token. The time taken depends only on the length of the first token.
+    private static boolean constantTimeEquals(String first, String second) {
+        int firstLength = first.length();
+        int secondLength = second.length();
+        if (secondLength == 0) {
+            return firstLength == 0;
+        }
+        int difference = firstLength ^ secondLength;
+        for (int i = 0; i < firstLength; i++) {
+            // Reads the first character of the second token once past its end, without branching on its length
+            int secondIndex = ((i - secondLength) >>> 31) * i;
+            difference |= first.charAt(i) ^ second.charAt(secondIndex);
+        }
+        return difference == 0;
+    }
 }
@@ -0,0 +1,289 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Preconditions;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * Redacts bearer tokens and JWTs from log lines, exception messages and other text.
+ * <p>
+ * Two shapes of secret are recognized: the credentials following a case-insensitive "Bearer" scheme and one or more
+ * spaces, which must consist of {@link BearerToken} characters, and bare JWTs, which are three dot-separated runs of
+ * base64url characters whose first run starts with "eyJ", the encoding of the opening of a JSON object. Both are
+ * replaced by {@link #REDACTED}.
+ * <p>
+ * Text is scanned once from left to right and only the characters 'B', 'b' and 'e' start a closer look, so the cost
+ * is linear in the length of the text. Text which holds no secrets is neither copied nor allocated for, including
+ * regions of {@code char[]} buffers, which are scanned through a per-thread view rather than wrapped.
+ */
+public final class BearerTokenRedactor {
+
+    /** The replacement for every redacted token. */
+    public static final String REDACTED = "[REDACTED]";
+
+    private static final String SCHEME = "bearer";
+    private static final String JWT_PREFIX = "eyJ";
+    private static final int NO_MATCH = -1;
+
+    // Per-thread views over the char[] regions being scanned, so that scanning an array does not allocate
+    private static final ThreadLocal<CharArrayView> VIEWS = ThreadLocal.withInitial(CharArrayView::new);
+
+    private BearerTokenRedactor() {}
+
+    /** Returns true if {@code input} holds a bearer token or JWT which would be redacted. */
+    public static boolean containsToken(CharSequence input) {
+        Preconditions.checkArgument(input != null, "input cannot be null");
+        return find(input, 0, input.length()) != NO_MATCH;
+    }
+
+    /** Returns {@code input} with every token redacted, or {@code input} itself if it holds no tokens. */
+    public static String redact(String input) {
+        Preconditions.checkArgument(input != null, "input cannot be null");
+        long match = find(input, 0, input.length());
+        if (match == NO_MATCH) {
+            return input;
+        }
+        StringBuilder builder = new StringBuilder(input.length());
+        try {
+            redact(input, match, builder);
+        } catch (IOException e) {
+            // StringBuilder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    /** Appends {@code input} to {@code out} with every token redacted. */
+    public static void redact(CharSequence input, Appendable out) throws IOException {
+        Preconditions.checkArgument(input != null, "input cannot be null");
+        Preconditions.checkArgument(out != null, "out cannot be null");
+        long match = find(input, 0, input.length());
+        if (match == NO_MATCH) {
+            out.append(input);
+            return;
+        }
+        redact(input, match, out);
+    }
+
+    /** Appends {@code length} characters of {@code input} starting at {@code offset} with every token redacted. */
+    public static void redact(char[] input, int offset, int length, Appendable out) throws IOException {
+        Preconditions.checkArgument(input != null, "input cannot be null");
+        Objects.checkFromIndexSize(offset, length, input.length);
+        Preconditions.checkArgument(out != null, "out cannot be null");
+        int end = offset + length;
+        int copied = offset;
+        CharArrayView view = VIEWS.get();
+        try {
+            // The view is reset before every scan, since appending may redact other text on this thread
+            for (long match = find(view.of(input, offset, length), 0, length);
+                    match != NO_MATCH;
+                    match = find(view.of(input, offset, length), copied - offset, length)) {
+                append(input, copied, offset + start(match), out);
+                out.append(REDACTED);
+                copied = offset + end(match);
+            }
+        } finally {
+            view.clear();
+        }
+        append(input, copied, end, out);
+    }
+
+    private static void redact(CharSequence input, long firstMatch, Appendable out) throws IOException {
+        int length = input.length();
+        int copied = 0;
+        for (long match = firstMatch; match != NO_MATCH; match = find(input, copied, length)) {
+            out.append(input, copied, start(match)).append(REDACTED);
+            copied = end(match);
+        }
+        out.append(input, copied, length);
+    }
+
+    /** Appends the characters of {@code input} from {@code start} to {@code end} to {@code out} without allocating. */
+    private static void append(char[] input, int start, int end, Appendable out) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(input, start, end - start);
+        } else if (out instanceof Writer) {
+            ((Writer) out).write(input, start, end - start);
+        } else {
+            for (int index = start; index < end; index++) {
+                out.append(input[index]);
+            }
+        }
+    }
+
+    /**
+     * Returns the start and end of the first token between {@code from} and {@code end}, packed by {@link #match}, or
+     * {@link #NO_MATCH} if there is none.
+     */
+    private static long find(CharSequence input, int from, int end) {
+        int index = from;
+        while (index < end) {
+            char character = input.charAt(index);
+            if ((character | 0x20) == 'b' && !continuesToken(input, from, index)) {
+                int tokenStart = credentialsStart(input, index, end);
+                int tokenEnd = tokenStart < 0 ? tokenStart : bearerTokenEnd(input, tokenStart, end);
+                if (tokenEnd > tokenStart) {
+                    return match(tokenStart, tokenEnd);
+                }
+            } else if (character == 'e'
+                    && !continuesToken(input, from, index)
+                    && startsWithJwtPrefix(input, index, end)) {
+                int jwtEnd = jsonWebTokenEnd(input, index, end);
+                if (jwtEnd > 0) {
+                    return match(index, jwtEnd);
+                }
+                // No JWT can start within the run of characters which was just scanned
+                index = -jwtEnd;
+                continue;
+            }
+            index++;
+        }
+        return NO_MATCH;
+    }
+
+    /** Returns true if the character preceding {@code index} could be part of the same token. */
+    private static boolean continuesToken(CharSequence input, int from, int index) {
+        return index > from && BearerTokenValidator.isAllowedCharacter(input.charAt(index - 1));
+    }
+
+    /**
+     * Returns the index following the spaces after a case-insensitive "Bearer" scheme at {@code index}, or -1 if
+     * there is no scheme followed by at least one space.
+     */
+    private static int credentialsStart(CharSequence input, int index, int end) {
+        if (index + SCHEME.length() >= end) {
+            return -1;
+        }
+        for (int i = 1; i < SCHEME.length(); i++) {
+            if ((input.charAt(index + i) | 0x20) != SCHEME.charAt(i)) {
+                return -1;
+            }
+        }
+        int cursor = index + SCHEME.length();
+        if (input.charAt(cursor) != ' ') {
+            return -1;
+        }
+        while (cursor < end && input.charAt(cursor) == ' ') {
+            cursor++;
+        }
+        return cursor;
+    }
+
+    /** Returns the end of the token characters and trailing padding starting at {@code start}. */
+    private static int bearerTokenEnd(CharSequence input, int start, int end) {
+        int cursor = start;
+        while (cursor < end && BearerTokenValidator.isAllowedCharacter(input.charAt(cursor))) {
+            cursor++;
+        }
+        if (cursor == start) {
+            return start;
+        }
+        while (cursor < end && input.charAt(cursor) == '=') {
+            cursor++;
+        }
+        return cursor;
+    }
+
+    private static boolean startsWithJwtPrefix(CharSequence input, int index, int end) {
+        return index + JWT_PREFIX.length() <= end
+                && input.charAt(index + 1) == JWT_PREFIX.charAt(1)
+                && input.charAt(index + 2) == JWT_PREFIX.charAt(2);
+    }
+
+    /**
+     * Returns the end of the JWT starting at {@code start}, or the negated index of the first character which was not
+     * consumed if the characters do not form a JWT.
+     */
+    private static int jsonWebTokenEnd(CharSequence input, int start, int end) {
+        int cursor = start;
+        for (int segment = 0; segment < 3; segment++) {
+            int segmentStart = cursor;
+            while (cursor < end && isBase64UrlCharacter(input.charAt(cursor))) {
+                cursor++;
+            }
+            if (segment < 2) {
+                if (cursor == segmentStart || cursor == end || input.charAt(cursor) != '.') {
+                    return -Math.max(cursor, start + 1);
+                }
+                cursor++;
+            }
+        }
+        return cursor;
+    }
+
+    private static boolean isBase64UrlCharacter(char character) {
+        return (character >= 'a' && character <= 'z')
+                || (character >= 'A' && character <= 'Z')
+                || (character >= '0' && character <= '9')
+                || character == '-'
+                || character == '_';
+    }
+
+    private static long match(int start, int end) {
+        return ((long) start << 32) | end;
+    }
+
+    private static int start(long match) {
+        return (int) (match >>> 32);
+    }
+
+    private static int end(long match) {
+        return (int) match;
+    }
+
+    /** A reusable view over a region of a {@code char[]}, read by index only. */
+    private static final class CharArrayView implements CharSequence {
+        private char[] array;
+        private int offset;
+        private int length;
+
+        CharArrayView of(char[] newArray, int newOffset, int newLength) {
+            this.array = newArray;
+            this.offset = newOffset;
+            this.length = newLength;
+            return this;
+        }
+
+        /** Drops the reference to the last array scanned, so that it is not retained by the thread. */
+        void clear() {
+            array = null;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return array[offset + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(array, offset, length);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Validates {@link BearerToken} characters, equivalent to matching the pattern {@code ^[A-Za-z0-9\-\._~\+/]+=*$}.
+ * <p>
+ * Tokens held as bytes are checked eight at a time by treating each group of eight bytes as a {@code long} and
+ * testing every byte against the allowed ranges with a handful of arithmetic operations (SWAR, SIMD within a
+ * register). Other character sequences are checked four characters at a time against a lookup table, only branching
+ * once per group.
+ */
+final class BearerTokenValidator {
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LOW_BITS = ~HIGH_BITS;
+
+    // For each ASCII character, zero if the character may appear in a token other than as trailing padding
+    private static final byte[] DISALLOWED = disallowed();
+
+    private BearerTokenValidator() {}
+
+    /** Returns true if the character may appear in a token, other than as trailing padding. */
+    static boolean isAllowedCharacter(char character) {
+        return character < DISALLOWED.length && DISALLOWED[character] == 0;
+    }
+
+    /** Returns true if the characters of {@code token} between {@code start} and {@code end} form a valid token. */
+    static boolean isValid(CharSequence token, int start, int end) {
+        int cursor = token instanceof AsciiCharSequence && ((AsciiCharSequence) token).array() != null
+                ? skipAllowedBytes((AsciiCharSequence) token, start, end)
+                : skipAllowedCharacters(token, start, end);
+
+        // Need at least one valid character
+        if (cursor == start) {
+            return false;
+        }
+
+        // Only trailing '=' is allowed after valid characters
+        for (; cursor < end; cursor++) {
+            if (token.charAt(cursor) != '=') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns the index of the first character which is not allowed, or {@code end} if there is none. */
+    private static int skipAllowedCharacters(CharSequence token, int start, int end) {
+        int cursor = start;
+        while (cursor + 4 <= end) {
+            char first = token.charAt(cursor);
+            char second = token.charAt(cursor + 1);
+            char third = token.charAt(cursor + 2);
+            char fourth = token.charAt(cursor + 3);
+            int disallowed = (first | second | third | fourth) >>> 7
+                    | DISALLOWED[first & 0x7F]
+                    | DISALLOWED[second & 0x7F]
+                    | DISALLOWED[third & 0x7F]
+                    | DISALLOWED[fourth & 0x7F];
+            if (disallowed != 0) {
+                break;
+            }
+            cursor += 4;
+        }
+        while (cursor < end && isAllowedCharacter(token.charAt(cursor))) {
+            cursor++;
+        }
+        return cursor;
+    }
+
+    /** As {@link #skipAllowedCharacters}, reading eight bytes at a time from the array backing the sequence. */
+    private static int skipAllowedBytes(AsciiCharSequence token, int start, int end) {
+        byte[] array = token.array();
+        int offset = token.offset();
+        int index = offset + start;
+        int limit = offset + end;
+        while (index + Long.BYTES <= limit && allAllowed((long) LONGS.get(array, index))) {
+            index += Long.BYTES;
+        }
+        while (index < limit && isAllowedCharacter((char) (array[index] & 0xFF))) {
+            index++;
+        }
+        return index - offset;
+    }
+
+    /** Returns true if every byte of the word is an allowed character. */
+    private static boolean allAllowed(long word) {
+        // The range checks below only hold for bytes which are ASCII
+        if ((word & HIGH_BITS) != 0) {
+            return false;
+        }
+        long allowed = inRange(word, '-', '9')
+                | inRange(word, 'A', 'Z')
+                | inRange(word, 'a', 'z')
+                | equalTo(word, '+')
+                | equalTo(word, '_')
+                | equalTo(word, '~');
+        return allowed == HIGH_BITS;
+    }
+
+    /** Sets the high bit of each ASCII byte of the word which lies between {@code low} and {@code high} inclusive. */
+    private static long inRange(long word, char low, char high) {
+        long atLeastLow = word + (0x80 - low) * ONES;
+        long aboveHigh = word + (0x7F - high) * ONES;
+        return atLeastLow & ~aboveHigh & HIGH_BITS;
+    }
+
+    /** Sets the high bit of each ASCII byte of the word which is equal to {@code value}. */
+    private static long equalTo(long word, char value) {
+        long difference = word ^ (value * ONES);
+        return ~(((difference & LOW_BITS) + LOW_BITS) | difference) & HIGH_BITS;
+    }
+
+    private static byte[] disallowed() {
+        byte[] disallowed = new byte[128];
+        for (char character = 0; character < disallowed.length; character++) {
+            boolean allowed = (character >= 'A' && character <= 'Z')
+                    || (character >= 'a' && character <= 'z')
+                    || (character >= '0' && character <= '9')
+                    || "-._~+/".indexOf(character) >= 0;
+            disallowed[character] = (byte) (allowed ? 0 : 1);
+        }
+        return disallowed;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free map from 128-bit fingerprints to values.
+ * <p>
+ * The table is set-associative: a fingerprint maps to a set of {@link #WAYS} slots, and inserting into a full set
+ * evicts an entry chosen by the CLOCK (second chance) approximation of LRU. Lookups never write shared state unless an
+ * entry's reference bit has to be set, and concurrent inserts into the same slot simply race, which at worst loses
+ * one of the inserted entries.
+ */
+final class FingerprintTable<V> {
+
+    static final int WAYS = 4;
+
+    private final AtomicReferenceArray<Entry<V>> entries;
+    private final int setMask;
+
+    /** Creates a table holding at most {@code maximumSize} entries, rounded down to a power of two. */
+    FingerprintTable(int maximumSize) {
+        Preconditions.checkArgument(
+                maximumSize >= WAYS,
+                "maximumSize must be at least the table associativity",
+                SafeArg.of("maximumSize", maximumSize),
+                SafeArg.of("ways", WAYS));
+        int sets = Integer.highestOneBit(maximumSize / WAYS);
+        this.entries = new AtomicReferenceArray<>(sets * WAYS);
+        this.setMask = sets - 1;
+    }
+
+    /** Returns the value stored for the given fingerprint, or null if it is not present. */
+    V get(long high, long low) {
+        int base = setIndex(high, low);
+        for (int way = 0; way < WAYS; way++) {
+            Entry<V> entry = entries.get(base + way);
+            if (entry != null && entry.high == high && entry.low == low) {
+                if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+                return entry.value;
+            }
+        }
+        return null;
+    }
+
+    /** Stores the value for the given fingerprint, replacing any existing value or evicting another entry. */
+    void put(long high, long low, V value) {
+        int base = setIndex(high, low);
+        entries.set(base + victim(base, high, low), new Entry<>(high, low, value));
+    }
+
+    /** Removes the entry for the given fingerprint, if present. */
+    void remove(long high, long low) {
+        int base = setIndex(high, low);
+        for (int way = 0; way < WAYS; way++) {
+            Entry<V> entry = entries.get(base + way);
+            if (entry != null && entry.high == high && entry.low == low) {
+                entries.compareAndSet(base + way, entry, null);
+            }
+        }
+    }
+
+    /** Returns the number of entries which may be held by this table. */
+    int capacity() {
+        return entries.length();
+    }
+
+    /** Returns the number of entries currently held by this table, computed by scanning every slot. */
+    int size() {
+        int size = 0;
+        for (int i = 0; i < entries.length(); i++) {
+            if (entries.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private int victim(int base, long high, long low) {
+        int empty = -1;
+        for (int way = 0; way < WAYS; way++) {
+            Entry<V> entry = entries.get(base + way);
+            if (entry == null) {
+                empty = empty < 0 ? way : empty;
+            } else if (entry.high == high && entry.low == low) {
+                return way;
+            }
+        }
+        if (empty >= 0) {
+            return empty;
+        }
+        // Second chance: clear reference bits until an entry which has not been read since the last sweep is found.
+        // The sweep starts at a position derived from the fingerprint so that eviction is spread across the set.
+        int start = (int) low & (WAYS - 1);
+        for (int step = 0; step < WAYS; step++) {
+            int way = (start + step) & (WAYS - 1);
+            Entry<V> entry = entries.get(base + way);
+            if (entry == null || !entry.referenced) {
+                return way;
+            }
+            entry.referenced = false;
+        }
+        return start;
+    }
+
+    private int setIndex(long high, long low) {
+        long mixed = high ^ low;
+        return ((int) (mixed ^ (mixed >>> 32)) & setMask) * WAYS;
+    }
+
+    private static final class Entry<V> {
+        private final long high;
+        private final long low;
+        private final V value;
+
+        // Written without synchronization; a lost update only affects the eviction order.
+        private boolean referenced;
+
+        Entry(long high, long low, V value) {
+            this.high = high;
+            this.low = low;
+            this.value = value;
+        }
+    }
+}
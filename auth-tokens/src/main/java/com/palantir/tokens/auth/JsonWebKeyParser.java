@@ -0,0 +1,217 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Parses public keys from a JWK set, a single JWK, or a bundle of PEM encoded "PUBLIC KEY" blocks.
+ * <p>
+ * JWKs of type "EC" on the P-256 curve, "RSA" and "OKP" on the Ed25519 or Ed448 curves are supported; other keys, such
+ * as those meant for encryption, are skipped. PEM blocks are identified by a line of the form {@code kid: <id>} in the
+ * explanatory text preceding them, and have no key id otherwise.
+ */
+final class JsonWebKeyParser {
+
+    private static final SafeLogger log = SafeLoggerFactory.get(JsonWebKeyParser.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String PEM_BEGIN = "-----BEGIN PUBLIC KEY-----";
+    private static final String PEM_END = "-----END PUBLIC KEY-----";
+    private static final String PEM_KEY_ID = "kid:";
+
+    // DER prefixes of the SubjectPublicKeyInfo of Ed25519 and Ed448 keys, which are followed by the encoded point
+    private static final byte[] ED25519_PREFIX = {0x30, 0x2a, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x03, 0x21, 0x00
+    };
+    private static final byte[] ED448_PREFIX = {0x30, 0x43, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x71, 0x03, 0x3a, 0x00};
+
+    /** A parsed key, together with its key id. */
+    static final class ParsedKey {
+        private final Optional<String> keyId;
+        private final PublicKey key;
+
+        ParsedKey(Optional<String> keyId, PublicKey key) {
+            this.keyId = keyId;
+            this.key = key;
+        }
+
+        Optional<String> keyId() {
+            return keyId;
+        }
+
+        PublicKey key() {
+            return key;
+        }
+    }
+
+    private JsonWebKeyParser() {}
+
+    /** Parses the keys held by the given JWKS or PEM bundle, throwing if the content is malformed. */
+    static List<ParsedKey> parse(String content) {
+        String trimmed = content.trim();
+        return trimmed.startsWith("{") ? parseJwks(trimmed) : parsePem(trimmed);
+    }
+
+    private static List<ParsedKey> parseJwks(String content) {
+        JsonNode node;
+        try {
+            node = MAPPER.readTree(content);
+        } catch (IOException e) {
+            throw new SafeIllegalArgumentException("Invalid JWKS: cannot parse JSON", e);
+        }
+        JsonNode keys =
+                node.has("keys") ? node.get("keys") : MAPPER.createArrayNode().add(node);
+        if (!keys.isArray()) {
+            throw new SafeIllegalArgumentException("Invalid JWKS: keys must be an array");
+        }
+        List<ParsedKey> result = new ArrayList<>(keys.size());
+        for (JsonNode jwk : keys) {
+            Optional<String> keyId = Optional.ofNullable(jwk.path("kid").textValue());
+            Optional<PublicKey> key = parseJwk(jwk);
+            if (key.isPresent()) {
+                result.add(new ParsedKey(keyId, key.get()));
+            } else {
+                log.debug(
+                        "Skipping unsupported JWK",
+                        SafeArg.of("kty", jwk.path("kty").asText()),
+                        SafeArg.of("crv", jwk.path("crv").asText()));
+            }
+        }
+        return result;
+    }
+
+    private static Optional<PublicKey> parseJwk(JsonNode jwk) {
+        String use = jwk.path("use").asText("sig");
+        if (!use.equals("sig")) {
+            return Optional.empty();
+        }
+        try {
+            switch (jwk.path("kty").asText()) {
+                case "EC":
+                    return "P-256".equals(jwk.path("crv").asText()) ? Optional.of(ecKey(jwk)) : Optional.empty();
+                case "RSA":
+                    KeyFactory rsa = KeyFactory.getInstance("RSA");
+                    return Optional.of(rsa.generatePublic(new RSAPublicKeySpec(integer(jwk, "n"), integer(jwk, "e"))));
+                case "OKP":
+                    return okpKey(jwk);
+                default:
+                    return Optional.empty();
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new SafeIllegalArgumentException(
+                    "Invalid JWKS: cannot decode key",
+                    e,
+                    SafeArg.of("kty", jwk.path("kty").asText()));
+        }
+    }
+
+    private static PublicKey ecKey(JsonNode jwk) throws GeneralSecurityException {
+        ECPoint point = new ECPoint(integer(jwk, "x"), integer(jwk, "y"));
+        return KeyFactory.getInstance("EC")
+                .generatePublic(new ECPublicKeySpec(point, JsonWebSignatureAlgorithm.p256Parameters()));
+    }
+
+    private static Optional<PublicKey> okpKey(JsonNode jwk) throws GeneralSecurityException {
+        String curve = jwk.path("crv").asText();
+        byte[] prefix;
+        if (curve.equals("Ed25519")) {
+            prefix = ED25519_PREFIX;
+        } else if (curve.equals("Ed448")) {
+            prefix = ED448_PREFIX;
+        } else {
+            return Optional.empty();
+        }
+        byte[] point = bytes(jwk, "x");
+        byte[] encoded = new byte[prefix.length + point.length];
+        System.arraycopy(prefix, 0, encoded, 0, prefix.length);
+        System.arraycopy(point, 0, encoded, prefix.length, point.length);
+        return Optional.of(KeyFactory.getInstance(curve).generatePublic(new X509EncodedKeySpec(encoded)));
+    }
+
+    private static BigInteger integer(JsonNode jwk, String member) {
+        return new BigInteger(1, bytes(jwk, member));
+    }
+
+    private static byte[] bytes(JsonNode jwk, String member) {
+        JsonNode value = jwk.path(member);
+        if (!value.isTextual()) {
+            throw new SafeIllegalArgumentException("Invalid JWKS: missing key member", SafeArg.of("member", member));
+        }
+        return Base64.getUrlDecoder().decode(value.textValue());
+    }
+
+    private static List<ParsedKey> parsePem(String content) {
+        List<ParsedKey> result = new ArrayList<>();
+        Optional<String> keyId = Optional.empty();
+        StringBuilder block = null;
+        for (String line : content.split("\\R")) {
+            String trimmed = line.trim();
+            if (block != null) {
+                if (trimmed.equals(PEM_END)) {
+                    result.add(new ParsedKey(keyId, pemKey(block.toString())));
+                    keyId = Optional.empty();
+                    block = null;
+                } else {
+                    block.append(trimmed);
+                }
+            } else if (trimmed.equals(PEM_BEGIN)) {
+                block = new StringBuilder();
+            } else if (trimmed.startsWith(PEM_KEY_ID)) {
+                keyId = Optional.of(trimmed.substring(PEM_KEY_ID.length()).trim());
+            }
+        }
+        // A key id with no block following it, like an unterminated block, means the file was truncated
+        if (block != null || keyId.isPresent() || result.isEmpty()) {
+            throw new SafeIllegalArgumentException("Invalid PEM bundle: expected complete PUBLIC KEY blocks");
+        }
+        return result;
+    }
+
+    private static PublicKey pemKey(String base64) {
+        X509EncodedKeySpec spec;
+        try {
+            spec = new X509EncodedKeySpec(Base64.getDecoder().decode(base64));
+        } catch (IllegalArgumentException e) {
+            throw new SafeIllegalArgumentException("Invalid PEM bundle: cannot decode base64", e);
+        }
+        for (String algorithm : new String[] {"EC", "RSA", "EdDSA"}) {
+            try {
+                return KeyFactory.getInstance(algorithm).generatePublic(spec);
+            } catch (GeneralSecurityException e) {
+                // try the next algorithm
+            }
+        }
+        throw new SafeIllegalArgumentException("Invalid PEM bundle: unsupported public key");
+    }
+}
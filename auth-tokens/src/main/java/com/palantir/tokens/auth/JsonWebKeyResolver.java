@@ -0,0 +1,52 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import java.security.PublicKey;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolves the public key which verifies a JWT, from the "kid" header of the token.
+ * <p>
+ * Resolvers are called for every verified token and must be thread-safe. Implementations are encouraged to return
+ * pre-allocated {@link Optional} instances, and should return the same key instance until the key is replaced:
+ * {@link VerifiedJsonWebTokenCache} only returns a cached token while its key resolves to the instance which verified
+ * it.
+ */
+@FunctionalInterface
+public interface JsonWebKeyResolver {
+
+    /**
+     * Returns the key identified by {@code keyId}, which is empty if the token has no "kid" header, or empty if no such
+     * key is known.
+     */
+    Optional<PublicKey> getKey(Optional<String> keyId);
+
+    /** Returns a resolver which verifies every token with the given key, regardless of its "kid" header. */
+    static JsonWebKeyResolver of(PublicKey key) {
+        Optional<PublicKey> resolved = Optional.of(key);
+        return _keyId -> resolved;
+    }
+
+    /** Returns a resolver which looks up keys by their "kid" header, and does not resolve tokens without one. */
+    static JsonWebKeyResolver of(Map<String, ? extends PublicKey> keys) {
+        Map<String, Optional<PublicKey>> resolved = new HashMap<>();
+        keys.forEach((keyId, key) -> resolved.put(keyId, Optional.of(key)));
+        return keyId -> keyId.isPresent() ? resolved.getOrDefault(keyId.get(), Optional.empty()) : Optional.empty();
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.UnsafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.PublicKey;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link JsonWebKeyResolver} holding the keys of a JWKS or PEM bundle file, indexed by their key id.
+ * <p>
+ * The keys are held in an immutable snapshot which is replaced as a whole whenever the file is reloaded, so that
+ * resolving a key is a single volatile read followed by a hash lookup and never takes a lock. Stores created with
+ * {@link #watch} check the file whenever a {@link WatchService} reports a change in its directory, or in the directory
+ * of the file it links to, and reload it if its resolved path or its contents have changed. This covers files which
+ * are replaced by swapping a symbolic link, as Kubernetes does for mounted ConfigMaps and Secrets, and allows keys to
+ * be rotated without a restart. The watcher waits for the directory to be quiet before reading the file, so that a
+ * file which is still being written is not loaded.
+ * <p>
+ * A file which cannot be read, which cannot be parsed completely, or which holds no supported keys leaves the previous
+ * keys in place. Reloads are serialized, so that keys read earlier never replace keys read later.
+ * <p>
+ * Tokens without a "kid" header are only resolved when the file holds exactly one key. See {@link JsonWebKeyParser}
+ * for the supported formats.
+ */
+public final class JsonWebKeyStore implements JsonWebKeyResolver, Closeable {
+
+    private static final SafeLogger log = SafeLoggerFactory.get(JsonWebKeyStore.class);
+    private static final long QUIET_PERIOD_MILLIS = 200;
+
+    private final Path path;
+    private volatile Snapshot snapshot;
+
+    // Guarded by this
+    private WatchService watchService;
+    private WatchKey directoryKey;
+    private WatchKey targetKey;
+    private Path targetDirectory;
+
+    private JsonWebKeyStore(Path path) {
+        this.path = path.toAbsolutePath();
+        this.snapshot = Snapshot.read(this.path);
+    }
+
+    /** Loads the keys held by the file at {@code path}, throwing if it cannot be read or parsed. */
+    public static JsonWebKeyStore load(Path path) {
+        Preconditions.checkArgument(path != null, "path cannot be null");
+        return new JsonWebKeyStore(path);
+    }
+
+    /**
+     * Loads the keys held by the file at {@code path} as {@link #load} does, and reloads them from a daemon thread
+     * whenever the file changes, until the store is closed.
+     */
+    public static JsonWebKeyStore watch(Path path) {
+        JsonWebKeyStore store = load(path);
+        store.startWatching();
+        return store;
+    }
+
+    @Override
+    public Optional<PublicKey> getKey(Optional<String> keyId) {
+        Snapshot current = snapshot;
+        return keyId.isPresent() ? current.keys.getOrDefault(keyId.get(), Optional.empty()) : current.singleKey;
+    }
+
+    /** Returns the number of keys currently held by the store. */
+    public int size() {
+        return snapshot.size;
+    }
+
+    /**
+     * Reads the file again and replaces the keys held by the store if it has changed, returning false and keeping the
+     * previous keys if the file cannot be read or parsed, or holds no supported keys.
+     */
+    public synchronized boolean reload() {
+        try {
+            Snapshot current = snapshot;
+            Snapshot updated = Snapshot.read(path);
+            if (!updated.isSameFile(current)) {
+                snapshot = updated;
+                watchTarget(updated.realPath);
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload JSON web keys, keeping the previous keys", UnsafeArg.of("path", path), e);
+            return false;
+        }
+    }
+
+    /** Stops watching the file for changes. The keys held by the store remain available. */
+    @Override
+    public void close() throws IOException {
+        WatchService service;
+        synchronized (this) {
+            service = watchService;
+            watchService = null;
+            directoryKey = null;
+            targetKey = null;
+            targetDirectory = null;
+        }
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    private synchronized void startWatching() {
+        try {
+            watchService = path.getFileSystem().newWatchService();
+            directoryKey = register(path.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        watchTarget(snapshot.realPath);
+        WatchService service = watchService;
+        Thread thread = new Thread(() -> watchLoop(service), "json-web-key-store-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Also watches the directory holding the file the path resolves to, if it differs from that of the path. */
+    private synchronized void watchTarget(Path realPath) {
+        Path directory = realPath.getParent();
+        if (watchService == null || directory.equals(targetDirectory)) {
+            return;
+        }
+        if (targetKey != null) {
+            targetKey.cancel();
+        }
+        targetKey = null;
+        targetDirectory = directory;
+        if (!directory.equals(path.getParent())) {
+            try {
+                targetKey = register(directory);
+            } catch (IOException e) {
+                log.warn("Cannot watch the directory of the resolved JSON web key file", UnsafeArg.of("path", path), e);
+            }
+        }
+    }
+
+    private WatchKey register(Path directory) throws IOException {
+        return directory.register(
+                watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE,
+                StandardWatchEventKinds.OVERFLOW);
+    }
+
+    private void watchLoop(WatchService service) {
+        try {
+            while (true) {
+                boolean watching = drain(service.take());
+                // Writers may still be updating the file, so wait until the directories are quiet before reading it
+                for (WatchKey key = service.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+                        key != null;
+                        key = service.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) {
+                    watching &= drain(key);
+                }
+                reload();
+                if (!watching) {
+                    log.warn("Stopped watching JSON web keys, directory is no longer accessible");
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // the store was closed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Discards the events of the key, since any change may have replaced the file or a link to it, and returns false if
+     * the directory of the path can no longer be watched.
+     */
+    private boolean drain(WatchKey key) {
+        key.pollEvents();
+        boolean valid = key.reset();
+        synchronized (this) {
+            return valid || key != directoryKey;
+        }
+    }
+
+    /** An immutable index of the keys held by the file at the time it was read. */
+    private static final class Snapshot {
+        private final Path realPath;
+        private final String content;
+        private final Map<String, Optional<PublicKey>> keys;
+        private final Optional<PublicKey> singleKey;
+        private final int size;
+
+        private Snapshot(
+                Path realPath,
+                String content,
+                Map<String, Optional<PublicKey>> keys,
+                Optional<PublicKey> singleKey,
+                int size) {
+            this.realPath = realPath;
+            this.content = content;
+            this.keys = keys;
+            this.singleKey = singleKey;
+            this.size = size;
+        }
+
+        /** Reads and parses the file at {@code path}, throwing if it cannot be read or parsed, or holds no keys. */
+        static Snapshot read(Path path) {
+            Path realPath;
+            String content;
+            try {
+                realPath = path.toRealPath();
+                content = Files.readString(realPath, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new SafeIllegalArgumentException("Cannot read JSON web keys", e, UnsafeArg.of("path", path));
+            }
+            List<JsonWebKeyParser.ParsedKey> parsed = JsonWebKeyParser.parse(content);
+            if (parsed.isEmpty()) {
+                throw new SafeIllegalArgumentException(
+                        "JSON web key file holds no supported keys", UnsafeArg.of("path", path));
+            }
+            return of(realPath, content, parsed);
+        }
+
+        /** Returns true if this snapshot was read from the same file with the same contents as {@code other}. */
+        boolean isSameFile(Snapshot other) {
+            return realPath.equals(other.realPath) && content.equals(other.content);
+        }
+
+        private static Snapshot of(Path realPath, String content, List<JsonWebKeyParser.ParsedKey> parsed) {
+            Map<String, Optional<PublicKey>> keys = new HashMap<>();
+            for (JsonWebKeyParser.ParsedKey key : parsed) {
+                key.keyId().ifPresent(keyId -> {
+                    Optional<PublicKey> previous = keys.putIfAbsent(keyId, Optional.of(key.key()));
+                    Preconditions.checkArgument(
+                            previous == null, "Duplicate JSON web key id", SafeArg.of("keyId", keyId));
+                });
+            }
+            Optional<PublicKey> singleKey =
+                    parsed.size() == 1 ? Optional.of(parsed.get(0).key()) : Optional.empty();
+            return new Snapshot(realPath, content, keys, singleKey, parsed.size());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Safe;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.util.Optional;
+
+/** The JWS algorithms, as named by the "alg" header of a JWT, which {@link JsonWebTokenVerifier} supports. */
+@Safe
+public enum JsonWebSignatureAlgorithm {
+    /** ECDSA using the P-256 curve and SHA-256. */
+    ES256("ES256", "SHA256withECDSAinP1363Format"),
+
+    /** RSASSA-PKCS1-v1_5 using SHA-256, with keys of at least 2048 bits. */
+    RS256("RS256", "SHA256withRSA"),
+
+    /** EdDSA using the Ed25519 or Ed448 curve. */
+    EDDSA("EdDSA", "EdDSA");
+
+    private static final ECParameterSpec P256 = p256();
+    private static final int MINIMUM_RSA_KEY_SIZE = 2048;
+
+    private final String name;
+    private final String signatureAlgorithm;
+
+    JsonWebSignatureAlgorithm(String name, String signatureAlgorithm) {
+        this.name = name;
+        this.signatureAlgorithm = signatureAlgorithm;
+    }
+
+    /** Returns the name of the algorithm used by the "alg" header. */
+    public String getName() {
+        return name;
+    }
+
+    /** Returns the algorithm with the given "alg" header name, or empty if it is not supported. */
+    public static Optional<JsonWebSignatureAlgorithm> fromName(String name) {
+        for (JsonWebSignatureAlgorithm algorithm : values()) {
+            if (algorithm.name.equals(name)) {
+                return Optional.of(algorithm);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** Returns the name of the {@link java.security.Signature} algorithm which verifies this algorithm. */
+    String signatureAlgorithm() {
+        return signatureAlgorithm;
+    }
+
+    /**
+     * Returns true if signatures of this algorithm may be verified with the given key. Checking the type of the key
+     * prevents a token from choosing an algorithm which its issuer's key was not meant for.
+     */
+    boolean supportsKey(PublicKey key) {
+        switch (this) {
+            case ES256:
+                return key instanceof ECPublicKey && isP256(((ECPublicKey) key).getParams());
+            case RS256:
+                return key instanceof RSAPublicKey
+                        && ((RSAPublicKey) key).getModulus().bitLength() >= MINIMUM_RSA_KEY_SIZE;
+            case EDDSA:
+                return key instanceof EdECPublicKey;
+        }
+        return false;
+    }
+
+    /** Returns the domain parameters of the P-256 curve, also known as secp256r1. */
+    static ECParameterSpec p256Parameters() {
+        return P256;
+    }
+
+    // Other curves over 256-bit fields, such as secp256k1 or brainpoolP256r1, must not be accepted for ES256
+    private static boolean isP256(ECParameterSpec params) {
+        return params != null
+                && P256.getCurve().equals(params.getCurve())
+                && P256.getGenerator().equals(params.getGenerator())
+                && P256.getOrder().equals(params.getOrder())
+                && P256.getCofactor() == params.getCofactor();
+    }
+
+    private static ECParameterSpec p256() {
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec("secp256r1"));
+            return parameters.getParameterSpec(ECParameterSpec.class);
+        } catch (GeneralSecurityException e) {
+            throw new SafeIllegalStateException("The P-256 curve is not supported by this JVM", e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A typed JWT claim, declared once and compiled into a {@link JsonWebTokenClaimExtractor} together with the other
+ * claims of interest. Claim names are considered safe to log.
+ * <p>
+ * Claims are matched against the raw key of the payload, so a key spelled using JSON escape sequences does not match.
+ *
+ * @param <T> the type of the extracted value
+ */
+public final class JsonWebTokenClaim<T> {
+
+    enum Type {
+        STRING,
+        STRING_LIST,
+        NUMBER,
+        BOOLEAN,
+        UUID,
+        SCOPES
+    }
+
+    private final String name;
+    private final Type type;
+
+    private JsonWebTokenClaim(String name, Type type) {
+        Preconditions.checkArgument(name != null && !name.isEmpty(), "Claim name must be non-empty");
+        this.name = name;
+        this.type = type;
+    }
+
+    /** Declares a claim holding a string, such as "iss". */
+    public static JsonWebTokenClaim<String> string(String name) {
+        return new JsonWebTokenClaim<>(name, Type.STRING);
+    }
+
+    /**
+     * Declares a claim holding either a single string or an array of strings, such as "aud". A single string is
+     * extracted as a list with one element.
+     */
+    public static JsonWebTokenClaim<List<String>> stringList(String name) {
+        return new JsonWebTokenClaim<>(name, Type.STRING_LIST);
+    }
+
+    /**
+     * Declares a claim holding a number of at most 18 integer digits, such as the "exp" numeric date. Fractions are
+     * truncated, and numbers with exponents are treated as absent.
+     */
+    public static JsonWebTokenClaim<Long> number(String name) {
+        return new JsonWebTokenClaim<>(name, Type.NUMBER);
+    }
+
+    /** Declares a claim holding true or false. */
+    public static JsonWebTokenClaim<Boolean> bool(String name) {
+        return new JsonWebTokenClaim<>(name, Type.BOOLEAN);
+    }
+
+    /**
+     * Declares a claim holding a base64 encoded 16 byte UUID, the format Palantir uses for the "sub", "sid", "jti" and
+     * "org" claims. Unlike values of other types, a string which is not a valid encoding of 16 bytes causes the whole
+     * token to be rejected, as it would be by {@link UnverifiedJsonWebToken}.
+     */
+    public static JsonWebTokenClaim<UUID> uuid(String name) {
+        return new JsonWebTokenClaim<>(name, Type.UUID);
+    }
+
+    /**
+     * Declares a claim holding OAuth scopes, such as "scope" or "scp", as either a space-separated string or an array
+     * of strings. Only scopes which have been interned through {@link JsonWebTokenScope#of} are recorded.
+     */
+    public static JsonWebTokenClaim<JsonWebTokenScopes> scopes(String name) {
+        return new JsonWebTokenClaim<>(name, Type.SCOPES);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    Type type() {
+        return type;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || (other instanceof JsonWebTokenClaim
+                        && name.equals(((JsonWebTokenClaim<?>) other).name)
+                        && type == ((JsonWebTokenClaim<?>) other).type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, type);
+    }
+
+    @Override
+    public String toString() {
+        return "JsonWebTokenClaim{name=" + name + ", type=" + type + "}";
+    }
+
+    SafeArg<String> nameArg() {
+        return SafeArg.of("claim", name);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Preconditions;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Extracts a fixed set of typed claims from the payload of a JWT, for claims beyond those exposed by
+ * {@link UnverifiedJsonWebToken}.
+ * <p>
+ * The claims are compiled into a table of their UTF-8 encoded names indexed by length, so that the payload is scanned
+ * once and every key is matched without allocating; unknown claims are skipped without being decoded, and objects are
+ * only created for the declared claims.
+ * <p>
+ * Claims extracted from a raw header with {@link #extract(CharSequence)} have not been verified and, as for
+ * {@link UnverifiedJsonWebToken}, must not be used for authorization or other security-sensitive decisions. Claims
+ * meant for such decisions, such as {@link JsonWebTokenClaim#scopes scopes}, must be extracted while the token is
+ * verified, with {@link JsonWebTokenVerifier#tryVerifyClaims} or {@link VerifiedJsonWebTokenCache#tryVerifyClaims}.
+ * <p>
+ * Extractors are immutable and thread-safe, and are intended to be compiled once and shared.
+ */
+public final class JsonWebTokenClaimExtractor {
+
+    private final List<JsonWebTokenClaim<?>> claims;
+    private final byte[][] names;
+    private final int[][] indicesByLength;
+
+    private JsonWebTokenClaimExtractor(List<JsonWebTokenClaim<?>> claims) {
+        this.claims = claims;
+        this.names = new byte[claims.size()][];
+        int maxLength = 0;
+        for (int i = 0; i < names.length; i++) {
+            names[i] = claims.get(i).getName().getBytes(StandardCharsets.UTF_8);
+            maxLength = Math.max(maxLength, names[i].length);
+        }
+        this.indicesByLength = new int[maxLength + 1][0];
+        for (int i = 0; i < names.length; i++) {
+            int[] indices = indicesByLength[names[i].length];
+            indices = Arrays.copyOf(indices, indices.length + 1);
+            indices[indices.length - 1] = i;
+            indicesByLength[names[i].length] = indices;
+        }
+    }
+
+    /** Compiles an extractor for the given claims, whose names must be distinct. */
+    public static JsonWebTokenClaimExtractor compile(JsonWebTokenClaim<?>... claims) {
+        return compile(Arrays.asList(claims));
+    }
+
+    /** Compiles an extractor for the given claims, whose names must be distinct. */
+    public static JsonWebTokenClaimExtractor compile(Collection<? extends JsonWebTokenClaim<?>> claims) {
+        Preconditions.checkArgument(claims != null, "claims cannot be null");
+        List<JsonWebTokenClaim<?>> copy = new ArrayList<>(claims);
+        Set<String> seen = new HashSet<>();
+        for (JsonWebTokenClaim<?> claim : copy) {
+            Preconditions.checkArgument(claim != null, "claims cannot contain null");
+            Preconditions.checkArgument(seen.add(claim.getName()), "Claims must have distinct names", claim.nameArg());
+        }
+        return new JsonWebTokenClaimExtractor(List.copyOf(copy));
+    }
+
+    /**
+     * Extracts the declared claims of the token held by {@code rawAuthHeader}, which may omit the bearer scheme.
+     * Returns empty if the header does not hold a JWT whose payload is a valid JSON object.
+     * <p>
+     * The signature of the token is not verified, so the claims must not be used for authorization.
+     */
+    public Optional<JsonWebTokenClaims> extract(CharSequence rawAuthHeader) {
+        return extractClaims(rawAuthHeader, false);
+    }
+
+    /** Returns the claims extracted by this extractor, in the order they were declared. */
+    public List<JsonWebTokenClaim<?>> getClaims() {
+        return claims;
+    }
+
+    /**
+     * Extracts the declared claims of the token held by {@code rawAuthHeader}, marking them as {@code verified} if the
+     * caller has just verified its signature.
+     */
+    Optional<JsonWebTokenClaims> extractClaims(CharSequence rawAuthHeader, boolean verified) {
+        if (rawAuthHeader == null) {
+            return Optional.empty();
+        }
+        Object[] values = new Object[names.length];
+        if (JsonWebTokenParser.get().extract(rawAuthHeader, 0, rawAuthHeader.length(), this, values) != null) {
+            return Optional.empty();
+        }
+        return Optional.of(new JsonWebTokenClaims(this, values, verified));
+    }
+
+    /** Returns the index of the claim named by the given bytes, or -1 if it is not declared. */
+    int indexOf(byte[] bytes, int start, int end) {
+        int length = end - start;
+        if (length >= indicesByLength.length) {
+            return -1;
+        }
+        for (int index : indicesByLength[length]) {
+            if (Arrays.equals(names[index], 0, length, bytes, start, end)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /** Returns the index of the given claim, or -1 if it is not declared. */
+    int indexOf(JsonWebTokenClaim<?> claim) {
+        return claims.indexOf(claim);
+    }
+
+    JsonWebTokenClaim.Type type(int index) {
+        return claims.get(index).type();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Preconditions;
+import java.util.Optional;
+
+/**
+ * The claims extracted from a JWT by a {@link JsonWebTokenClaimExtractor}.
+ * <p>
+ * Only claims for which {@link #isVerified()} is true were read from a token whose signature has been verified, and
+ * only those may be used for authorization decisions, such as checking the scopes of the token.
+ */
+public final class JsonWebTokenClaims {
+
+    private final JsonWebTokenClaimExtractor extractor;
+    private final Object[] values;
+    private final boolean verified;
+
+    JsonWebTokenClaims(JsonWebTokenClaimExtractor extractor, Object[] values, boolean verified) {
+        this.extractor = extractor;
+        this.values = values;
+        this.verified = verified;
+    }
+
+    /**
+     * Returns true if the claims were extracted by {@link JsonWebTokenVerifier#tryVerifyClaims} or
+     * {@link VerifiedJsonWebTokenCache#tryVerifyClaims} from a token whose signature was verified, and false if they
+     * were extracted from a token whose signature has not been verified.
+     */
+    public boolean isVerified() {
+        return verified;
+    }
+
+    /**
+     * Returns the value of the given claim, or empty if the token does not hold the claim or its value does not have
+     * the declared type. The claim must have been declared by the extractor which produced these claims.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> get(JsonWebTokenClaim<T> claim) {
+        int index = extractor.indexOf(claim);
+        Preconditions.checkArgument(index >= 0, "Claim was not declared by the extractor", claim.nameArg());
+        return Optional.ofNullable((T) values[index]);
+    }
+}
@@ -0,0 +1,1008 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Allocation-free parser for the claims exposed by {@link UnverifiedJsonWebToken}.
+ * <p>
+ * Segment boundaries are located by index, the payload is base64url-decoded into a scratch buffer which is reused
+ * across calls, and a minimal JSON scanner extracts the "sub", "sid", "jti" and "org" claims and the "exp", "nbf" and
+ * "iat" numeric dates without materializing any other field. Claims are decoded straight into their most and least
+ * significant bits, and numeric dates into seconds since the epoch. Alternatively, the claims declared by a
+ * {@link JsonWebTokenClaimExtractor} are extracted in the same single pass, in which case only those claims are read.
+ * <p>
+ * Malformed tokens never cause an exception to be thrown: the first failure is recorded and the cursor moved to the
+ * end of the payload, so that the remaining steps finish immediately and {@link #parse} can report the failure.
+ * <p>
+ * Instances are not thread-safe and are expected to be obtained through {@link #get()}.
+ */
+final class JsonWebTokenParser {
+
+    static final int SUB = 0;
+    static final int SID = 1;
+    static final int JTI = 2;
+    static final int ORG = 3;
+    static final int EXP = 4;
+    static final int NBF = 5;
+    static final int IAT = 6;
+
+    // The number of UUID claims, which precede the numeric date claims
+    private static final int CLAIM_COUNT = 4;
+    private static final int UUID_CLAIMS = (1 << CLAIM_COUNT) - 1;
+    private static final int MAX_NUMERIC_DATE_DIGITS = 18;
+    private static final int END_OF_STRING = -2;
+
+    // The characters which may follow a backslash in a JSON string, and the characters they represent
+    private static final String SIMPLE_ESCAPES = "\"\\/bfnrt";
+    private static final String SIMPLE_ESCAPED_CHARACTERS = "\"\\/\b\f\n\r\t";
+
+    // Decoded payloads larger than this are decoded into a throw-away buffer so that a single
+    // oversized token does not pin a large array to the thread for its lifetime.
+    private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+
+    private static final byte[] BASE64_URL = base64Table("-_");
+    private static final byte[] BASE64 = base64Table("+/");
+
+    private static final ThreadLocal<JsonWebTokenParser> PARSER = ThreadLocal.withInitial(JsonWebTokenParser::new);
+
+    private final AuthHeaderClassification classification = new AuthHeaderClassification();
+    private final long[] mostSignificantBits = new long[CLAIM_COUNT];
+    private final long[] leastSignificantBits = new long[CLAIM_COUNT];
+    private final long[] numericDates = new long[IAT - EXP + 1];
+    private int presentClaims;
+    private int uuidLength;
+    private UnverifiedJsonWebTokenParseFailure failure;
+    private boolean numericDatesOnly;
+    private JsonWebTokenClaimExtractor extractor;
+    private Object[] extractedValues;
+    private long decodedHigh;
+    private long decodedLow;
+    private long integer;
+
+    private byte[] buffer = new byte[256];
+    private byte[] payload = buffer;
+    private int limit;
+    private int position;
+
+    private JsonWebTokenParser() {}
+
+    /** Returns the parser bound to the current thread. */
+    static JsonWebTokenParser get() {
+        return PARSER.get();
+    }
+
+    /**
+     * Parses the JWT held in the characters of {@code token} between {@code start} (inclusive) and {@code end}
+     * (exclusive), making the "sub", "sid", "jti" and "org" claims available through {@link #hasClaim},
+     * {@link #mostSignificantBits} and {@link #leastSignificantBits}. Returns null if the token was parsed
+     * successfully, or the reason it could not be parsed otherwise.
+     */
+    UnverifiedJsonWebTokenParseFailure parse(CharSequence token, int start, int end) {
+        int firstDot = indexOfDot(token, start, end);
+        int secondDot = firstDot < 0 ? -1 : indexOfDot(token, firstDot + 1, end);
+        if (secondDot < 0 || indexOfDot(token, secondDot + 1, end) >= 0) {
+            return UnverifiedJsonWebTokenParseFailure.INVALID_SEGMENT_COUNT;
+        }
+        return parse(token, start, firstDot, secondDot, end);
+    }
+
+    /** Equivalent to {@link #parse(CharSequence, int, int)} for a token whose dots have already been located. */
+    UnverifiedJsonWebTokenParseFailure parse(CharSequence token, int start, int firstDot, int secondDot, int end) {
+        UnverifiedJsonWebTokenParseFailure result = parsePayload(token, firstDot, secondDot);
+        if (result != null) {
+            return result;
+        }
+        return hasClaim(SUB) ? null : UnverifiedJsonWebTokenParseFailure.MISSING_SUBJECT;
+    }
+
+    /**
+     * Parses only the "exp", "nbf" and "iat" claims of the JWT held by the given auth header, which may or may not
+     * start with the bearer scheme. Every other claim is skipped without being decoded, and the token does not need
+     * to hold a "sub" claim.
+     */
+    UnverifiedJsonWebTokenParseFailure parseNumericDates(CharSequence rawAuthHeader, int start, int end) {
+        numericDatesOnly = true;
+        try {
+            return parseAuthHeader(rawAuthHeader, start, end);
+        } finally {
+            numericDatesOnly = false;
+        }
+    }
+
+    /**
+     * Extracts the claims declared by {@code schema} from the JWT held by the given auth header, which may or may not
+     * start with the bearer scheme, storing the value of each claim at its index in {@code values}. Claims which are
+     * absent, or whose value does not have the declared type, are left null. Every other claim is skipped without
+     * being decoded.
+     */
+    UnverifiedJsonWebTokenParseFailure extract(
+            CharSequence rawAuthHeader, int start, int end, JsonWebTokenClaimExtractor schema, Object[] values) {
+        extractor = schema;
+        extractedValues = values;
+        try {
+            return parseAuthHeader(rawAuthHeader, start, end);
+        } finally {
+            extractor = null;
+            extractedValues = null;
+        }
+    }
+
+    private UnverifiedJsonWebTokenParseFailure parseAuthHeader(CharSequence rawAuthHeader, int start, int end) {
+        AuthHeaderClassification scanned = classify(rawAuthHeader, start, end);
+        if (scanned.getDotCount() != 2) {
+            return UnverifiedJsonWebTokenParseFailure.INVALID_SEGMENT_COUNT;
+        }
+        if (!scanned.isBearerToken()) {
+            return UnverifiedJsonWebTokenParseFailure.INVALID_BEARER_TOKEN;
+        }
+        return parsePayload(rawAuthHeader, scanned.getFirstDot(), scanned.getSecondDot());
+    }
+
+    private UnverifiedJsonWebTokenParseFailure parsePayload(CharSequence token, int firstDot, int secondDot) {
+        byte[] decoded = decodePayload(token, firstDot + 1, secondDot);
+        if (decoded == null) {
+            return UnverifiedJsonWebTokenParseFailure.INVALID_BASE64;
+        }
+
+        payload = decoded;
+        presentClaims = 0;
+        failure = null;
+        try {
+            parseClaims();
+        } finally {
+            payload = buffer;
+        }
+        return failure;
+    }
+
+    /** Classifies the given header using an instance owned by this parser, which is overwritten by the next call. */
+    AuthHeaderClassification classify(CharSequence authHeader, int start, int end) {
+        classification.scan(authHeader, start, end);
+        return classification;
+    }
+
+    /**
+     * Returns the number of bytes decoded for the claim which caused the last call to {@link #parse} to fail with
+     * {@link UnverifiedJsonWebTokenParseFailure#INVALID_UUID_LENGTH}.
+     */
+    int uuidLength() {
+        return uuidLength;
+    }
+
+    boolean hasClaim(int claim) {
+        return (presentClaims & (1 << claim)) != 0;
+    }
+
+    /** Returns a bit mask with bit {@code 1 << claim} set for every UUID claim present in the last parsed token. */
+    int presentClaims() {
+        return presentClaims & UUID_CLAIMS;
+    }
+
+    /**
+     * Returns the given numeric date claim in whole seconds since the epoch, or zero if it is not present. Fractional
+     * seconds are truncated.
+     */
+    long numericDate(int claim) {
+        return hasClaim(claim) ? numericDates[claim - EXP] : 0L;
+    }
+
+    /** Returns the most significant bits of the given claim, or zero if it is not present. */
+    long mostSignificantBits(int claim) {
+        return hasClaim(claim) ? mostSignificantBits[claim] : 0L;
+    }
+
+    /** Returns the least significant bits of the given claim, or zero if it is not present. */
+    long leastSignificantBits(int claim) {
+        return hasClaim(claim) ? leastSignificantBits[claim] : 0L;
+    }
+
+    /**
+     * Decodes the base64url payload between the given indices, returning the array holding the decoded bytes or null
+     * if the payload is not valid base64url.
+     */
+    private byte[] decodePayload(CharSequence token, int start, int end) {
+        int size = decodedLength(token, start, end);
+        if (size < 0) {
+            return null;
+        }
+        byte[] target = scratchBuffer(size);
+        int written = decodeBase64Url(token, start, end, target);
+        if (written < 0) {
+            return null;
+        }
+        limit = written;
+        position = 0;
+        return target;
+    }
+
+    /**
+     * Returns the number of bytes encoded by the base64url characters between the given indices, ignoring trailing
+     * padding, or -1 if no valid encoding has that many characters.
+     */
+    static int decodedLength(CharSequence token, int start, int end) {
+        int characters = withoutPadding(token, start, end) - start;
+        if (characters % 4 == 1) {
+            return -1;
+        }
+        return characters / 4 * 3 + Math.max(0, characters % 4 - 1);
+    }
+
+    /**
+     * Decodes the base64url characters between the given indices into {@code target}, which must hold at least
+     * {@link #decodedLength} bytes. Returns the number of bytes written, or -1 if the characters are not valid
+     * base64url.
+     */
+    static int decodeBase64Url(CharSequence token, int start, int end, byte[] target) {
+        int length = withoutPadding(token, start, end);
+        int characters = length - start;
+        if (characters % 4 == 1) {
+            return -1;
+        }
+
+        int written = 0;
+        int index = start;
+        for (int blockEnd = start + characters / 4 * 4; index < blockEnd; index += 4) {
+            int block = decodeBlock(
+                    token.charAt(index), token.charAt(index + 1), token.charAt(index + 2), token.charAt(index + 3));
+            if (block < 0) {
+                return -1;
+            }
+            target[written] = (byte) (block >> 16);
+            target[written + 1] = (byte) (block >> 8);
+            target[written + 2] = (byte) block;
+            written += 3;
+        }
+        if (index < length) {
+            // two or three trailing characters encode one or two bytes
+            boolean twoBytes = index + 2 < length;
+            int block = decodeBlock(
+                    token.charAt(index), token.charAt(index + 1), twoBytes ? token.charAt(index + 2) : 'A', 'A');
+            if (block < 0) {
+                return -1;
+            }
+            target[written++] = (byte) (block >> 16);
+            if (twoBytes) {
+                target[written++] = (byte) (block >> 8);
+            }
+        }
+        return written;
+    }
+
+    private static int withoutPadding(CharSequence token, int start, int end) {
+        int length = end;
+        while (length > start && token.charAt(length - 1) == '=') {
+            length--;
+        }
+        return length;
+    }
+
+    private byte[] scratchBuffer(int size) {
+        if (buffer.length >= size) {
+            return buffer;
+        }
+        byte[] result = new byte[size];
+        if (size <= MAX_RETAINED_BUFFER_SIZE) {
+            buffer = result;
+        }
+        return result;
+    }
+
+    private void parseClaims() {
+        skipWhitespace();
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            return;
+        }
+        while (failure == null) {
+            int claim = readKey();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            readValue(claim);
+            skipWhitespace();
+            byte next = next();
+            if (next == '}') {
+                return;
+            } else if (next != ',') {
+                fail(UnverifiedJsonWebTokenParseFailure.INVALID_JSON);
+            }
+            skipWhitespace();
+        }
+    }
+
+    private void readValue(int claim) {
+        if (extractor != null) {
+            readExtractedClaim(claim);
+        } else if (claim < 0 || (numericDatesOnly && claim < EXP)) {
+            skipValue();
+        } else if (claim >= EXP) {
+            readNumericDate(claim);
+        } else {
+            readClaim(claim);
+        }
+    }
+
+    /**
+     * Reads an object key, returning the claim it names or -1 if the key is not of interest. When extracting a claim
+     * schema the claim is the index of the key within the schema.
+     */
+    private int readKey() {
+        expect('"');
+        int start = position;
+        int end = skipStringContents();
+        if (extractor != null) {
+            return extractor.indexOf(payload, start, end);
+        }
+        return end - start == 3 ? fixedClaim(payload, start) : -1;
+    }
+
+    private static int fixedClaim(byte[] bytes, int start) {
+        switch ((bytes[start] << 16) | (bytes[start + 1] << 8) | bytes[start + 2]) {
+            case ('s' << 16) | ('u' << 8) | 'b':
+                return SUB;
+            case ('s' << 16) | ('i' << 8) | 'd':
+                return SID;
+            case ('j' << 16) | ('t' << 8) | 'i':
+                return JTI;
+            case ('o' << 16) | ('r' << 8) | 'g':
+                return ORG;
+            case ('e' << 16) | ('x' << 8) | 'p':
+                return EXP;
+            case ('n' << 16) | ('b' << 8) | 'f':
+                return NBF;
+            case ('i' << 16) | ('a' << 8) | 't':
+                return IAT;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Decodes a claim holding a base64 encoded 16 byte UUID. Palantir stores UUIDs in this format to optimize on
+     * shorter JWTs. A JSON null value clears the claim.
+     */
+    private void readClaim(int claim) {
+        if (peek() == 'n') {
+            expectLiteral("null");
+            presentClaims &= ~(1 << claim);
+            return;
+        }
+        expect('"');
+
+        if (readUuid()) {
+            mostSignificantBits[claim] = decodedHigh;
+            leastSignificantBits[claim] = decodedLow;
+            presentClaims |= 1 << claim;
+        }
+    }
+
+    /** Reads the value of the claim at the given index of the schema being extracted. */
+    private void readExtractedClaim(int index) {
+        if (index < 0) {
+            skipValue();
+            return;
+        }
+        Object value;
+        JsonWebTokenClaim.Type type = extractor.type(index);
+        switch (type) {
+            case STRING:
+                value = readString();
+                break;
+            case STRING_LIST:
+                value = readStringList();
+                break;
+            case NUMBER:
+                value = readInteger() ? Long.valueOf(integer) : null;
+                break;
+            case BOOLEAN:
+                value = readBoolean();
+                break;
+            case UUID:
+                value = readUuidValue();
+                break;
+            case SCOPES:
+                value = readScopes();
+                break;
+            default:
+                throw new SafeIllegalStateException("Unknown claim type", SafeArg.of("type", type));
+        }
+        extractedValues[index] = value;
+    }
+
+    /**
+     * Reads a numeric date claim. Values which are not plain decimal numbers of at most 18 integer digits, including
+     * strings and numbers with exponents, are skipped and leave the claim absent, as other unknown values would be.
+     */
+    private void readNumericDate(int claim) {
+        presentClaims &= ~(1 << claim);
+        if (readInteger()) {
+            numericDates[claim - EXP] = integer;
+            presentClaims |= 1 << claim;
+        }
+    }
+
+    /**
+     * Reads a plain decimal number of at most 18 integer digits into {@link #integer}, truncating any fraction, and
+     * returns true. Any other value is skipped and false returned.
+     */
+    private boolean readInteger() {
+        int start = position;
+        byte first = peek();
+        if (first != '-' && !isDigit(first)) {
+            skipValue();
+            return false;
+        }
+        skipScalar();
+        if (failure != null) {
+            return false;
+        }
+
+        boolean negative = first == '-';
+        int digitsStart = negative ? start + 1 : start;
+        int digitsEnd = integerDigitsEnd(digitsStart);
+        if (digitsEnd > digitsStart && isFractionOrEnd(digitsEnd)) {
+            long value = 0;
+            for (int i = digitsStart; i < digitsEnd; i++) {
+                value = value * 10 + (payload[i] - '0');
+            }
+            integer = negative ? -value : value;
+            return true;
+        }
+        return false;
+    }
+
+    /** Reads a string, or skips any other value and returns null. */
+    private String readString() {
+        if (peek() != '"') {
+            skipValue();
+            return null;
+        }
+        position++;
+        int start = position;
+        int end = skipStringContents();
+        return decodeString(start, end);
+    }
+
+    /** Decodes the contents of the string between the given indices, or returns null if parsing has failed. */
+    private String decodeString(int start, int end) {
+        if (failure != null) {
+            return null;
+        }
+        if (hasEscape(start, end)) {
+            return unescape(start, end);
+        }
+        return new String(payload, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private boolean hasEscape(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (payload[i] == '\\') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Decodes the contents of a string which holds escape sequences. */
+    private String unescape(int start, int end) {
+        StringBuilder builder = new StringBuilder(end - start);
+        int segmentStart = start;
+        int index = start;
+        while (index < end) {
+            if (payload[index] != '\\') {
+                index++;
+            } else {
+                builder.append(new String(payload, segmentStart, index - segmentStart, StandardCharsets.UTF_8));
+                index = appendEscape(builder, index + 1, end);
+                if (index < 0) {
+                    fail(UnverifiedJsonWebTokenParseFailure.INVALID_JSON);
+                    return null;
+                }
+                segmentStart = index;
+            }
+        }
+        builder.append(new String(payload, segmentStart, end - segmentStart, StandardCharsets.UTF_8));
+        return builder.toString();
+    }
+
+    /**
+     * Appends the character represented by the escape sequence following a backslash at {@code index}, returning the
+     * index following the sequence or -1 if it is not a valid escape sequence.
+     */
+    private int appendEscape(StringBuilder builder, int index, int end) {
+        int simple = SIMPLE_ESCAPES.indexOf(payload[index]);
+        if (simple >= 0) {
+            builder.append(SIMPLE_ESCAPED_CHARACTERS.charAt(simple));
+            return index + 1;
+        }
+        if (payload[index] != 'u' || index + 5 > end) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = index + 1; i < index + 5; i++) {
+            int digit = Character.digit(payload[i], 16);
+            if (digit < 0) {
+                return -1;
+            }
+            value = (value << 4) | digit;
+        }
+        builder.append((char) value);
+        return index + 5;
+    }
+
+    /**
+     * Reads a string or an array of strings, as used by the "aud" claim, or skips any other value and returns null.
+     * An array holding anything other than strings is skipped as a whole.
+     */
+    private List<String> readStringList() {
+        byte first = peek();
+        if (first == '"') {
+            String value = readString();
+            return value == null ? null : List.of(value);
+        }
+        if (first != '[') {
+            skipValue();
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        boolean read = readStringArray((start, end) -> values.add(decodeString(start, end)));
+        return read && failure == null ? List.copyOf(values) : null;
+    }
+
+    /**
+     * Reads the scopes of a space-separated string or an array of strings, setting the bit of every scope which has
+     * been interned. Any other value is skipped and null returned.
+     */
+    private JsonWebTokenScopes readScopes() {
+        ScopeDictionary dictionary = ScopeDictionary.current();
+        long[] words = new long[dictionary.wordCount()];
+        byte first = peek();
+        boolean read;
+        if (first == '"') {
+            position++;
+            int start = position;
+            addScopes(dictionary, words, start, skipStringContents());
+            read = true;
+        } else if (first == '[') {
+            read = readStringArray((start, end) -> addScopes(dictionary, words, start, end));
+        } else {
+            skipValue();
+            read = false;
+        }
+        return read && failure == null ? new JsonWebTokenScopes(words) : null;
+    }
+
+    /** Sets the bits of the space-separated scopes held by the contents of the string between the given indices. */
+    private void addScopes(ScopeDictionary dictionary, long[] words, int start, int end) {
+        if (failure != null) {
+            return;
+        }
+        byte[] bytes = payload;
+        int from = start;
+        int to = end;
+        if (hasEscape(start, end)) {
+            String decoded = unescape(start, end);
+            if (decoded == null) {
+                return;
+            }
+            bytes = decoded.getBytes(StandardCharsets.UTF_8);
+            from = 0;
+            to = bytes.length;
+        }
+        int scopeStart = from;
+        for (int i = from; i <= to; i++) {
+            if (i == to || bytes[i] == ' ') {
+                addScope(dictionary, words, bytes, scopeStart, i);
+                scopeStart = i + 1;
+            }
+        }
+    }
+
+    private static void addScope(ScopeDictionary dictionary, long[] words, byte[] bytes, int start, int end) {
+        int index = start < end ? dictionary.indexOf(bytes, start, end) : -1;
+        if (index >= 0) {
+            words[index / Long.SIZE] |= 1L << index;
+        }
+    }
+
+    /**
+     * Reads an array whose opening bracket is the current byte, passing the bounds of the contents of each string it
+     * holds to {@code consumer}. Returns false, having skipped the whole array, if it holds anything other than
+     * strings.
+     */
+    private boolean readStringArray(StringConsumer consumer) {
+        int start = position++;
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            return true;
+        }
+        while (failure == null) {
+            skipWhitespace();
+            if (peek() != '"') {
+                skipArrayFrom(start);
+                return false;
+            }
+            position++;
+            int stringStart = position;
+            consumer.accept(stringStart, skipStringContents());
+            skipWhitespace();
+            byte next = next();
+            if (next == ']') {
+                return true;
+            } else if (next != ',') {
+                fail(UnverifiedJsonWebTokenParseFailure.INVALID_JSON);
+            }
+        }
+        return false;
+    }
+
+    private void skipArrayFrom(int start) {
+        if (failure == null) {
+            position = start;
+            skipContainer();
+        }
+    }
+
+    /** Reads a true or false literal, or skips any other value and returns null. */
+    private Boolean readBoolean() {
+        byte first = peek();
+        if (first == 't') {
+            expectLiteral("true");
+            return Boolean.TRUE;
+        } else if (first == 'f') {
+            expectLiteral("false");
+            return Boolean.FALSE;
+        }
+        skipValue();
+        return null;
+    }
+
+    /** Reads a string holding a base64 encoded 16 byte UUID, or skips any other value and returns null. */
+    private UUID readUuidValue() {
+        if (peek() != '"') {
+            skipValue();
+            return null;
+        }
+        position++;
+        return readUuid() ? new UUID(decodedHigh, decodedLow) : null;
+    }
+
+    /** Returns the end of the run of at most 18 digits starting at the given index of the number being read. */
+    private int integerDigitsEnd(int start) {
+        int maxEnd = Math.min(position, start + MAX_NUMERIC_DATE_DIGITS);
+        int index = start;
+        while (index < maxEnd && isDigit(payload[index])) {
+            index++;
+        }
+        return index;
+    }
+
+    /** Returns true if the number being read ends at the given index or continues with only fractional digits. */
+    private boolean isFractionOrEnd(int index) {
+        if (index == position) {
+            return true;
+        }
+        if (payload[index] != '.' || index + 1 == position) {
+            return false;
+        }
+        for (int i = index + 1; i < position; i++) {
+            if (!isDigit(payload[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the remainder of a base64 string holding a 16 byte UUID into {@link #decodedHigh} and
+     * {@link #decodedLow}, returning true if it was decoded or failing with
+     * {@link UnverifiedJsonWebTokenParseFailure#INVALID_UUID_LENGTH} if it decodes to any other number of bytes.
+     */
+    private boolean readUuid() {
+        int byteCount = decodeBase64String();
+        if (failure != null) {
+            return false;
+        }
+        if (byteCount != 16) {
+            uuidLength = byteCount;
+            fail(UnverifiedJsonWebTokenParseFailure.INVALID_UUID_LENGTH);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the remainder of a base64 string into {@link #decodedHigh} and {@link #decodedLow}, returning the number
+     * of decoded bytes. Only the last 16 decoded bytes are retained.
+     */
+    private int decodeBase64String() {
+        long high = 0;
+        long low = 0;
+        int bits = 0;
+        int bitCount = 0;
+        int byteCount = 0;
+        int sextets = 0;
+        int padding = 0;
+        for (int value = nextStringCharacter(); value != END_OF_STRING; value = nextStringCharacter()) {
+            if (value == '=') {
+                padding++;
+                continue;
+            }
+            int sextet = padding > 0 ? -1 : sextet(BASE64, value);
+            if (sextet < 0) {
+                fail(UnverifiedJsonWebTokenParseFailure.INVALID_BASE64);
+                return 0;
+            }
+            sextets++;
+            bits = (bits << 6) | sextet;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                high = (high << 8) | (low >>> 56);
+                low = (low << 8) | ((bits >> bitCount) & 0xFF);
+                byteCount++;
+            }
+        }
+
+        if (sextets % 4 == 1 || (padding > 0 && (sextets + padding) % 4 != 0)) {
+            fail(UnverifiedJsonWebTokenParseFailure.INVALID_BASE64);
+        }
+        decodedHigh = high;
+        decodedLow = low;
+        return byteCount;
+    }
+
+    /**
+     * Returns the next, unescaped, character of a string or {@link #END_OF_STRING} once the closing quote has been
+     * consumed or the payload has been exhausted.
+     */
+    private int nextStringCharacter() {
+        if (position >= limit) {
+            fail(UnverifiedJsonWebTokenParseFailure.INVALID_JSON);
+            return END_OF_STRING;
+        }
+        byte value = payload[position++];
+        if (value == '"') {
+            return END_OF_STRING;
+        }
+        return value == '\\' ? readEscape() : value;
+    }
+
+    /** Reads the character following a backslash inside a string and returns the character it represents. */
+    private int readEscape() {
+        byte escaped = next();
+        switch (escaped) {
+            case '"':
+            case '\\':
+            case '/':
+                return escaped;
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(next(), 16);
+                    if (digit < 0) {
+                        fail(UnverifiedJsonWebTokenParseFailure.INVALID_JSON);
+                        return -1;
+                    }
+                    value = (value << 4) | digit;
+                }
+                return value;
+            default:
+                // \b, \f, \n, \r and \t are never part of a base64 value
+                return -1;
+        }
+    }
+
+    /** Skips past the closing quote of a string whose opening quote has been consumed, returning the end index. */
+    private int skipStringContents() {
+        byte[] bytes = payload;
+        int end = limit;
+        int index = position;
+        while (index < end) {
+            byte value = bytes[index];
+            if (value == '"') {
+                position = index + 1;
+                return index;
+            }
+            // skip the escaped character so that an escaped quote does not terminate the string
+            index += value == '\\' ? 2 : 1;
+        }
+        fail(UnverifiedJsonWebTokenParseFailure.INVALID_JSON);
+        return end;
+    }
+
+    private void skipValue() {
+        byte first = peek();
+        if (first == '"') {
+            position++;
+            skipStringContents();
+        } else if (first == '{' || first == '[') {
+            skipContainer();
+        } else {
+            skipScalar();
+        }
+    }
+
+    private void skipContainer() {
+        byte[] bytes = payload;
+        int end = limit;
+        int depth = 0;
+        while (position < end) {
+            byte value = bytes[position++];
+            if (value == '"') {
+                skipStringContents();
+            } else if (value == '{' || value == '[') {
+                depth++;
+            } else if ((value == '}' || value == ']') && --depth == 0) {
+                return;
+            }
+        }
+        fail(UnverifiedJsonWebTokenParseFailure.INVALID_JSON);
+    }
+
+    /** Skips a number or a true, false or null literal. */
+    private void skipScalar() {
+        byte[] bytes = payload;
+        int end = limit;
+        int start = position;
+        int index = start;
+        while (index < end) {
+            byte value = bytes[index];
+            if (value == ',' || value == '}' || value == ']' || isWhitespace(value)) {
+                break;
+            }
+            if (!isScalarCharacter(value)) {
+                fail(UnverifiedJsonWebTokenParseFailure.INVALID_JSON);
+                return;
+            }
+            index++;
+        }
+        if (index == start) {
+            fail(UnverifiedJsonWebTokenParseFailure.INVALID_JSON);
+            return;
+        }
+        position = index;
+    }
+
+    private void expectLiteral(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (next() != literal.charAt(i)) {
+                fail(UnverifiedJsonWebTokenParseFailure.INVALID_JSON);
+                return;
+            }
+        }
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            fail(UnverifiedJsonWebTokenParseFailure.INVALID_JSON);
+        }
+    }
+
+    /** Returns the current byte without consuming it, or zero once the payload has been exhausted. */
+    private byte peek() {
+        if (position >= limit) {
+            fail(UnverifiedJsonWebTokenParseFailure.INVALID_JSON);
+            return 0;
+        }
+        return payload[position];
+    }
+
+    /** Consumes and returns the current byte, or zero once the payload has been exhausted. */
+    private byte next() {
+        if (position >= limit) {
+            fail(UnverifiedJsonWebTokenParseFailure.INVALID_JSON);
+            return 0;
+        }
+        return payload[position++];
+    }
+
+    /** Records the first failure and exhausts the payload so that parsing finishes without reading further. */
+    private void fail(UnverifiedJsonWebTokenParseFailure reason) {
+        if (failure == null) {
+            failure = reason;
+        }
+        position = limit;
+    }
+
+    private void skipWhitespace() {
+        byte[] bytes = payload;
+        int end = limit;
+        int index = position;
+        while (index < end && isWhitespace(bytes[index])) {
+            index++;
+        }
+        position = index;
+    }
+
+    private static boolean isDigit(byte value) {
+        return value >= '0' && value <= '9';
+    }
+
+    private static boolean isWhitespace(byte value) {
+        return value == ' ' || value == '\n' || value == '\r' || value == '\t';
+    }
+
+    private static boolean isScalarCharacter(byte value) {
+        return (value >= '0' && value <= '9')
+                || (value >= 'a' && value <= 'z')
+                || value == '-'
+                || value == '+'
+                || value == '.'
+                || value == 'E';
+    }
+
+    /**
+     * Decodes four base64url characters into the low 24 bits of the result, or returns a negative value if any of
+     * them is not part of the alphabet.
+     */
+    private static int decodeBlock(char first, char second, char third, char fourth) {
+        if ((first | second | third | fourth) >= BASE64_URL.length) {
+            return -1;
+        }
+        return (BASE64_URL[first] << 18) | (BASE64_URL[second] << 12) | (BASE64_URL[third] << 6) | BASE64_URL[fourth];
+    }
+
+    private static int sextet(byte[] table, int character) {
+        return character >= 0 && character < table.length ? table[character] : -1;
+    }
+
+    static int indexOfDot(CharSequence token, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (token.charAt(i) == '.') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int countSegments(CharSequence token, int start, int end) {
+        int count = 1;
+        for (int i = start; i < end; i++) {
+            if (token.charAt(i) == '.') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static byte[] base64Table(String lastTwo) {
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789" + lastTwo;
+        byte[] table = new byte[128];
+        Arrays.fill(table, (byte) -1);
+        for (int i = 0; i < alphabet.length(); i++) {
+            table[alphabet.charAt(i)] = (byte) i;
+        }
+        return table;
+    }
+
+    /** Receives the bounds of the contents of a string. */
+    @FunctionalInterface
+    private interface StringConsumer {
+        void accept(int start, int end);
+    }
+}
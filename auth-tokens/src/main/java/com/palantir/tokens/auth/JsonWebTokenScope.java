@@ -0,0 +1,56 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+/**
+ * An OAuth scope, interned in a process-wide dictionary which assigns each scope a bit in {@link JsonWebTokenScopes}.
+ * <p>
+ * Only scopes created through {@link #of} are recorded when the "scope" or "scp" claim of a token is extracted, so the
+ * dictionary is bounded by the scopes an application checks for rather than by the tokens it receives. Scopes are
+ * expected to be created once and held in constants. Scope names are considered safe to log.
+ */
+public final class JsonWebTokenScope {
+
+    private final String name;
+    private final int index;
+
+    JsonWebTokenScope(String name, int index) {
+        this.name = name;
+        this.index = index;
+    }
+
+    /**
+     * Returns the interned scope with the given name, which must be non-empty and must not contain a space, creating
+     * it if necessary. Repeated calls with the same name return the same instance.
+     */
+    public static JsonWebTokenScope of(String name) {
+        return ScopeDictionary.intern(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Returns the index of the bit representing this scope. */
+    int index() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
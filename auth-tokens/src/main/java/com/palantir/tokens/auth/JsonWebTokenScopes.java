@@ -0,0 +1,133 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import java.util.StringJoiner;
+
+/**
+ * An immutable set of {@link JsonWebTokenScope}s held as a bitset, as extracted from the "scope" or "scp" claim of a
+ * token by a {@link JsonWebTokenClaim#scopes} claim or built from the scopes an operation requires.
+ * <p>
+ * Testing for a single scope reads one word, and testing for a set of required scopes compares one word per 64
+ * interned scopes.
+ * <p>
+ * Scopes may only be used to authorize a request when they were extracted from a verified token, that is from
+ * {@link JsonWebTokenClaims} for which {@link JsonWebTokenClaims#isVerified()} is true. Scopes extracted from a raw
+ * header are unsigned claims which any client can forge.
+ */
+public final class JsonWebTokenScopes {
+
+    private final long[] words;
+
+    JsonWebTokenScopes(long[] words) {
+        this.words = words;
+    }
+
+    /** Returns the set holding the given scopes. */
+    public static JsonWebTokenScopes of(JsonWebTokenScope... scopes) {
+        int maxIndex = -1;
+        for (JsonWebTokenScope scope : scopes) {
+            maxIndex = Math.max(maxIndex, scope.index());
+        }
+        long[] words = new long[maxIndex / Long.SIZE + 1];
+        for (JsonWebTokenScope scope : scopes) {
+            words[scope.index() / Long.SIZE] |= 1L << scope.index();
+        }
+        return new JsonWebTokenScopes(words);
+    }
+
+    public boolean contains(JsonWebTokenScope scope) {
+        int word = scope.index() / Long.SIZE;
+        return word < words.length && (words[word] & (1L << scope.index())) != 0;
+    }
+
+    /** Returns true if this set holds every scope of {@code required}. */
+    public boolean containsAll(JsonWebTokenScopes required) {
+        long[] requiredWords = required.words;
+        for (int i = 0; i < requiredWords.length; i++) {
+            if ((requiredWords[i] & ~word(i)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns true if this set holds at least one scope of {@code candidates}. */
+    public boolean containsAny(JsonWebTokenScopes candidates) {
+        int length = Math.min(words.length, candidates.words.length);
+        for (int i = 0; i < length; i++) {
+            if ((words[i] & candidates.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long word(int index) {
+        return index < words.length ? words[index] : 0L;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof JsonWebTokenScopes)) {
+            return false;
+        }
+        JsonWebTokenScopes that = (JsonWebTokenScopes) other;
+        int length = Math.max(words.length, that.words.length);
+        for (int i = 0; i < length; i++) {
+            if (word(i) != that.word(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // Trailing empty words do not contribute, so that sets sized by different snapshots of the dictionary agree
+        long hash = 1234;
+        for (int i = 0; i < words.length; i++) {
+            hash ^= words[i] * (i + 1);
+        }
+        return (int) ((hash >> 32) ^ hash);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(" ", "JsonWebTokenScopes{", "}");
+        ScopeDictionary dictionary = ScopeDictionary.current();
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                joiner.add(dictionary
+                        .scope(i * Long.SIZE + Long.numberOfTrailingZeros(word))
+                        .getName());
+            }
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Safe;
+
+/** The reason a token could not be verified by {@link JsonWebTokenVerifier}. */
+@Safe
+public enum JsonWebTokenVerificationFailure {
+    /** The token does not consist of exactly three dot-separated segments. */
+    INVALID_SEGMENT_COUNT,
+
+    /** The header is not a base64url encoded JSON object with an "alg" member, or has critical extensions. */
+    INVALID_HEADER,
+
+    /** The "alg" header names an algorithm which is not supported, such as "none". */
+    UNSUPPORTED_ALGORITHM,
+
+    /** No key is known for the "kid" header of the token. */
+    UNKNOWN_KEY,
+
+    /** The key identified by the token cannot be used with the algorithm named by its header. */
+    INVALID_KEY,
+
+    /** The signature is malformed or does not match the header and payload. */
+    INVALID_SIGNATURE,
+
+    /** The signature is valid, but the payload does not hold the claims of a {@link VerifiedJsonWebToken}. */
+    INVALID_CLAIMS,
+
+    /** The signature is valid, but the time given by the "exp" claim has passed. */
+    EXPIRED,
+
+    /** The signature is valid, but the time given by the "nbf" claim has not been reached. */
+    NOT_YET_VALID;
+}
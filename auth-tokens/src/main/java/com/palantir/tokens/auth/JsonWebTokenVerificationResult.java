@@ -0,0 +1,88 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Safe;
+import java.security.PublicKey;
+import java.util.Optional;
+
+/**
+ * The outcome of {@link JsonWebTokenVerifier#verify}, holding either the verified token or the reason it could not be
+ * verified.
+ * <p>
+ * Failed results are shared constants, so rejecting a token does not allocate a result.
+ */
+@Safe
+public final class JsonWebTokenVerificationResult {
+
+    private static final JsonWebTokenVerificationResult[] FAILURES = createFailures();
+
+    private final Optional<VerifiedJsonWebToken> token;
+    private final Optional<JsonWebTokenVerificationFailure> failure;
+
+    // The key which verified the token, or null if it was not verified
+    private final PublicKey key;
+
+    private JsonWebTokenVerificationResult(
+            Optional<VerifiedJsonWebToken> token, Optional<JsonWebTokenVerificationFailure> failure, PublicKey key) {
+        this.token = token;
+        this.failure = failure;
+        this.key = key;
+    }
+
+    static JsonWebTokenVerificationResult success(VerifiedJsonWebToken token, PublicKey key) {
+        return new JsonWebTokenVerificationResult(Optional.of(token), Optional.empty(), key);
+    }
+
+    static JsonWebTokenVerificationResult failure(JsonWebTokenVerificationFailure failure) {
+        return FAILURES[failure.ordinal()];
+    }
+
+    /** Returns true if the token was verified. */
+    public boolean isSuccess() {
+        return token.isPresent();
+    }
+
+    /** Returns the verified token, or empty if the token could not be verified. */
+    public Optional<VerifiedJsonWebToken> getToken() {
+        return token;
+    }
+
+    /** Returns the reason the token could not be verified, or empty if it was verified successfully. */
+    public Optional<JsonWebTokenVerificationFailure> getFailure() {
+        return failure;
+    }
+
+    /** Returns the key which verified the token, or null if the token could not be verified. */
+    PublicKey key() {
+        return key;
+    }
+
+    @Override
+    public String toString() {
+        return token.map(value -> "JsonWebTokenVerificationResult{token=" + value + "}")
+                .orElseGet(() -> "JsonWebTokenVerificationResult{failure=" + failure.get() + "}");
+    }
+
+    private static JsonWebTokenVerificationResult[] createFailures() {
+        JsonWebTokenVerificationFailure[] reasons = JsonWebTokenVerificationFailure.values();
+        JsonWebTokenVerificationResult[] results = new JsonWebTokenVerificationResult[reasons.length];
+        for (JsonWebTokenVerificationFailure reason : reasons) {
+            results[reason.ordinal()] = new JsonWebTokenVerificationResult(Optional.empty(), Optional.of(reason), null);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.palantir.logsafe.Preconditions;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Verifies the signatures of JWTs signed with one of the {@link JsonWebSignatureAlgorithm}s, and extracts the claims
+ * of verified tokens. Tokens are rejected before the time given by their "nbf" claim and once the time given by their
+ * "exp" claim has passed, if they have these claims.
+ * <p>
+ * The decoded JOSE headers of recently seen tokens are cached by their encoded form, so that tokens issued with a
+ * known key do not have their header decoded again. {@link Signature} instances are kept per thread and stay
+ * initialized with the last key they verified, and the signing input and signature are decoded into per-thread
+ * buffers, so that verification only allocates the resulting {@link VerifiedJsonWebToken}.
+ * <p>
+ * Instances are thread-safe and are intended to be shared.
+ */
+public final class JsonWebTokenVerifier {
+
+    private static final int MAX_CACHED_HEADERS = 16;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ThreadLocal<SignatureVerifier> VERIFIERS = ThreadLocal.withInitial(SignatureVerifier::new);
+
+    private final JsonWebKeyResolver keys;
+    private final Clock clock;
+
+    // Recently seen headers, most recent first, replaced as a whole whenever a header is added
+    private volatile JoseHeader[] headers = new JoseHeader[0];
+
+    private JsonWebTokenVerifier(JsonWebKeyResolver keys, Clock clock) {
+        this.keys = keys;
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a verifier which verifies tokens with the keys returned by {@code keys}, and rejects tokens whose "nbf"
+     * claim has not been reached or whose "exp" claim has passed.
+     */
+    public static JsonWebTokenVerifier create(JsonWebKeyResolver keys) {
+        return create(keys, Clock.systemUTC());
+    }
+
+    static JsonWebTokenVerifier create(JsonWebKeyResolver keys, Clock clock) {
+        Preconditions.checkArgument(keys != null, "keys cannot be null");
+        return new JsonWebTokenVerifier(keys, clock);
+    }
+
+    /** Returns the clock against which the validity period of tokens is checked. */
+    Clock clock() {
+        return clock;
+    }
+
+    /** Verifies the given token, returning its claims or empty if it could not be verified. */
+    public Optional<VerifiedJsonWebToken> tryVerify(BearerToken token) {
+        return verify(token).getToken();
+    }
+
+    /**
+     * Verifies the given token as {@link #verify} does, and extracts the claims declared by {@code extractor} from its
+     * payload. Returns empty if the token could not be verified, or if one of the declared claims cannot be read. The
+     * claims are marked as {@link JsonWebTokenClaims#isVerified() verified}, and may be used for authorization.
+     */
+    public Optional<JsonWebTokenClaims> tryVerifyClaims(BearerToken token, JsonWebTokenClaimExtractor extractor) {
+        Preconditions.checkArgument(extractor != null, "extractor cannot be null");
+        return verify(token).isSuccess() ? extractor.extractClaims(token.getToken(), true) : Optional.empty();
+    }
+
+    /** Verifies the given token, returning either its claims or the reason it could not be verified. */
+    public JsonWebTokenVerificationResult verify(BearerToken token) {
+        String value = token.getToken();
+        int end = value.length();
+        int firstDot = JsonWebTokenParser.indexOfDot(value, 0, end);
+        int secondDot = firstDot < 0 ? -1 : JsonWebTokenParser.indexOfDot(value, firstDot + 1, end);
+        if (secondDot < 0 || JsonWebTokenParser.indexOfDot(value, secondDot + 1, end) >= 0) {
+            return JsonWebTokenVerificationResult.failure(JsonWebTokenVerificationFailure.INVALID_SEGMENT_COUNT);
+        }
+
+        JoseHeader header = header(value, firstDot);
+        if (header.failure != null) {
+            return JsonWebTokenVerificationResult.failure(header.failure);
+        }
+        Optional<PublicKey> key = keys.getKey(header.keyId);
+        JsonWebTokenVerificationFailure failure = verifySignature(header, key, value, secondDot);
+        if (failure != null) {
+            return JsonWebTokenVerificationResult.failure(failure);
+        }
+        return readClaims(header, key.get(), value, firstDot, secondDot);
+    }
+
+    /**
+     * Returns true if {@code keyId} still resolves to {@code key}, the instance which verified a token earlier. Keys
+     * are compared by identity, so a resolver which has since replaced its keys never matches.
+     */
+    boolean resolves(Optional<String> keyId, PublicKey key) {
+        Optional<PublicKey> current = keys.getKey(keyId);
+        return current.isPresent() && current.get() == key;
+    }
+
+    private static JsonWebTokenVerificationFailure verifySignature(
+            JoseHeader header, Optional<PublicKey> key, String token, int secondDot) {
+        if (key.isEmpty()) {
+            return JsonWebTokenVerificationFailure.UNKNOWN_KEY;
+        }
+        if (!header.algorithm.supportsKey(key.get())) {
+            return JsonWebTokenVerificationFailure.INVALID_KEY;
+        }
+        return VERIFIERS.get().verify(header.algorithm, key.get(), token, secondDot);
+    }
+
+    private JsonWebTokenVerificationResult readClaims(
+            JoseHeader header, PublicKey key, String token, int firstDot, int secondDot) {
+        JsonWebTokenParser parser = JsonWebTokenParser.get();
+        if (parser.parse(token, 0, firstDot, secondDot, token.length()) != null) {
+            return JsonWebTokenVerificationResult.failure(JsonWebTokenVerificationFailure.INVALID_CLAIMS);
+        }
+        long now = clock.millis() / 1000;
+        if (parser.hasClaim(JsonWebTokenParser.EXP) && now >= parser.numericDate(JsonWebTokenParser.EXP)) {
+            return JsonWebTokenVerificationResult.failure(JsonWebTokenVerificationFailure.EXPIRED);
+        }
+        if (parser.hasClaim(JsonWebTokenParser.NBF) && now < parser.numericDate(JsonWebTokenParser.NBF)) {
+            return JsonWebTokenVerificationResult.failure(JsonWebTokenVerificationFailure.NOT_YET_VALID);
+        }
+        return JsonWebTokenVerificationResult.success(
+                ImmutableVerifiedJsonWebToken.of(
+                        UuidStringConverter.toString(
+                                parser.mostSignificantBits(JsonWebTokenParser.SUB),
+                                parser.leastSignificantBits(JsonWebTokenParser.SUB)),
+                        claim(parser, JsonWebTokenParser.SID),
+                        claim(parser, JsonWebTokenParser.JTI),
+                        claim(parser, JsonWebTokenParser.ORG),
+                        numericDate(parser, JsonWebTokenParser.EXP),
+                        numericDate(parser, JsonWebTokenParser.NBF),
+                        numericDate(parser, JsonWebTokenParser.IAT),
+                        header.keyId,
+                        header.algorithm),
+                key);
+    }
+
+    private static Optional<String> claim(JsonWebTokenParser parser, int claim) {
+        if (!parser.hasClaim(claim)) {
+            return Optional.empty();
+        }
+        return Optional.of(
+                UuidStringConverter.toString(parser.mostSignificantBits(claim), parser.leastSignificantBits(claim)));
+    }
+
+    private static Optional<Instant> numericDate(JsonWebTokenParser parser, int claim) {
+        if (!parser.hasClaim(claim)) {
+            return Optional.empty();
+        }
+        long seconds = Math.max(
+                Instant.MIN.getEpochSecond(), Math.min(Instant.MAX.getEpochSecond(), parser.numericDate(claim)));
+        return Optional.of(Instant.ofEpochSecond(seconds));
+    }
+
+    /** Returns the decoded header held by the first {@code length} characters of the token. */
+    private JoseHeader header(String token, int length) {
+        JoseHeader[] current = headers;
+        for (JoseHeader header : current) {
+            if (header.segment.length() == length && token.regionMatches(0, header.segment, 0, length)) {
+                return header;
+            }
+        }
+
+        JoseHeader header = JoseHeader.decode(token.substring(0, length));
+        if (header.failure == null) {
+            // Concurrent additions may race, in which case one of them is simply decoded again later
+            JoseHeader[] updated = new JoseHeader[Math.min(current.length + 1, MAX_CACHED_HEADERS)];
+            updated[0] = header;
+            System.arraycopy(current, 0, updated, 1, updated.length - 1);
+            headers = updated;
+        }
+        return header;
+    }
+
+    private static final class JoseHeader {
+        private final String segment;
+        private final JsonWebSignatureAlgorithm algorithm;
+        private final Optional<String> keyId;
+        private final JsonWebTokenVerificationFailure failure;
+
+        private JoseHeader(
+                String segment,
+                JsonWebSignatureAlgorithm algorithm,
+                Optional<String> keyId,
+                JsonWebTokenVerificationFailure failure) {
+            this.segment = segment;
+            this.algorithm = algorithm;
+            this.keyId = keyId;
+            this.failure = failure;
+        }
+
+        static JoseHeader decode(String segment) {
+            JsonNode node = readJson(segment);
+            // Critical extensions must be understood by the recipient, and none are supported
+            if (node == null || !node.isObject() || !node.path("alg").isTextual() || node.has("crit")) {
+                return failed(segment, JsonWebTokenVerificationFailure.INVALID_HEADER);
+            }
+            JsonNode keyId = node.path("kid");
+            if (!keyId.isMissingNode() && !keyId.isTextual()) {
+                return failed(segment, JsonWebTokenVerificationFailure.INVALID_HEADER);
+            }
+            return JsonWebSignatureAlgorithm.fromName(node.get("alg").asText())
+                    .map(algorithm -> new JoseHeader(segment, algorithm, Optional.ofNullable(keyId.textValue()), null))
+                    .orElseGet(() -> failed(segment, JsonWebTokenVerificationFailure.UNSUPPORTED_ALGORITHM));
+        }
+
+        private static JsonNode readJson(String segment) {
+            int length = JsonWebTokenParser.decodedLength(segment, 0, segment.length());
+            byte[] decoded = new byte[Math.max(0, length)];
+            if (length < 0 || JsonWebTokenParser.decodeBase64Url(segment, 0, segment.length(), decoded) < 0) {
+                return null;
+            }
+            try {
+                return MAPPER.readTree(decoded);
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        private static JoseHeader failed(String segment, JsonWebTokenVerificationFailure failure) {
+            return new JoseHeader(segment, null, Optional.empty(), failure);
+        }
+    }
+
+    /** Per-thread {@link Signature} instances and buffers. */
+    private static final class SignatureVerifier {
+        // Buffers larger than this are not kept, so that a single oversized token does not pin a large array to the
+        // thread for its lifetime
+        private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+
+        private final Signature[] signatures = new Signature[JsonWebSignatureAlgorithm.values().length];
+        private final PublicKey[] initializedKeys = new PublicKey[signatures.length];
+        private byte[] input = new byte[1024];
+        private byte[] signature = new byte[512];
+
+        JsonWebTokenVerificationFailure verify(
+                JsonWebSignatureAlgorithm algorithm, PublicKey key, String token, int secondDot) {
+            int end = token.length();
+            int signatureLength = JsonWebTokenParser.decodedLength(token, secondDot + 1, end);
+            if (signatureLength < 0) {
+                return JsonWebTokenVerificationFailure.INVALID_SIGNATURE;
+            }
+            byte[] signatureBytes = signature.length >= signatureLength ? signature : new byte[signatureLength];
+            if (JsonWebTokenParser.decodeBase64Url(token, secondDot + 1, end, signatureBytes) < 0) {
+                return JsonWebTokenVerificationFailure.INVALID_SIGNATURE;
+            }
+
+            // The signing input is the ASCII encoding of the header and payload, which only hold single byte characters
+            byte[] inputBytes = input.length >= secondDot ? input : new byte[secondDot];
+            for (int i = 0; i < secondDot; i++) {
+                inputBytes[i] = (byte) token.charAt(i);
+            }
+            retain(inputBytes, signatureBytes);
+            return verify(algorithm, key, inputBytes, secondDot, signatureBytes, signatureLength);
+        }
+
+        private JsonWebTokenVerificationFailure verify(
+                JsonWebSignatureAlgorithm algorithm,
+                PublicKey key,
+                byte[] inputBytes,
+                int inputLength,
+                byte[] signatureBytes,
+                int signatureLength) {
+            int index = algorithm.ordinal();
+            try {
+                if (signatures[index] == null) {
+                    signatures[index] = Signature.getInstance(algorithm.signatureAlgorithm());
+                }
+                if (initializedKeys[index] != key) {
+                    initializedKeys[index] = null;
+                    signatures[index].initVerify(key);
+                    initializedKeys[index] = key;
+                }
+                Signature instance = signatures[index];
+                instance.update(inputBytes, 0, inputLength);
+                return instance.verify(signatureBytes, 0, signatureLength)
+                        ? null
+                        : JsonWebTokenVerificationFailure.INVALID_SIGNATURE;
+            } catch (InvalidKeyException e) {
+                return JsonWebTokenVerificationFailure.INVALID_KEY;
+            } catch (SignatureException e) {
+                // Initializing the instance again resets any partially processed input
+                initializedKeys[index] = null;
+                return JsonWebTokenVerificationFailure.INVALID_SIGNATURE;
+            } catch (GeneralSecurityException e) {
+                return JsonWebTokenVerificationFailure.UNSUPPORTED_ALGORITHM;
+            }
+        }
+
+        private void retain(byte[] inputBytes, byte[] signatureBytes) {
+            if (inputBytes.length <= MAX_RETAINED_BUFFER_SIZE) {
+                input = inputBytes;
+            }
+            if (signatureBytes.length <= MAX_RETAINED_BUFFER_SIZE) {
+                signature = signatureBytes;
+            }
+        }
+    }
+}
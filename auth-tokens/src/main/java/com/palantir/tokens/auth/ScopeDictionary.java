@@ -0,0 +1,119 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The process-wide dictionary of {@link JsonWebTokenScope}s.
+ * <p>
+ * Each snapshot of the dictionary is immutable and holds an open-addressing table keyed by the UTF-8 encoding of the
+ * scope names, so that scopes can be looked up straight from the bytes of a token payload without allocating.
+ * Interning a new scope, which is rare, publishes a new snapshot.
+ */
+final class ScopeDictionary {
+
+    private static final Object LOCK = new Object();
+    private static volatile ScopeDictionary current = new ScopeDictionary(new JsonWebTokenScope[0]);
+
+    private final JsonWebTokenScope[] scopes;
+    private final byte[][] names;
+    // Holds the index of a scope plus one, or zero for an empty slot
+    private final int[] slots;
+
+    private ScopeDictionary(JsonWebTokenScope[] scopes) {
+        this.scopes = scopes;
+        this.names = new byte[scopes.length][];
+        this.slots = new int[Integer.highestOneBit(Math.max(1, scopes.length)) * 4];
+        for (int i = 0; i < scopes.length; i++) {
+            names[i] = scopes[i].getName().getBytes(StandardCharsets.UTF_8);
+            int slot = hash(names[i], 0, names[i].length);
+            while (slots[slot & (slots.length - 1)] != 0) {
+                slot++;
+            }
+            slots[slot & (slots.length - 1)] = i + 1;
+        }
+    }
+
+    /** Returns the current snapshot of the dictionary. */
+    static ScopeDictionary current() {
+        return current;
+    }
+
+    static JsonWebTokenScope intern(String name) {
+        Preconditions.checkArgument(name != null && !name.isEmpty(), "Scope name must be non-empty");
+        Preconditions.checkArgument(
+                name.indexOf(' ') < 0, "Scope name must not contain a space", SafeArg.of("scope", name));
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        JsonWebTokenScope existing = current.find(bytes);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (LOCK) {
+            ScopeDictionary snapshot = current;
+            existing = snapshot.find(bytes);
+            if (existing != null) {
+                return existing;
+            }
+            JsonWebTokenScope[] scopes = Arrays.copyOf(snapshot.scopes, snapshot.scopes.length + 1);
+            JsonWebTokenScope scope = new JsonWebTokenScope(name, snapshot.scopes.length);
+            scopes[scope.index()] = scope;
+            current = new ScopeDictionary(scopes);
+            return scope;
+        }
+    }
+
+    /** Returns the number of words required to hold a bit for every scope in this snapshot. */
+    int wordCount() {
+        return (scopes.length + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /** Returns the scope with the given index, which must have been assigned by this or an earlier snapshot. */
+    JsonWebTokenScope scope(int index) {
+        return scopes[index];
+    }
+
+    /** Returns the index of the scope named by the given UTF-8 bytes, or -1 if no such scope has been interned. */
+    int indexOf(byte[] bytes, int start, int end) {
+        int mask = slots.length - 1;
+        for (int slot = hash(bytes, start, end); ; slot++) {
+            int entry = slots[slot & mask];
+            if (entry == 0) {
+                return -1;
+            }
+            byte[] name = names[entry - 1];
+            if (Arrays.equals(name, 0, name.length, bytes, start, end)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private JsonWebTokenScope find(byte[] name) {
+        int index = indexOf(name, 0, name.length);
+        return index < 0 ? null : scopes[index];
+    }
+
+    private static int hash(byte[] bytes, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
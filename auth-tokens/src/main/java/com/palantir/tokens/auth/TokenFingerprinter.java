@@ -0,0 +1,112 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import java.security.SecureRandom;
+
+/**
+ * Computes 128-bit fingerprints of token strings, used as keys for {@link FingerprintTable}s.
+ * <p>
+ * Each half of the fingerprint is SipHash-2-4 of the UTF-16LE encoding of the value under its own 128-bit key, drawn
+ * at random for each instance. SipHash is a pseudorandom function, so without the keys colliding values cannot be
+ * crafted and honest ones collide with negligible probability; callers may therefore return the result cached for a
+ * fingerprint without keeping the token to compare it with.
+ */
+final class TokenFingerprinter {
+
+    private final long highKey0;
+    private final long highKey1;
+    private final long lowKey0;
+    private final long lowKey1;
+
+    TokenFingerprinter() {
+        SecureRandom random = new SecureRandom();
+        this.highKey0 = random.nextLong();
+        this.highKey1 = random.nextLong();
+        this.lowKey0 = random.nextLong();
+        this.lowKey1 = random.nextLong();
+    }
+
+    /** Returns the high 64 bits of the fingerprint of the given value. */
+    long high(String value) {
+        return sipHash(value, highKey0, highKey1);
+    }
+
+    /** Returns the low 64 bits of the fingerprint of the given value. */
+    long low(String value) {
+        return sipHash(value, lowKey0, lowKey1);
+    }
+
+    /**
+     * Computes SipHash-2-4 of the UTF-16LE encoding of {@code value} under the key formed by {@code key0} and
+     * {@code key1}, reading four characters into each 64-bit message word.
+     */
+    static long sipHash(String value, long key0, long key1) {
+        long v0 = key0 ^ 0x736f6d6570736575L;
+        long v1 = key1 ^ 0x646f72616e646f6dL;
+        long v2 = key0 ^ 0x6c7967656e657261L;
+        long v3 = key1 ^ 0x7465646279746573L;
+        int length = value.length();
+        int blocksEnd = length & ~3;
+        for (int index = 0; index <= blocksEnd; index += 4) {
+            long word = index < blocksEnd ? word(value, index) : lastWord(value, blocksEnd, length);
+            v3 ^= word;
+            for (int round = 0; round < 2; round++) {
+                v0 += v1;
+                v1 = Long.rotateLeft(v1, 13) ^ v0;
+                v0 = Long.rotateLeft(v0, 32);
+                v2 += v3;
+                v3 = Long.rotateLeft(v3, 16) ^ v2;
+                v0 += v3;
+                v3 = Long.rotateLeft(v3, 21) ^ v0;
+                v2 += v1;
+                v1 = Long.rotateLeft(v1, 17) ^ v2;
+                v2 = Long.rotateLeft(v2, 32);
+            }
+            v0 ^= word;
+        }
+        v2 ^= 0xff;
+        for (int round = 0; round < 4; round++) {
+            v0 += v1;
+            v1 = Long.rotateLeft(v1, 13) ^ v0;
+            v0 = Long.rotateLeft(v0, 32);
+            v2 += v3;
+            v3 = Long.rotateLeft(v3, 16) ^ v2;
+            v0 += v3;
+            v3 = Long.rotateLeft(v3, 21) ^ v0;
+            v2 += v1;
+            v1 = Long.rotateLeft(v1, 17) ^ v2;
+            v2 = Long.rotateLeft(v2, 32);
+        }
+        return v0 ^ v1 ^ v2 ^ v3;
+    }
+
+    private static long word(String value, int index) {
+        return value.charAt(index)
+                | (long) value.charAt(index + 1) << 16
+                | (long) value.charAt(index + 2) << 32
+                | (long) value.charAt(index + 3) << 48;
+    }
+
+    /** Returns the final message word: the trailing characters, and the length in bytes modulo 256 in the top byte. */
+    private static long lastWord(String value, int blocksEnd, int length) {
+        long word = (long) (length * 2) << 56;
+        for (int index = blocksEnd; index < length; index++) {
+            word |= (long) value.charAt(index) << (16 * (index - blocksEnd));
+        }
+        return word;
+    }
+}
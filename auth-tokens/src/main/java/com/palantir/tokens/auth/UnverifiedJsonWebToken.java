@@ -16,19 +16,13 @@
 
 package com.palantir.tokens.auth;
 
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectReader;
-import com.palantir.logsafe.Preconditions;
 import com.palantir.logsafe.Safe;
 import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
-import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.util.Base64;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import org.immutables.value.Value;
@@ -48,66 +42,282 @@ import org.immutables.value.Value;
 @ImmutablesStyle
 public abstract class UnverifiedJsonWebToken {
 
-    private static final ObjectReader READER = new ObjectMapper()
-            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-            .readerFor(JwtPayload.class);
-
     private static final SafeLogger log = SafeLoggerFactory.get(UnverifiedJsonWebToken.class);
 
     /**
      * Returns the unverified user id, i.e., the "sub" claim, of the JWT.
      */
     @Safe
-    @Value.Parameter
-    public abstract String getUnverifiedUserId();
+    @Value.Lazy
+    public String getUnverifiedUserId() {
+        return UuidStringConverter.toString(
+                getUnverifiedUserIdMostSignificantBits(), getUnverifiedUserIdLeastSignificantBits());
+    }
 
     /**
      * Returns the unverified session id, i.e. the "sid" claim, of the JWT
      * or absent if the JWT does not contain the "sid" claim.
      */
     @Safe
-    @Value.Parameter
-    public abstract Optional<String> getUnverifiedSessionId();
+    @Value.Lazy
+    public Optional<String> getUnverifiedSessionId() {
+        return toOptionalString(
+                JsonWebTokenParser.SID, sessionIdMostSignificantBits(), sessionIdLeastSignificantBits());
+    }
 
     /**
      * Returns the unverified token id, i.e. the "jti" claim, of the JWT
      * or absent if the JWT does not contain the "jti" claim.
      */
     @Safe
-    @Value.Parameter
-    public abstract Optional<String> getUnverifiedTokenId();
+    @Value.Lazy
+    public Optional<String> getUnverifiedTokenId() {
+        return toOptionalString(JsonWebTokenParser.JTI, tokenIdMostSignificantBits(), tokenIdLeastSignificantBits());
+    }
 
     /**
      * Returns the unverified organization id, i.e. the "org" claim, of the JWT
      * or absent if the JWT does not contain the "org" claim.
      */
     @Safe
+    @Value.Lazy
+    public Optional<String> getUnverifiedOrganizationId() {
+        return toOptionalString(
+                JsonWebTokenParser.ORG, organizationIdMostSignificantBits(), organizationIdLeastSignificantBits());
+    }
+
+    /**
+     * Returns the unverified user id, i.e., the "sub" claim, of the JWT as a {@link UUID}.
+     */
+    @Safe
+    public final UUID getUnverifiedUserIdAsUuid() {
+        return new UUID(getUnverifiedUserIdMostSignificantBits(), getUnverifiedUserIdLeastSignificantBits());
+    }
+
+    /**
+     * Returns the unverified session id, i.e. the "sid" claim, of the JWT as a {@link UUID}
+     * or absent if the JWT does not contain the "sid" claim.
+     */
+    @Safe
+    public final Optional<UUID> getUnverifiedSessionIdAsUuid() {
+        return toOptionalUuid(JsonWebTokenParser.SID, sessionIdMostSignificantBits(), sessionIdLeastSignificantBits());
+    }
+
+    /**
+     * Returns the unverified token id, i.e. the "jti" claim, of the JWT as a {@link UUID}
+     * or absent if the JWT does not contain the "jti" claim.
+     */
+    @Safe
+    public final Optional<UUID> getUnverifiedTokenIdAsUuid() {
+        return toOptionalUuid(JsonWebTokenParser.JTI, tokenIdMostSignificantBits(), tokenIdLeastSignificantBits());
+    }
+
+    /**
+     * Returns the unverified organization id, i.e. the "org" claim, of the JWT as a {@link UUID}
+     * or absent if the JWT does not contain the "org" claim.
+     */
+    @Safe
+    public final Optional<UUID> getUnverifiedOrganizationIdAsUuid() {
+        return toOptionalUuid(
+                JsonWebTokenParser.ORG, organizationIdMostSignificantBits(), organizationIdLeastSignificantBits());
+    }
+
+    /**
+     * Returns true if the unverified user id, i.e. the "sub" claim, of the JWT is {@code value}.
+     */
+    public final boolean hasUnverifiedUserId(UUID value) {
+        return hasUnverifiedUserId(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+
+    /**
+     * Equivalent to {@link #hasUnverifiedUserId(UUID)} for the UUID with the given bits.
+     */
+    public final boolean hasUnverifiedUserId(long mostSignificantBits, long leastSignificantBits) {
+        return getUnverifiedUserIdMostSignificantBits() == mostSignificantBits
+                && getUnverifiedUserIdLeastSignificantBits() == leastSignificantBits;
+    }
+
+    /**
+     * Returns true if the unverified session id, i.e. the "sid" claim, of the JWT is {@code value}
+     * or false if the JWT does not contain the claim.
+     */
+    public final boolean hasUnverifiedSessionId(UUID value) {
+        return hasUnverifiedSessionId(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+
+    /**
+     * Equivalent to {@link #hasUnverifiedSessionId(UUID)} for the UUID with the given bits.
+     */
+    public final boolean hasUnverifiedSessionId(long mostSignificantBits, long leastSignificantBits) {
+        return hasClaim(JsonWebTokenParser.SID)
+                && sessionIdMostSignificantBits() == mostSignificantBits
+                && sessionIdLeastSignificantBits() == leastSignificantBits;
+    }
+
+    /**
+     * Returns true if the unverified token id, i.e. the "jti" claim, of the JWT is {@code value}
+     * or false if the JWT does not contain the claim.
+     */
+    public final boolean hasUnverifiedTokenId(UUID value) {
+        return hasUnverifiedTokenId(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+
+    /**
+     * Equivalent to {@link #hasUnverifiedTokenId(UUID)} for the UUID with the given bits.
+     */
+    public final boolean hasUnverifiedTokenId(long mostSignificantBits, long leastSignificantBits) {
+        return hasClaim(JsonWebTokenParser.JTI)
+                && tokenIdMostSignificantBits() == mostSignificantBits
+                && tokenIdLeastSignificantBits() == leastSignificantBits;
+    }
+
+    /**
+     * Returns true if the unverified organization id, i.e. the "org" claim, of the JWT is {@code value}
+     * or false if the JWT does not contain the claim.
+     */
+    public final boolean hasUnverifiedOrganizationId(UUID value) {
+        return hasUnverifiedOrganizationId(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+
+    /**
+     * Equivalent to {@link #hasUnverifiedOrganizationId(UUID)} for the UUID with the given bits.
+     */
+    public final boolean hasUnverifiedOrganizationId(long mostSignificantBits, long leastSignificantBits) {
+        return hasClaim(JsonWebTokenParser.ORG)
+                && organizationIdMostSignificantBits() == mostSignificantBits
+                && organizationIdLeastSignificantBits() == leastSignificantBits;
+    }
+
+    /**
+     * Returns the most significant 64 bits of the unverified user id, i.e. the "sub" claim, of the JWT, as in
+     * {@link UUID#getMostSignificantBits()}.
+     */
+    @Safe
+    public final long getUnverifiedUserIdMostSignificantBits() {
+        return userIdMostSignificantBits();
+    }
+
+    /**
+     * Returns the least significant 64 bits of the unverified user id, i.e. the "sub" claim, of the JWT, as in
+     * {@link UUID#getLeastSignificantBits()}.
+     */
+    @Safe
+    public final long getUnverifiedUserIdLeastSignificantBits() {
+        return userIdLeastSignificantBits();
+    }
+
+    // The claims are held in their decoded form and only formatted as strings once requested, behind package-private
+    // attributes so that the published accessors stay final. Absent claims have zero bits, so equality is determined
+    // by the primitive attributes alone.
+
+    @Value.Parameter
+    abstract long userIdMostSignificantBits();
+
+    @Value.Parameter
+    abstract long userIdLeastSignificantBits();
+
+    @Value.Parameter
+    abstract long sessionIdMostSignificantBits();
+
+    @Value.Parameter
+    abstract long sessionIdLeastSignificantBits();
+
+    @Value.Parameter
+    abstract long tokenIdMostSignificantBits();
+
+    @Value.Parameter
+    abstract long tokenIdLeastSignificantBits();
+
+    @Value.Parameter
+    abstract long organizationIdMostSignificantBits();
+
     @Value.Parameter
-    public abstract Optional<String> getUnverifiedOrganizationId();
+    abstract long organizationIdLeastSignificantBits();
+
+    /** Bit mask of the claims present in the JWT, indexed by the {@link JsonWebTokenParser} claim constants. */
+    @Value.Parameter
+    abstract int presentClaims();
 
     /**
      * Does a lower cost check on the structure of string provided
      * before attempting to create an {@link UnverifiedJsonWebToken}.
      */
     public static Optional<UnverifiedJsonWebToken> tryParse(String rawAuthHeader) {
-        if (countCharacter(rawAuthHeader, '.') == 2) {
-            try {
-                return Optional.of(of(AuthHeader.valueOf(rawAuthHeader).getBearerToken()));
-            } catch (Throwable t) {
-                log.debug("Unable to process auth header.", t);
-            }
-        }
-        return Optional.empty();
+        return tryParse(rawAuthHeader, 0, rawAuthHeader.length());
     }
 
-    private static int countCharacter(String input, char toCount) {
-        int count = 0;
-        for (int i = 0; i < input.length(); i++) {
-            if (input.charAt(i) == toCount) {
-                ++count;
-            }
-        }
-        return count;
+    /**
+     * Equivalent to {@link #tryParse(String)} for the characters of {@code rawAuthHeader} between {@code start}
+     * (inclusive) and {@code end} (exclusive). The header is validated and decoded in place without being copied.
+     */
+    public static Optional<UnverifiedJsonWebToken> tryParse(CharSequence rawAuthHeader, int start, int end) {
+        Objects.checkFromToIndex(start, end, rawAuthHeader.length());
+        JsonWebTokenParser parser = JsonWebTokenParser.get();
+        return toOptional(parser, parseHeader(parser, rawAuthHeader, start, end));
+    }
+
+    /**
+     * Equivalent to {@link #tryParse(String)} for {@code length} ASCII bytes of {@code rawAuthHeader} starting at
+     * {@code offset}. The header is validated and decoded in place without being copied.
+     */
+    public static Optional<UnverifiedJsonWebToken> tryParse(byte[] rawAuthHeader, int offset, int length) {
+        return tryParse(AsciiCharSequence.of(rawAuthHeader, offset, length), 0, length);
+    }
+
+    /**
+     * Equivalent to {@link #tryParse(String)} for {@code length} ASCII bytes of {@code rawAuthHeader} starting at the
+     * absolute {@code index}. The header is validated and decoded in place without being copied, and the position of
+     * the buffer is not changed.
+     */
+    public static Optional<UnverifiedJsonWebToken> tryParse(ByteBuffer rawAuthHeader, int index, int length) {
+        return tryParse(AsciiCharSequence.of(rawAuthHeader, index, length), 0, length);
+    }
+
+    /**
+     * Equivalent to {@link #tryParse(String)} for a token which has already been validated, such as that of an
+     * {@link AuthHeader}, so that only the JWT itself is parsed.
+     */
+    public static Optional<UnverifiedJsonWebToken> tryParse(BearerToken token) {
+        String rawToken = token.getToken();
+        JsonWebTokenParser parser = JsonWebTokenParser.get();
+        return toOptional(parser, parser.parse(rawToken, 0, rawToken.length()));
+    }
+
+    /**
+     * Parses the provided auth header, in the form "Bearer [token]" or "[token]", without throwing if it cannot be
+     * parsed. Rejecting a malformed header does not allocate, which makes this suitable for untrusted input.
+     */
+    public static UnverifiedJsonWebTokenParseResult parse(String rawAuthHeader) {
+        return parse(rawAuthHeader, 0, rawAuthHeader.length());
+    }
+
+    /**
+     * Equivalent to {@link #parse(String)} for the characters of {@code rawAuthHeader} between {@code start}
+     * (inclusive) and {@code end} (exclusive).
+     */
+    public static UnverifiedJsonWebTokenParseResult parse(CharSequence rawAuthHeader, int start, int end) {
+        Objects.checkFromToIndex(start, end, rawAuthHeader.length());
+        JsonWebTokenParser parser = JsonWebTokenParser.get();
+        UnverifiedJsonWebTokenParseFailure failure = parseHeader(parser, rawAuthHeader, start, end);
+        return failure == null
+                ? UnverifiedJsonWebTokenParseResult.success(fromParser(parser))
+                : UnverifiedJsonWebTokenParseResult.failure(failure);
+    }
+
+    /**
+     * Equivalent to {@link #parse(String)} for {@code length} ASCII bytes of {@code rawAuthHeader} starting at
+     * {@code offset}.
+     */
+    public static UnverifiedJsonWebTokenParseResult parse(byte[] rawAuthHeader, int offset, int length) {
+        return parse(AsciiCharSequence.of(rawAuthHeader, offset, length), 0, length);
+    }
+
+    /**
+     * Equivalent to {@link #parse(String)} for {@code length} ASCII bytes of {@code rawAuthHeader} starting at the
+     * absolute {@code index}, without changing the position of the buffer.
+     */
+    public static UnverifiedJsonWebTokenParseResult parse(ByteBuffer rawAuthHeader, int index, int length) {
+        return parse(AsciiCharSequence.of(rawAuthHeader, index, length), 0, length);
     }
 
     /**
@@ -120,59 +330,102 @@ public abstract class UnverifiedJsonWebToken {
      * An anticipated use of this class is making a best-effort user id extraction for logging.
      */
     public static UnverifiedJsonWebToken of(BearerToken token) {
-        String[] segments = token.getToken().split("\\.", -1);
+        String rawToken = token.getToken();
+        JsonWebTokenParser parser = JsonWebTokenParser.get();
+        UnverifiedJsonWebTokenParseFailure failure = parser.parse(rawToken, 0, rawToken.length());
+        if (failure != null) {
+            throw toException(failure, parser, rawToken);
+        }
+        return fromParser(parser);
+    }
 
-        // Avoid creating Arg on the hot path
-        if (segments.length != 3) {
-            throw new SafeIllegalArgumentException(
-                    "Invalid JWT: expected 3 segments", SafeArg.of("segmentsCount", segments.length));
+    /**
+     * Parses the given header, which may or may not start with the bearer scheme, leaving its claims in {@code parser}.
+     * Returns null if the header was parsed successfully, or the reason it could not be parsed otherwise.
+     */
+    static UnverifiedJsonWebTokenParseFailure parseHeader(
+            JsonWebTokenParser parser, CharSequence rawAuthHeader, int start, int end) {
+        AuthHeaderClassification classification = parser.classify(rawAuthHeader, start, end);
+        if (classification.getDotCount() != 2) {
+            return UnverifiedJsonWebTokenParseFailure.INVALID_SEGMENT_COUNT;
         }
+        if (!classification.isBearerToken()) {
+            return UnverifiedJsonWebTokenParseFailure.INVALID_BEARER_TOKEN;
+        }
+        return parser.parse(
+                rawAuthHeader,
+                classification.getTokenStart(),
+                classification.getFirstDot(),
+                classification.getSecondDot(),
+                end);
+    }
 
-        JwtPayload payload = extractPayload(segments[1]);
+    private static Optional<UnverifiedJsonWebToken> toOptional(
+            JsonWebTokenParser parser, UnverifiedJsonWebTokenParseFailure failure) {
+        if (failure != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Unable to process auth header.", SafeArg.of("failure", failure));
+            }
+            return Optional.empty();
+        }
+        return Optional.of(fromParser(parser));
+    }
 
+    private static UnverifiedJsonWebToken fromParser(JsonWebTokenParser parser) {
         return ImmutableUnverifiedJsonWebToken.of(
-                decodeUuidBytes(payload.sub),
-                Optional.ofNullable(payload.sid).map(UnverifiedJsonWebToken::decodeUuidBytes),
-                Optional.ofNullable(payload.jti).map(UnverifiedJsonWebToken::decodeUuidBytes),
-                Optional.ofNullable(payload.org).map(UnverifiedJsonWebToken::decodeUuidBytes));
+                parser.mostSignificantBits(JsonWebTokenParser.SUB),
+                parser.leastSignificantBits(JsonWebTokenParser.SUB),
+                parser.mostSignificantBits(JsonWebTokenParser.SID),
+                parser.leastSignificantBits(JsonWebTokenParser.SID),
+                parser.mostSignificantBits(JsonWebTokenParser.JTI),
+                parser.leastSignificantBits(JsonWebTokenParser.JTI),
+                parser.mostSignificantBits(JsonWebTokenParser.ORG),
+                parser.leastSignificantBits(JsonWebTokenParser.ORG),
+                parser.presentClaims());
     }
 
-    private static JwtPayload extractPayload(String payload) {
-        try {
-            return READER.readValue(Base64.getUrlDecoder().decode(payload));
-        } catch (IllegalArgumentException | IOException e) {
-            throw new SafeIllegalArgumentException("Invalid JWT: cannot parse payload", e);
+    private static SafeIllegalArgumentException toException(
+            UnverifiedJsonWebTokenParseFailure failure, JsonWebTokenParser parser, String token) {
+        switch (failure) {
+            case INVALID_SEGMENT_COUNT:
+                return new SafeIllegalArgumentException(
+                        "Invalid JWT: expected 3 segments",
+                        SafeArg.of("segmentsCount", JsonWebTokenParser.countSegments(token, 0, token.length())));
+            case MISSING_SUBJECT:
+                return new SafeIllegalArgumentException("Invalid JWT: missing sub claim");
+            case INVALID_UUID_LENGTH:
+                return new SafeIllegalArgumentException(
+                        "Invalid JWT: cannot decode UUID, require 16 bytes",
+                        SafeArg.of("bytesLength", parser.uuidLength()));
+            default:
+                return new SafeIllegalArgumentException("Invalid JWT: cannot parse payload");
         }
     }
 
-    /**
-     * Returns an encoded UUID from a length 16 byte array.
-     * <p>
-     * Palantir stores UUIDs in this format to optimize on shorter JWTs.
-     */
-    private static String decodeUuidBytes(byte[] bytes) {
-        Preconditions.checkArgument(
-                bytes.length == 16,
-                "Invalid JWT: cannot decode UUID, require 16 bytes",
-                SafeArg.of("bytesLength", bytes.length));
-        ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
-        long high = byteBuffer.getLong();
-        long low = byteBuffer.getLong();
-        return UuidStringConverter.toString(new UUID(high, low));
+    @Override
+    public final String toString() {
+        StringBuilder builder = new StringBuilder("UnverifiedJsonWebToken{");
+        builder.append("unverifiedUserId=").append(getUnverifiedUserId());
+        getUnverifiedSessionId()
+                .ifPresent(value -> builder.append(", unverifiedSessionId=").append(value));
+        getUnverifiedTokenId()
+                .ifPresent(value -> builder.append(", unverifiedTokenId=").append(value));
+        getUnverifiedOrganizationId().ifPresent(value -> builder.append(", unverifiedOrganizationId=")
+                .append(value));
+        return builder.append('}').toString();
     }
 
-    private static final class JwtPayload {
-
-        @JsonProperty("sub")
-        private byte[] sub;
-
-        @JsonProperty("sid")
-        private byte[] sid;
+    private Optional<UUID> toOptionalUuid(int claim, long mostSignificantBits, long leastSignificantBits) {
+        return hasClaim(claim) ? Optional.of(new UUID(mostSignificantBits, leastSignificantBits)) : Optional.empty();
+    }
 
-        @JsonProperty("jti")
-        private byte[] jti;
+    private Optional<String> toOptionalString(int claim, long mostSignificantBits, long leastSignificantBits) {
+        return hasClaim(claim)
+                ? Optional.of(UuidStringConverter.toString(mostSignificantBits, leastSignificantBits))
+                : Optional.empty();
+    }
 
-        @JsonProperty("org")
-        private byte[] org;
+    private boolean hasClaim(int claim) {
+        return (presentClaims() & (1 << claim)) != 0;
     }
 }
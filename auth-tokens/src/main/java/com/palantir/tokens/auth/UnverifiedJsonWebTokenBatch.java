@@ -0,0 +1,297 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The claims of a batch of auth headers, parsed in parallel and held in columnar form.
+ * <p>
+ * This is intended for offline processing of large token corpora, such as replayed audit logs, where materializing an
+ * {@link Optional} and an {@link UnverifiedJsonWebToken} per header would dominate the cost of parsing. The most and
+ * least significant bits of each UUID claim are held in parallel arrays indexed by the position of the header in the
+ * batch, together with a bitmap of the headers which could not be parsed, for a total of 66 bytes per header.
+ * <p>
+ * Headers are parsed on a {@link ForkJoinPool}, with each worker reusing the decode buffers of its thread. As for
+ * {@link UnverifiedJsonWebToken}, the claims must not be used for security-sensitive decisions.
+ */
+public final class UnverifiedJsonWebTokenBatch {
+
+    // Spliterators are not split below this many headers, which keeps the per-task overhead negligible
+    private static final int MIN_TASK_SIZE = 1024;
+    private static final int CLAIM_COUNT = JsonWebTokenParser.ORG + 1;
+    private static final UnverifiedJsonWebTokenParseFailure[] FAILURES = UnverifiedJsonWebTokenParseFailure.values();
+
+    private final int size;
+    private final long[][] mostSignificantBits;
+    private final long[][] leastSignificantBits;
+    private final byte[] presentClaims;
+    // Holds the ordinal of the failure plus one, or zero for a header which was parsed
+    private final byte[] failures;
+    private final long[] failed;
+
+    private UnverifiedJsonWebTokenBatch(int size) {
+        this.size = size;
+        this.mostSignificantBits = new long[CLAIM_COUNT][size];
+        this.leastSignificantBits = new long[CLAIM_COUNT][size];
+        this.presentClaims = new byte[size];
+        this.failures = new byte[size];
+        this.failed = new long[(size + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    /** Parses the given auth headers, which may or may not start with the bearer scheme, on the common pool. */
+    public static UnverifiedJsonWebTokenBatch parse(List<? extends CharSequence> rawAuthHeaders) {
+        return parse(rawAuthHeaders, ForkJoinPool.commonPool());
+    }
+
+    /** Parses the given auth headers, which may or may not start with the bearer scheme, on {@code pool}. */
+    public static UnverifiedJsonWebTokenBatch parse(List<? extends CharSequence> rawAuthHeaders, ForkJoinPool pool) {
+        Preconditions.checkArgument(rawAuthHeaders != null, "rawAuthHeaders cannot be null");
+        return parse(rawAuthHeaders.spliterator(), pool);
+    }
+
+    /**
+     * Parses the auth headers of the given stream on {@code pool}, in encounter order. The headers are collected into
+     * a list before being parsed.
+     */
+    public static UnverifiedJsonWebTokenBatch parse(Stream<? extends CharSequence> rawAuthHeaders, ForkJoinPool pool) {
+        Preconditions.checkArgument(rawAuthHeaders != null, "rawAuthHeaders cannot be null");
+        return parse(rawAuthHeaders.collect(Collectors.toList()), pool);
+    }
+
+    /**
+     * Parses the auth headers of the given spliterator on {@code pool}, in encounter order. Spliterators which report
+     * {@link Spliterator#SUBSIZED} are split in place, and any other spliterator is first collected into a list.
+     */
+    public static UnverifiedJsonWebTokenBatch parse(
+            Spliterator<? extends CharSequence> rawAuthHeaders, ForkJoinPool pool) {
+        Preconditions.checkArgument(rawAuthHeaders != null, "rawAuthHeaders cannot be null");
+        Preconditions.checkArgument(pool != null, "pool cannot be null");
+        Spliterator<? extends CharSequence> headers = rawAuthHeaders;
+        if (!headers.hasCharacteristics(Spliterator.SUBSIZED)) {
+            List<CharSequence> collected = new ArrayList<>();
+            headers.forEachRemaining(collected::add);
+            headers = collected.spliterator();
+        }
+        long size = headers.getExactSizeIfKnown();
+        Preconditions.checkArgument(
+                size <= Integer.MAX_VALUE - 8, "Too many headers for a single batch", SafeArg.of("size", size));
+
+        UnverifiedJsonWebTokenBatch batch = new UnverifiedJsonWebTokenBatch((int) size);
+        pool.invoke(batch.new ParseTask(headers, 0));
+        batch.indexFailures();
+        return batch;
+    }
+
+    /** Returns the number of headers in this batch. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns true if the header at the given index was parsed successfully. */
+    public boolean isParsed(int index) {
+        return (failed[index / Long.SIZE] & (1L << index)) == 0;
+    }
+
+    /** Returns the number of headers which could not be parsed. */
+    public int failureCount() {
+        int count = 0;
+        for (long word : failed) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index of the first header at or after {@code fromIndex} which could not be parsed, or -1 if there is
+     * no such header.
+     */
+    public int nextFailure(int fromIndex) {
+        if (fromIndex >= size) {
+            return -1;
+        }
+        int wordIndex = fromIndex / Long.SIZE;
+        long word = failed[wordIndex] & (-1L << fromIndex);
+        while (word == 0) {
+            wordIndex++;
+            if (wordIndex == failed.length) {
+                return -1;
+            }
+            word = failed[wordIndex];
+        }
+        return wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+    }
+
+    /** Returns the reason the header at the given index could not be parsed, or empty if it was parsed. */
+    public Optional<UnverifiedJsonWebTokenParseFailure> getFailure(int index) {
+        int failure = failures[index];
+        return failure == 0 ? Optional.empty() : Optional.of(FAILURES[failure - 1]);
+    }
+
+    /** Returns the token parsed from the header at the given index, or empty if it could not be parsed. */
+    public Optional<UnverifiedJsonWebToken> get(int index) {
+        if (!isParsed(index)) {
+            return Optional.empty();
+        }
+        return Optional.of(ImmutableUnverifiedJsonWebToken.of(
+                mostSignificantBits[JsonWebTokenParser.SUB][index],
+                leastSignificantBits[JsonWebTokenParser.SUB][index],
+                mostSignificantBits[JsonWebTokenParser.SID][index],
+                leastSignificantBits[JsonWebTokenParser.SID][index],
+                mostSignificantBits[JsonWebTokenParser.JTI][index],
+                leastSignificantBits[JsonWebTokenParser.JTI][index],
+                mostSignificantBits[JsonWebTokenParser.ORG][index],
+                leastSignificantBits[JsonWebTokenParser.ORG][index],
+                presentClaims[index]));
+    }
+
+    /** Returns the most significant bits of the "sub" claim of the header at the given index, or zero. */
+    public long getUserIdMostSignificantBits(int index) {
+        return mostSignificantBits[JsonWebTokenParser.SUB][index];
+    }
+
+    /** Returns the least significant bits of the "sub" claim of the header at the given index, or zero. */
+    public long getUserIdLeastSignificantBits(int index) {
+        return leastSignificantBits[JsonWebTokenParser.SUB][index];
+    }
+
+    /** Returns true if the header at the given index was parsed and holds a "sid" claim. */
+    public boolean hasSessionId(int index) {
+        return hasClaim(index, JsonWebTokenParser.SID);
+    }
+
+    /** Returns the most significant bits of the "sid" claim of the header at the given index, or zero. */
+    public long getSessionIdMostSignificantBits(int index) {
+        return mostSignificantBits[JsonWebTokenParser.SID][index];
+    }
+
+    /** Returns the least significant bits of the "sid" claim of the header at the given index, or zero. */
+    public long getSessionIdLeastSignificantBits(int index) {
+        return leastSignificantBits[JsonWebTokenParser.SID][index];
+    }
+
+    /** Returns true if the header at the given index was parsed and holds a "jti" claim. */
+    public boolean hasTokenId(int index) {
+        return hasClaim(index, JsonWebTokenParser.JTI);
+    }
+
+    /** Returns the most significant bits of the "jti" claim of the header at the given index, or zero. */
+    public long getTokenIdMostSignificantBits(int index) {
+        return mostSignificantBits[JsonWebTokenParser.JTI][index];
+    }
+
+    /** Returns the least significant bits of the "jti" claim of the header at the given index, or zero. */
+    public long getTokenIdLeastSignificantBits(int index) {
+        return leastSignificantBits[JsonWebTokenParser.JTI][index];
+    }
+
+    /** Returns true if the header at the given index was parsed and holds an "org" claim. */
+    public boolean hasOrganizationId(int index) {
+        return hasClaim(index, JsonWebTokenParser.ORG);
+    }
+
+    /** Returns the most significant bits of the "org" claim of the header at the given index, or zero. */
+    public long getOrganizationIdMostSignificantBits(int index) {
+        return mostSignificantBits[JsonWebTokenParser.ORG][index];
+    }
+
+    /** Returns the least significant bits of the "org" claim of the header at the given index, or zero. */
+    public long getOrganizationIdLeastSignificantBits(int index) {
+        return leastSignificantBits[JsonWebTokenParser.ORG][index];
+    }
+
+    private boolean hasClaim(int index, int claim) {
+        return (presentClaims[index] & (1 << claim)) != 0;
+    }
+
+    private void parseInto(JsonWebTokenParser parser, int index, CharSequence rawAuthHeader) {
+        Preconditions.checkArgument(rawAuthHeader != null, "rawAuthHeaders cannot contain null");
+        UnverifiedJsonWebTokenParseFailure failure =
+                UnverifiedJsonWebToken.parseHeader(parser, rawAuthHeader, 0, rawAuthHeader.length());
+        if (failure != null) {
+            failures[index] = (byte) (failure.ordinal() + 1);
+            return;
+        }
+        for (int claim = 0; claim < CLAIM_COUNT; claim++) {
+            mostSignificantBits[claim][index] = parser.mostSignificantBits(claim);
+            leastSignificantBits[claim][index] = parser.leastSignificantBits(claim);
+        }
+        presentClaims[index] = (byte) parser.presentClaims();
+    }
+
+    /**
+     * Builds the failure bitmap once every header has been parsed, as workers writing to adjacent bits of the same
+     * word would race.
+     */
+    private void indexFailures() {
+        for (int i = 0; i < size; i++) {
+            if (failures[i] != 0) {
+                failed[i / Long.SIZE] |= 1L << i;
+            }
+        }
+    }
+
+    /** Parses the headers of a spliterator into the batch, starting at the given index. */
+    private final class ParseTask extends RecursiveAction implements Consumer<CharSequence> {
+        private final Spliterator<? extends CharSequence> headers;
+        private final int start;
+        private JsonWebTokenParser parser;
+        private int index;
+
+        ParseTask(Spliterator<? extends CharSequence> headers, int start) {
+            this.headers = headers;
+            this.start = start;
+        }
+
+        @Override
+        protected void compute() {
+            List<ParseTask> forked = new ArrayList<>();
+            int offset = start;
+            while (headers.estimateSize() > MIN_TASK_SIZE) {
+                Spliterator<? extends CharSequence> prefix = headers.trySplit();
+                if (prefix == null) {
+                    break;
+                }
+                int prefixSize = (int) prefix.getExactSizeIfKnown();
+                ParseTask task = new ParseTask(prefix, offset);
+                task.fork();
+                forked.add(task);
+                offset += prefixSize;
+            }
+            parser = JsonWebTokenParser.get();
+            index = offset;
+            headers.forEachRemaining(this);
+            for (ParseTask task : forked) {
+                task.join();
+            }
+        }
+
+        @Override
+        public void accept(CharSequence rawAuthHeader) {
+            parseInto(parser, index++, rawAuthHeader);
+        }
+    }
+}
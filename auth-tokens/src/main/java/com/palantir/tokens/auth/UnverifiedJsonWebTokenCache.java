@@ -0,0 +1,87 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.tokens.auth;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of the results of {@link UnverifiedJsonWebToken#tryParse(String)}, for callers which see the same
+ * tokens on many requests.
+ * <p>
+ * Entries are keyed by a 128-bit SipHash fingerprint of the raw header computed with per-cache random keys, so that
+ * colliding headers cannot be crafted without knowing the keys, and the cache only ever holds parsed
+ * {@link UnverifiedJsonWebToken}s and never the token text. Headers which cannot be parsed are not cached. Lookups and inserts are lock-free, and once
+ * the cache is full entries are evicted using an approximation of LRU.
+ * <p>
+ * Like {@link UnverifiedJsonWebToken} itself, the cached results must not be used for security-sensitive decisions.
+ */
+public final class UnverifiedJsonWebTokenCache {
+
+    private final FingerprintTable<Optional<UnverifiedJsonWebToken>> table;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final TokenFingerprinter fingerprinter = new TokenFingerprinter();
+
+    private UnverifiedJsonWebTokenCache(int maximumSize) {
+        this.table = new FingerprintTable<>(maximumSize);
+    }
+
+    /**
+     * Creates a cache holding at most {@code maximumSize} parsed tokens. The size is rounded down to a power of two
+     * and must be at least four.
+     */
+    public static UnverifiedJsonWebTokenCache create(int maximumSize) {
+        return new UnverifiedJsonWebTokenCache(maximumSize);
+    }
+
+    /**
+     * Equivalent to {@link UnverifiedJsonWebToken#tryParse(String)}, but returns the previously parsed token if the
+     * same header has been seen before.
+     */
+    public Optional<UnverifiedJsonWebToken> tryParse(String rawAuthHeader) {
+        long high = fingerprinter.high(rawAuthHeader);
+        long low = fingerprinter.low(rawAuthHeader);
+        Optional<UnverifiedJsonWebToken> cached = table.get(high, low);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        Optional<UnverifiedJsonWebToken> parsed = UnverifiedJsonWebToken.tryParse(rawAuthHeader);
+        if (parsed.isPresent()) {
+            table.put(high, low, parsed);
+        }
+        return parsed;
+    }
+
+    /** Returns the number of calls to {@link #tryParse} which were served from the cache. */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /** Returns the number of calls to {@link #tryParse} which had to parse the header. */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /** Returns the maximum number of parsed tokens held by this cache. */
+    public int maximumSize() {
+        return table.capacity();
+    }
+}
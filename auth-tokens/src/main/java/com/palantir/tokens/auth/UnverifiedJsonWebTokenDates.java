@@ -0,0 +1,80 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Preconditions;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Reads the "exp", "nbf" and "iat" numeric date claims of a JWT without verifying its signature or parsing any of its
+ * other claims, allowing expired tokens to be rejected cheaply before they are processed further.
+ * <p>
+ * Dates are returned as whole seconds since the epoch, with fractional seconds truncated, or {@link #ABSENT} if the
+ * token does not hold the claim or cannot be parsed. None of the methods of this class allocate. As for
+ * {@link UnverifiedJsonWebToken}, the dates must not be used for security-sensitive decisions unless the token is
+ * verified through some other process.
+ */
+public final class UnverifiedJsonWebTokenDates {
+
+    /** The value returned for a claim which is not present, or of a token which cannot be parsed. */
+    public static final long ABSENT = Long.MIN_VALUE;
+
+    private UnverifiedJsonWebTokenDates() {}
+
+    /** Returns the "exp" claim of the token held by {@code rawAuthHeader}, which may omit the bearer scheme. */
+    public static long getExpiration(CharSequence rawAuthHeader) {
+        return read(rawAuthHeader, JsonWebTokenParser.EXP);
+    }
+
+    /** Returns the "nbf" claim of the token held by {@code rawAuthHeader}, which may omit the bearer scheme. */
+    public static long getNotBefore(CharSequence rawAuthHeader) {
+        return read(rawAuthHeader, JsonWebTokenParser.NBF);
+    }
+
+    /** Returns the "iat" claim of the token held by {@code rawAuthHeader}, which may omit the bearer scheme. */
+    public static long getIssuedAt(CharSequence rawAuthHeader) {
+        return read(rawAuthHeader, JsonWebTokenParser.IAT);
+    }
+
+    /**
+     * Returns true if the token held by {@code rawAuthHeader} has an "exp" claim and {@code now} is at or after that
+     * time plus {@code skew}. Tokens without an "exp" claim, and headers which cannot be parsed, are not expired.
+     */
+    public static boolean isExpired(CharSequence rawAuthHeader, Instant now, Duration skew) {
+        Preconditions.checkArgument(now != null, "now cannot be null");
+        Preconditions.checkArgument(skew != null, "skew cannot be null");
+        long expiration = getExpiration(rawAuthHeader);
+        if (expiration == ABSENT) {
+            return false;
+        }
+        // Compares now - exp with the skew field by field, which cannot overflow as exp has at most 18 digits
+        long secondsSinceExpiration = now.getEpochSecond() - expiration;
+        return secondsSinceExpiration > skew.getSeconds()
+                || (secondsSinceExpiration == skew.getSeconds() && now.getNano() >= skew.getNano());
+    }
+
+    private static long read(CharSequence rawAuthHeader, int claim) {
+        if (rawAuthHeader == null) {
+            return ABSENT;
+        }
+        JsonWebTokenParser parser = JsonWebTokenParser.get();
+        if (parser.parseNumericDates(rawAuthHeader, 0, rawAuthHeader.length()) != null || !parser.hasClaim(claim)) {
+            return ABSENT;
+        }
+        return parser.numericDate(claim);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Safe;
+
+/** The reason an auth header could not be parsed into an {@link UnverifiedJsonWebToken}. */
+@Safe
+public enum UnverifiedJsonWebTokenParseFailure {
+    /** The token is empty or contains characters which are not allowed in a {@link BearerToken}. */
+    INVALID_BEARER_TOKEN,
+
+    /** The token does not consist of exactly three dot-separated segments. */
+    INVALID_SEGMENT_COUNT,
+
+    /** The payload, or one of the claims read from it, is not valid base64. */
+    INVALID_BASE64,
+
+    /** The decoded payload is not a JSON object. */
+    INVALID_JSON,
+
+    /** The payload does not contain a "sub" claim. */
+    MISSING_SUBJECT,
+
+    /** One of the claims read from the payload does not decode to the 16 bytes of a UUID. */
+    INVALID_UUID_LENGTH;
+}
@@ -0,0 +1,78 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Safe;
+import java.util.Optional;
+
+/**
+ * The outcome of {@link UnverifiedJsonWebToken#parse}, holding either the parsed token or the reason it could not be
+ * parsed.
+ * <p>
+ * Failed results are shared constants, so rejecting a malformed header neither throws nor allocates.
+ */
+@Safe
+public final class UnverifiedJsonWebTokenParseResult {
+
+    private static final UnverifiedJsonWebTokenParseResult[] FAILURES = createFailures();
+
+    private final Optional<UnverifiedJsonWebToken> token;
+    private final Optional<UnverifiedJsonWebTokenParseFailure> failure;
+
+    private UnverifiedJsonWebTokenParseResult(
+            Optional<UnverifiedJsonWebToken> token, Optional<UnverifiedJsonWebTokenParseFailure> failure) {
+        this.token = token;
+        this.failure = failure;
+    }
+
+    static UnverifiedJsonWebTokenParseResult success(UnverifiedJsonWebToken token) {
+        return new UnverifiedJsonWebTokenParseResult(Optional.of(token), Optional.empty());
+    }
+
+    static UnverifiedJsonWebTokenParseResult failure(UnverifiedJsonWebTokenParseFailure failure) {
+        return FAILURES[failure.ordinal()];
+    }
+
+    /** Returns true if the header was parsed into a token. */
+    public boolean isSuccess() {
+        return token.isPresent();
+    }
+
+    /** Returns the parsed token, or empty if the header could not be parsed. */
+    public Optional<UnverifiedJsonWebToken> getToken() {
+        return token;
+    }
+
+    /** Returns the reason the header could not be parsed, or empty if it was parsed successfully. */
+    public Optional<UnverifiedJsonWebTokenParseFailure> getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return token.map(value -> "UnverifiedJsonWebTokenParseResult{token=" + value + "}")
+                .orElseGet(() -> "UnverifiedJsonWebTokenParseResult{failure=" + failure.get() + "}");
+    }
+
+    private static UnverifiedJsonWebTokenParseResult[] createFailures() {
+        UnverifiedJsonWebTokenParseFailure[] reasons = UnverifiedJsonWebTokenParseFailure.values();
+        UnverifiedJsonWebTokenParseResult[] results = new UnverifiedJsonWebTokenParseResult[reasons.length];
+        for (UnverifiedJsonWebTokenParseFailure reason : reasons) {
+            results[reason.ordinal()] = new UnverifiedJsonWebTokenParseResult(Optional.empty(), Optional.of(reason));
+        }
+        return results;
+    }
+}
@@ -33,8 +33,11 @@ final class UuidStringConverter {
     private UuidStringConverter() {}
 
     static String toString(UUID value) {
+        return toString(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+
+    static String toString(long msb, long lsb) {
         final char[] ch = new char[36];
-        final long msb = value.getMostSignificantBits();
         writeInt((int) (msb >> 32), ch, 0);
         ch[8] = '-';
         int intBytes = (int) msb;
@@ -43,7 +46,6 @@ final class UuidStringConverter {
         writeShort(intBytes, ch, 14);
         ch[18] = '-';
 
-        final long lsb = value.getLeastSignificantBits();
         writeShort((int) (lsb >>> 48), ch, 19);
         ch[23] = '-';
         writeShort((int) (lsb >>> 32), ch, 24);
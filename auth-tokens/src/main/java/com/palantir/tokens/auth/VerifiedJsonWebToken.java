@@ -0,0 +1,69 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Safe;
+import java.time.Instant;
+import java.util.Optional;
+import org.immutables.value.Value;
+
+/**
+ * The claims of a JWT whose signature has been verified by a {@link JsonWebTokenVerifier}.
+ * <p>
+ * Verification establishes that the token was issued by the holder of a trusted key and has not expired; callers
+ * remain responsible for checking any other claims their application depends on.
+ */
+@Safe
+@Value.Immutable
+@ImmutablesStyle
+public abstract class VerifiedJsonWebToken {
+
+    /** Returns the user id, i.e., the "sub" claim, of the JWT. */
+    @Value.Parameter
+    public abstract String getUserId();
+
+    /** Returns the session id, i.e. the "sid" claim, of the JWT or absent if the JWT does not contain it. */
+    @Value.Parameter
+    public abstract Optional<String> getSessionId();
+
+    /** Returns the token id, i.e. the "jti" claim, of the JWT or absent if the JWT does not contain it. */
+    @Value.Parameter
+    public abstract Optional<String> getTokenId();
+
+    /** Returns the organization id, i.e. the "org" claim, of the JWT or absent if the JWT does not contain it. */
+    @Value.Parameter
+    public abstract Optional<String> getOrganizationId();
+
+    /** Returns the expiration time, i.e. the "exp" claim, of the JWT or absent if the JWT does not contain it. */
+    @Value.Parameter
+    public abstract Optional<Instant> getExpiresAt();
+
+    /** Returns the "nbf" claim, before which the JWT must not be accepted, or absent if the JWT does not contain it. */
+    @Value.Parameter
+    public abstract Optional<Instant> getNotBefore();
+
+    /** Returns the time at which the JWT was issued, i.e. the "iat" claim, or absent if the JWT does not contain it. */
+    @Value.Parameter
+    public abstract Optional<Instant> getIssuedAt();
+
+    /** Returns the "kid" header identifying the key which verified the JWT, or absent if the JWT has none. */
+    @Value.Parameter
+    public abstract Optional<String> getKeyId();
+
+    /** Returns the algorithm of the verified signature. */
+    @Value.Parameter
+    public abstract JsonWebSignatureAlgorithm getAlgorithm();
+}
@@ -0,0 +1,184 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of the results of {@link JsonWebTokenVerifier#verify}, for callers which see the same tokens on
+ * many requests.
+ * <p>
+ * Verified tokens are cached until the time given by their "exp" claim, less a configurable skew, so that a repeated
+ * token costs a hash lookup instead of a signature check. Tokens without an "exp" claim are not cached. Tokens whose
+ * signature is invalid are cached for a short, separately configured time, so that a client retrying a bad token
+ * does not cost a signature check on every request; other failures are cheap to detect and are not cached. In
+ * particular, tokens whose "nbf" claim has not been reached are verified again on every request, since they become
+ * valid later.
+ * <p>
+ * A verified token is only served from the cache while the {@link JsonWebKeyResolver} of the verifier still returns
+ * the key instance which verified it, so that removing or rotating a key takes effect on the next request rather than
+ * once cached tokens expire. Keys are compared by identity: a {@link JsonWebKeyStore} returns new instances after every
+ * reload which changes its file, and the tokens it had verified are then verified once more. Invalid signatures are
+ * remembered for their short time regardless of changes to the keys.
+ * <p>
+ * Entries are keyed by a fingerprint of the token as in {@link UnverifiedJsonWebTokenCache}, and a cached result is
+ * only returned for a token equal to the one which was verified.
+ */
+public final class VerifiedJsonWebTokenCache {
+
+    private static final long MAX_EXPIRY_SECONDS = Long.MAX_VALUE / 1000;
+
+    private final JsonWebTokenVerifier verifier;
+    private final FingerprintTable<Entry> table;
+    private final TokenFingerprinter fingerprinter = new TokenFingerprinter();
+    private final Clock clock;
+    private final long expirySkewMillis;
+    private final long negativeTtlMillis;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private VerifiedJsonWebTokenCache(
+            JsonWebTokenVerifier verifier, int maximumSize, Duration expirySkew, Duration negativeTtl) {
+        this.verifier = verifier;
+        this.table = new FingerprintTable<>(maximumSize);
+        this.clock = verifier.clock();
+        this.expirySkewMillis = expirySkew.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+    }
+
+    /**
+     * Creates a cache holding at most {@code maximumSize} results of {@code verifier}, rounded down to a power of two.
+     * Verified tokens are evicted {@code expirySkew} before they expire, and invalid signatures are remembered for
+     * {@code negativeTtl}.
+     */
+    public static VerifiedJsonWebTokenCache create(
+            JsonWebTokenVerifier verifier, int maximumSize, Duration expirySkew, Duration negativeTtl) {
+        Preconditions.checkArgument(verifier != null, "verifier cannot be null");
+        Preconditions.checkArgument(
+                !expirySkew.isNegative(), "expirySkew cannot be negative", SafeArg.of("expirySkew", expirySkew));
+        Preconditions.checkArgument(
+                !negativeTtl.isNegative(), "negativeTtl cannot be negative", SafeArg.of("negativeTtl", negativeTtl));
+        return new VerifiedJsonWebTokenCache(verifier, maximumSize, expirySkew, negativeTtl);
+    }
+
+    /** Equivalent to {@link JsonWebTokenVerifier#tryVerify}, but may return a previously verified token. */
+    public Optional<VerifiedJsonWebToken> tryVerify(BearerToken token) {
+        return verify(token).getToken();
+    }
+
+    /**
+     * Equivalent to {@link JsonWebTokenVerifier#tryVerifyClaims}, but may use the result of a previous verification.
+     * The claims themselves are extracted from the token on every call, since only the verification result is cached.
+     */
+    public Optional<JsonWebTokenClaims> tryVerifyClaims(BearerToken token, JsonWebTokenClaimExtractor extractor) {
+        Preconditions.checkArgument(extractor != null, "extractor cannot be null");
+        return verify(token).isSuccess() ? extractor.extractClaims(token.getToken(), true) : Optional.empty();
+    }
+
+    /** Equivalent to {@link JsonWebTokenVerifier#verify}, but may return the result of a previous verification. */
+    public JsonWebTokenVerificationResult verify(BearerToken token) {
+        String value = token.getToken();
+        long high = fingerprinter.high(value);
+        long low = fingerprinter.low(value);
+        long now = clock.millis();
+        Entry cached = table.get(high, low);
+        if (cached != null && isCurrent(cached, token, now)) {
+            hits.increment();
+            if (!cached.result.isSuccess()) {
+                negativeHits.increment();
+            }
+            return cached.result;
+        }
+
+        misses.increment();
+        JsonWebTokenVerificationResult result = verifier.verify(token);
+        long expiresAt = expiresAt(result, now);
+        if (now < expiresAt) {
+            table.put(high, low, new Entry(token, result, expiresAt));
+        } else if (cached != null) {
+            table.remove(high, low);
+        }
+        return result;
+    }
+
+    /** Returns the number of calls to {@link #verify} which were served from the cache, including failed results. */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /** Returns the number of calls to {@link #verify} which were served a cached invalid signature result. */
+    public long negativeHitCount() {
+        return negativeHits.sum();
+    }
+
+    /** Returns the number of calls to {@link #verify} which had to verify the token. */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /** Returns the maximum number of results held by this cache. */
+    public int maximumSize() {
+        return table.capacity();
+    }
+
+    /** Returns true if {@code cached} holds a result for {@code token} which may still be returned. */
+    private boolean isCurrent(Entry cached, BearerToken token, long now) {
+        if (now >= cached.expiresAt || !cached.token.equals(token)) {
+            return false;
+        }
+        PublicKey key = cached.result.key();
+        return key == null || verifier.resolves(cached.result.getToken().get().getKeyId(), key);
+    }
+
+    /** Returns the time in milliseconds until which the result may be cached, which is not after now if it may not. */
+    private long expiresAt(JsonWebTokenVerificationResult result, long now) {
+        Optional<VerifiedJsonWebToken> verified = result.getToken();
+        if (verified.isPresent()) {
+            Optional<Instant> expiration = verified.get().getExpiresAt();
+            if (expiration.isEmpty()) {
+                return Long.MIN_VALUE;
+            }
+            long seconds =
+                    Math.max(0, Math.min(MAX_EXPIRY_SECONDS, expiration.get().getEpochSecond()));
+            return seconds * 1000 - expirySkewMillis;
+        }
+        if (result.getFailure().get() == JsonWebTokenVerificationFailure.INVALID_SIGNATURE) {
+            return now + Math.min(negativeTtlMillis, Long.MAX_VALUE - now);
+        }
+        // Includes NOT_YET_VALID, which must not be remembered past the time the token becomes valid
+        return Long.MIN_VALUE;
+    }
+
+    private static final class Entry {
+        private final BearerToken token;
+        private final JsonWebTokenVerificationResult result;
+        private final long expiresAt;
+
+        Entry(BearerToken token, JsonWebTokenVerificationResult result, long expiresAt) {
+            this.token = token;
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
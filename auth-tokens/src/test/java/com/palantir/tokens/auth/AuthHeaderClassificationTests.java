@@ -0,0 +1,73 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.tokens.auth.AuthHeaderClassification.Scheme;
+import com.palantir.tokens.auth.AuthHeaderClassification.TokenKind;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+final class AuthHeaderClassificationTests {
+
+    @ParameterizedTest
+    @CsvSource({
+        "'Bearer a.b.c', BEARER, JWT, 7",
+        "'bEaReR a.b.c', BEARER, JWT, 7",
+        "'a.b.c', NONE, JWT, 0",
+        "'Bearer abc==', BEARER, OPAQUE, 7",
+        "'Bearer a.b.c.d', BEARER, OPAQUE, 7",
+        "'Basic Zm9vOmJhcg==', BASIC, OPAQUE, 6",
+        "'basic Zm9vOmJhcg==', BASIC, OPAQUE, 6",
+        "'Bearer ', BEARER, INVALID, 7",
+        "'Bearer a b.c', BEARER, INVALID, 7",
+        "'Bearer =a.b', BEARER, INVALID, 7",
+        "'Bearer a=b', BEARER, INVALID, 7",
+        "'Bearer', NONE, OPAQUE, 0",
+        "'Bearerabc', NONE, OPAQUE, 0",
+        "'Token abc', NONE, INVALID, 0",
+    })
+    void testClassify(String header, Scheme scheme, TokenKind kind, int tokenStart) {
+        AuthHeaderClassification classification = AuthHeaderClassification.classify(header);
+
+        assertThat(classification.getScheme()).isEqualTo(scheme);
+        assertThat(classification.getTokenKind()).isEqualTo(kind);
+        assertThat(classification.getTokenStart()).isEqualTo(tokenStart);
+        assertThat(classification.getTokenEnd()).isEqualTo(header.length());
+        assertThat(classification.isBearerToken()).isEqualTo(scheme != Scheme.BASIC && kind != TokenKind.INVALID);
+    }
+
+    @Test
+    void testDots() {
+        AuthHeaderClassification jwt = AuthHeaderClassification.classify("xxBearer ab.cd.ef", 2, 17);
+        assertThat(jwt.getDotCount()).isEqualTo(2);
+        assertThat(jwt.getFirstDot()).isEqualTo(11);
+        assertThat(jwt.getSecondDot()).isEqualTo(14);
+
+        AuthHeaderClassification invalid = AuthHeaderClassification.classify("Bearer a b.c.d.e");
+        assertThat(invalid.getTokenKind()).isEqualTo(TokenKind.INVALID);
+        assertThat(invalid.getDotCount()).isEqualTo(3);
+        assertThat(invalid.getFirstDot()).isEqualTo(10);
+        assertThat(invalid.getSecondDot()).isEqualTo(12);
+
+        AuthHeaderClassification opaque = AuthHeaderClassification.classify("Bearer abc");
+        assertThat(opaque.getDotCount()).isZero();
+        assertThat(opaque.getFirstDot()).isEqualTo(-1);
+        assertThat(opaque.getSecondDot()).isEqualTo(-1);
+    }
+}
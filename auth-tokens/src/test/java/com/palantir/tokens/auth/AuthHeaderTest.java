@@ -17,7 +17,10 @@
 package com.palantir.tokens.auth;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -44,4 +47,63 @@ final class AuthHeaderTest {
         assertThat(authHeader.getBearerToken()).isEqualTo(bearerToken);
         assertThat(authHeader.toString()).isEqualTo("Bearer bearerToken");
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Bearer bearerToken", "bearer bearerToken", "BeArEr bearerToken", "bearerToken"})
+    void testFromRegion(String authHeaderString) {
+        BearerToken bearerToken = BearerToken.valueOf("bearerToken");
+        String padded = "  " + authHeaderString + "  ";
+        byte[] bytes = padded.getBytes(StandardCharsets.US_ASCII);
+        int end = padded.length() - 2;
+
+        assertThat(AuthHeader.valueOf(new StringBuilder(padded), 2, end).getBearerToken())
+                .isEqualTo(bearerToken);
+        assertThat(AuthHeader.valueOf(bytes, 2, end - 2).getBearerToken()).isEqualTo(bearerToken);
+        assertThat(AuthHeader.valueOf(ByteBuffer.wrap(bytes), 2, end - 2).getBearerToken())
+                .isEqualTo(bearerToken);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        assertThat(AuthHeader.valueOf(direct, 2, end - 2).getBearerToken()).isEqualTo(bearerToken);
+        assertThat(direct.position()).isEqualTo(bytes.length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Bearer bearerToken", "bearer bearerToken", "bearerToken"})
+    void testTryValueOf(String authHeaderString) {
+        assertThat(AuthHeader.tryValueOf(authHeaderString)).contains(AuthHeader.valueOf(authHeaderString));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {"", "Bearer ", "Bearer bearer token", "Basic dXNlcjpwYXNz", "bearer=token", "Bearer token!"})
+    void testTryValueOf_invalid(String authHeaderString) {
+        assertThat(AuthHeader.tryValueOf(authHeaderString)).isEmpty();
+        assertThatThrownBy(() -> AuthHeader.valueOf(authHeaderString)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testEncodedValue() {
+        AuthHeader authHeader = AuthHeader.valueOf("Bearer bearerToken");
+        byte[] expected = "Bearer bearerToken".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(authHeader.toString()).isSameAs(authHeader.toString());
+        assertThat(authHeader.toAsciiBytes()).isEqualTo(expected);
+        authHeader.toAsciiBytes()[0] = 'b';
+        assertThat(authHeader.toAsciiBytes()).isEqualTo(expected);
+
+        ByteBuffer buffer = authHeader.toAsciiByteBuffer();
+        assertThat(buffer.isReadOnly()).isTrue();
+        assertThat(buffer.remaining()).isEqualTo(expected.length);
+        buffer.get(new byte[expected.length]);
+        assertThat(authHeader.toAsciiByteBuffer()).isEqualTo(ByteBuffer.wrap(expected));
+    }
+
+    @Test
+    void testFromRegion_invalid() {
+        assertThatThrownBy(() -> AuthHeader.valueOf("Bearer token", 0, 7)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AuthHeader.valueOf("Bearer token", 0, 13))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> AuthHeader.valueOf(new byte[] {'a', (byte) 0xE9}, 0, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -25,8 +25,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.testing.Assertions;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -61,6 +65,65 @@ final class BearerTokenTests {
         }
     }
 
+    @Test
+    void testFromRegion() {
+        byte[] bytes = ("[" + TOKEN_STRING + "]").getBytes(StandardCharsets.US_ASCII);
+        BearerToken expected = BearerToken.valueOf(TOKEN_STRING);
+
+        assertThat(BearerToken.valueOf("[" + TOKEN_STRING + "]", 1, 7)).isEqualTo(expected);
+        assertThat(BearerToken.valueOf(bytes, 1, 6)).isEqualTo(expected);
+        assertThat(BearerToken.valueOf(ByteBuffer.wrap(bytes).asReadOnlyBuffer(), 1, 6))
+                .isEqualTo(expected);
+        Assertions.assertThatLoggableExceptionThrownBy(() -> BearerToken.valueOf(bytes, 0, 6))
+                .hasLogMessage("BearerToken must match pattern");
+        assertThatThrownBy(() -> BearerToken.valueOf(bytes, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testMatchesValidationPattern() {
+        Pattern pattern = Pattern.compile("^[A-Za-z0-9\\-\\._~\\+/]+=*$");
+        String alphabet = "aZ09-._~+/==== #" + (char) 0x7F + (char) 0x80 + (char) 0xFF;
+        Random random = new Random(0);
+        for (int i = 0; i < 20_000; i++) {
+            char[] characters = new char[1 + random.nextInt(40)];
+            for (int j = 0; j < characters.length; j++) {
+                characters[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            // Mostly valid tokens, with a single character replaced by any other byte
+            if (random.nextBoolean()) {
+                Arrays.fill(characters, 'a');
+                characters[random.nextInt(characters.length)] = (char) random.nextInt(256);
+            }
+            assertMatchesPattern(pattern, new String(characters));
+        }
+        assertThat(BearerTokenValidator.isValid("a" + (char) 0x161, 0, 2)).isFalse();
+    }
+
+    private static void assertMatchesPattern(Pattern pattern, String token) {
+        boolean expected = pattern.matcher(token).matches();
+        byte[] bytes = token.getBytes(StandardCharsets.ISO_8859_1);
+        assertThat(BearerTokenValidator.isValid(token, 0, token.length()))
+                .as("%s", token)
+                .isEqualTo(expected);
+        assertThat(BearerTokenValidator.isValid(AsciiCharSequence.of(bytes, 0, bytes.length), 0, bytes.length))
+                .as("%s", token)
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void testEquality() {
+        BearerToken token = BearerToken.valueOf(TOKEN_STRING);
+
+        assertThat(token).isEqualTo(BearerToken.valueOf(new String(TOKEN_STRING.toCharArray())));
+        assertThat(token).hasSameHashCodeAs(BearerToken.valueOf(TOKEN_STRING));
+        assertThat(token).isNotEqualTo(BearerToken.valueOf("abc124"));
+        assertThat(token).isNotEqualTo(BearerToken.valueOf("abc12"));
+        assertThat(token).isNotEqualTo(BearerToken.valueOf("abc1234"));
+        assertThat(token).isNotEqualTo(BearerToken.valueOf("aaaaaa"));
+        assertThat(BearerToken.valueOf("a")).isNotEqualTo(BearerToken.valueOf("aa"));
+        assertThat(token).isNotEqualTo(TOKEN_STRING);
+    }
+
     @Test
     void testTokenCannotBeBlank() {
         assertThatThrownBy(() -> BearerToken.valueOf("")).isInstanceOf(IllegalArgumentException.class);
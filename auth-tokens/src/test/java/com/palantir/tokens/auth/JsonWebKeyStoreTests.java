@@ -0,0 +1,225 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class JsonWebKeyStoreTests {
+
+    private static final KeyPair EC_KEY = JsonWebTokenVerifierTests.generate("EC");
+    private static final KeyPair RSA_KEY = JsonWebTokenVerifierTests.generate("RSA");
+    private static final KeyPair ED_KEY = JsonWebTokenVerifierTests.generate("Ed25519");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testLoadsJwks() throws IOException {
+        Path file = write(
+                "keys.json",
+                "{\"keys\":[" + ecJwk("ec", EC_KEY.getPublic()) + ","
+                        + rsaJwk("rsa", RSA_KEY.getPublic()) + "," + edJwk("ed", ED_KEY.getPublic())
+                        + ",{\"kty\":\"oct\",\"kid\":\"secret\",\"k\":\"AAAA\"}]}");
+        JsonWebKeyStore store = JsonWebKeyStore.load(file);
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.getKey(Optional.of("ec"))).contains(EC_KEY.getPublic());
+        assertThat(store.getKey(Optional.of("rsa"))).contains(RSA_KEY.getPublic());
+        assertThat(store.getKey(Optional.of("ed"))).contains(ED_KEY.getPublic());
+        assertThat(store.getKey(Optional.of("secret"))).isEmpty();
+        assertThat(store.getKey(Optional.empty())).isEmpty();
+
+        JsonWebTokenVerifier verifier = JsonWebTokenVerifierTests.verifier(store);
+        JsonWebSignatureAlgorithm eddsa = JsonWebSignatureAlgorithm.EDDSA;
+        BearerToken token = JsonWebTokenVerifierTests.sign(
+                eddsa,
+                ED_KEY.getPrivate(),
+                JsonWebTokenVerifierTests.header(eddsa, "ed"),
+                "{\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\"}");
+        assertThat(verifier.tryVerify(token)).isPresent();
+    }
+
+    @Test
+    void testLoadsSingleJwk() throws IOException {
+        JsonWebKeyStore store = JsonWebKeyStore.load(write("key.json", ecJwk("ec", EC_KEY.getPublic())));
+
+        assertThat(store.getKey(Optional.of("ec"))).contains(EC_KEY.getPublic());
+        assertThat(store.getKey(Optional.empty())).contains(EC_KEY.getPublic());
+    }
+
+    @Test
+    void testLoadsPemBundle() throws IOException {
+        Path file = write(
+                "keys.pem",
+                "kid: ec\n" + pem(EC_KEY.getPublic()) + "\nkid: rsa\n" + pem(RSA_KEY.getPublic()) + "\n"
+                        + pem(ED_KEY.getPublic()));
+        JsonWebKeyStore store = JsonWebKeyStore.load(file);
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.getKey(Optional.of("ec"))).contains(EC_KEY.getPublic());
+        assertThat(store.getKey(Optional.of("rsa"))).contains(RSA_KEY.getPublic());
+        assertThat(store.getKey(Optional.empty())).isEmpty();
+    }
+
+    @Test
+    void testRejectsInvalidFiles() throws IOException {
+        assertThatThrownBy(() -> JsonWebKeyStore.load(write("invalid.json", "{\"keys\":")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonWebKeyStore.load(write("invalid.pem", "-----BEGIN PUBLIC KEY-----\nAAAA")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonWebKeyStore.load(write(
+                        "duplicate.json",
+                        "{\"keys\":[" + ecJwk("a", EC_KEY.getPublic()) + "," + rsaJwk("a", RSA_KEY.getPublic())
+                                + "]}")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonWebKeyStore.load(directory.resolve("missing.json")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testReloadKeepsPreviousKeysOnFailure() throws IOException {
+        Path file = write("keys.json", ecJwk("ec", EC_KEY.getPublic()));
+        JsonWebKeyStore store = JsonWebKeyStore.load(file);
+
+        write("keys.json", rsaJwk("rsa", RSA_KEY.getPublic()));
+        assertThat(store.reload()).isTrue();
+        assertThat(store.getKey(Optional.of("ec"))).isEmpty();
+        assertThat(store.getKey(Optional.of("rsa"))).contains(RSA_KEY.getPublic());
+
+        write("keys.json", "not keys");
+        assertThat(store.reload()).isFalse();
+        assertThat(store.getKey(Optional.of("rsa"))).contains(RSA_KEY.getPublic());
+
+        write("keys.json", "{\"keys\":[{\"kty\":\"oct\",\"kid\":\"secret\",\"k\":\"AAAA\"}]}");
+        assertThat(store.reload()).isFalse();
+        assertThat(store.getKey(Optional.of("rsa"))).contains(RSA_KEY.getPublic());
+    }
+
+    @Test
+    void testReloadRejectsPartlyWrittenPemBundle() throws IOException {
+        Path file = write("keys.pem", "kid: rsa\n" + pem(RSA_KEY.getPublic()));
+        JsonWebKeyStore store = JsonWebKeyStore.load(file);
+
+        write("keys.pem", "kid: ec\n" + pem(EC_KEY.getPublic()) + "\nkid: ed\n");
+        assertThat(store.reload()).isFalse();
+        assertThat(store.getKey(Optional.of("ec"))).isEmpty();
+        assertThat(store.getKey(Optional.of("rsa"))).contains(RSA_KEY.getPublic());
+    }
+
+    @Test
+    void testReloadsWhenFileChanges() throws Exception {
+        Path file = write("keys.json", ecJwk("ec", EC_KEY.getPublic()));
+        try (JsonWebKeyStore store = JsonWebKeyStore.watch(file)) {
+            // replace the file atomically, as configuration management tools do
+            Path temporary = write(
+                    "keys.json.tmp",
+                    "{\"keys\":[" + ecJwk("ec", EC_KEY.getPublic()) + "," + rsaJwk("rsa", RSA_KEY.getPublic()) + "]}");
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            long deadline = System.nanoTime() + 30_000_000_000L;
+            while (store.getKey(Optional.of("rsa")).isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(store.getKey(Optional.of("rsa"))).contains(RSA_KEY.getPublic());
+            assertThat(store.getKey(Optional.of("ec"))).contains(EC_KEY.getPublic());
+        }
+    }
+
+    @Test
+    void testReloadsWhenLinkedDirectoryIsSwapped() throws Exception {
+        // the layout of a Kubernetes ConfigMap or Secret volume, which is updated by replacing the ..data link
+        Files.createDirectory(directory.resolve("..v1"));
+        write("..v1/keys.json", ecJwk("ec", EC_KEY.getPublic()));
+        Files.createSymbolicLink(directory.resolve("..data"), directory.resolve("..v1"));
+        Path file = Files.createSymbolicLink(directory.resolve("keys.json"), directory.resolve("..data/keys.json"));
+
+        try (JsonWebKeyStore store = JsonWebKeyStore.watch(file)) {
+            assertThat(store.getKey(Optional.of("ec"))).contains(EC_KEY.getPublic());
+
+            Files.createDirectory(directory.resolve("..v2"));
+            write("..v2/keys.json", rsaJwk("rsa", RSA_KEY.getPublic()));
+            Files.createSymbolicLink(directory.resolve("..data_tmp"), directory.resolve("..v2"));
+            Files.move(
+                    directory.resolve("..data_tmp"),
+                    directory.resolve("..data"),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+
+            long deadline = System.nanoTime() + 30_000_000_000L;
+            while (store.getKey(Optional.of("rsa")).isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(store.getKey(Optional.of("rsa"))).contains(RSA_KEY.getPublic());
+            assertThat(store.getKey(Optional.of("ec"))).isEmpty();
+        }
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    static String ecJwk(String keyId, PublicKey key) {
+        ECPublicKey ecKey = (ECPublicKey) key;
+        return "{\"kty\":\"EC\",\"crv\":\"P-256\",\"kid\":\"" + keyId + "\",\"x\":\""
+                + encode(ecKey.getW().getAffineX(), 32) + "\",\"y\":\""
+                + encode(ecKey.getW().getAffineY(), 32)
+                + "\"}";
+    }
+
+    private static String rsaJwk(String keyId, PublicKey key) {
+        RSAPublicKey rsaKey = (RSAPublicKey) key;
+        return "{\"kty\":\"RSA\",\"use\":\"sig\",\"kid\":\"" + keyId + "\",\"n\":\"" + encode(rsaKey.getModulus(), 256)
+                + "\",\"e\":\"" + encode(rsaKey.getPublicExponent(), 3) + "\"}";
+    }
+
+    private static String edJwk(String keyId, PublicKey key) {
+        byte[] encoded = key.getEncoded();
+        byte[] point = Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length);
+        return "{\"kty\":\"OKP\",\"crv\":\"Ed25519\",\"kid\":\"" + keyId + "\",\"x\":\""
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(point) + "\"}";
+    }
+
+    private static String pem(PublicKey key) {
+        return "-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getMimeEncoder(64, new byte[] {'\n'}).encodeToString(key.getEncoded())
+                + "\n-----END PUBLIC KEY-----";
+    }
+
+    private static String encode(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        byte[] unsigned = new byte[length];
+        int copied = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copied, unsigned, length - copied, copied);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(unsigned);
+    }
+}
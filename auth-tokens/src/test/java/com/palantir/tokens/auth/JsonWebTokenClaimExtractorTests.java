@@ -0,0 +1,146 @@
+/*
+ * (c) Copyright 2016 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+final class JsonWebTokenClaimExtractorTests {
+
+    private static final JsonWebTokenClaim<List<String>> AUD = JsonWebTokenClaim.stringList("aud");
+    private static final JsonWebTokenClaim<String> ISS = JsonWebTokenClaim.string("iss");
+    private static final JsonWebTokenClaim<Long> EXP = JsonWebTokenClaim.number("exp");
+    private static final JsonWebTokenClaim<UUID> SUB = JsonWebTokenClaim.uuid("sub");
+    private static final JsonWebTokenClaim<Boolean> ADMIN = JsonWebTokenClaim.bool("admin");
+    private static final JsonWebTokenClaim<String> TENANT = JsonWebTokenClaim.string("tenant");
+
+    private static final JsonWebTokenClaimExtractor EXTRACTOR =
+            JsonWebTokenClaimExtractor.compile(AUD, ISS, EXP, SUB, ADMIN, TENANT);
+
+    @Test
+    void testExtractsDeclaredClaims() {
+        JsonWebTokenClaims claims = EXTRACTOR
+                .extract(jwt("{\"iss\":\"https://issuer\",\"sid\":\"ignored\",\"aud\":[\"a\", \"b\"],"
+                        + "\"nested\":{\"iss\":\"other\",\"x\":[1,{\"y\":\"}\"}]},\"exp\":1459552349.5,"
+                        + "\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\",\"admin\":true,\"tenant\":\"caf\\u00e9 \\\"t\\\"\"}"))
+                .orElseThrow();
+
+        assertThat(claims.get(ISS)).hasValue("https://issuer");
+        assertThat(claims.get(AUD)).hasValue(List.of("a", "b"));
+        assertThat(claims.get(EXP)).hasValue(1459552349L);
+        assertThat(claims.get(SUB)).hasValue(UUID.fromString("c393f659-0301-434e-a9c9-72304a507ffc"));
+        assertThat(claims.get(ADMIN)).hasValue(true);
+        assertThat(claims.get(TENANT)).hasValue("café \"t\"");
+    }
+
+    @Test
+    void testSingleAudience() {
+        assertThat(EXTRACTOR.extract(jwt("{\"aud\":\"a\"}")).orElseThrow().get(AUD))
+                .hasValue(List.of("a"));
+        assertThat(EXTRACTOR.extract(jwt("{\"aud\":[]}")).orElseThrow().get(AUD))
+                .hasValue(List.of());
+    }
+
+    @Test
+    void testValuesOfOtherTypesAreAbsent() {
+        JsonWebTokenClaims claims = EXTRACTOR
+                .extract(jwt("{\"iss\":1,\"aud\":[\"a\",2,[\"b\"]],\"exp\":\"1459552349\",\"admin\":null,"
+                        + "\"tenant\":{\"a\":\"b\"},\"sub\":null}"))
+                .orElseThrow();
+
+        for (JsonWebTokenClaim<?> claim : EXTRACTOR.getClaims()) {
+            assertThat(claims.get(claim)).as(claim.getName()).isEmpty();
+        }
+    }
+
+    @Test
+    void testRejectsInvalidTokens() {
+        assertThat(EXTRACTOR.extract("Bearer not.a.jwt")).isEmpty();
+        assertThat(EXTRACTOR.extract(jwt("{\"iss\":\"a\""))).isEmpty();
+        assertThat(EXTRACTOR.extract(jwt("{\"iss\":\"\\x\"}"))).isEmpty();
+        assertThat(EXTRACTOR.extract(jwt("{\"sub\":\"AAAA\"}"))).isEmpty();
+        assertThat(EXTRACTOR.extract(null)).isEmpty();
+    }
+
+    @Test
+    void testOmitsBearerScheme() {
+        String token = jwt("{\"iss\":\"a\"}");
+        assertThat(EXTRACTOR.extract(token.substring("Bearer ".length())).flatMap(claims -> claims.get(ISS)))
+                .hasValue("a");
+    }
+
+    @Test
+    void testRejectsUndeclaredClaims() {
+        JsonWebTokenClaims claims = EXTRACTOR.extract(jwt("{}")).orElseThrow();
+        assertThat(claims.get(JsonWebTokenClaim.string("iss"))).isEmpty();
+        assertThatThrownBy(() -> claims.get(JsonWebTokenClaim.string("sid")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> claims.get(JsonWebTokenClaim.number("iss")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testRejectsDuplicateNames() {
+        assertThatThrownBy(() -> JsonWebTokenClaimExtractor.compile(ISS, JsonWebTokenClaim.number("iss")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testDoesNotAffectFixedClaims() {
+        String token = jwt("{\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\",\"iss\":\"a\"}");
+        assertThat(EXTRACTOR.extract(token)).isPresent();
+        assertThat(UnverifiedJsonWebToken.tryParse(token).map(UnverifiedJsonWebToken::getUnverifiedUserIdAsUuid))
+                .hasValue(UUID.fromString("c393f659-0301-434e-a9c9-72304a507ffc"));
+    }
+
+    @Test
+    void testMarksOnlyClaimsOfVerifiedTokensAsVerified() {
+        KeyPair key = JsonWebTokenVerifierTests.generate("EC");
+        BearerToken token = JsonWebTokenVerifierTests.sign(
+                JsonWebSignatureAlgorithm.ES256,
+                key.getPrivate(),
+                JsonWebTokenVerifierTests.header(JsonWebSignatureAlgorithm.ES256, null),
+                "{\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\",\"exp\":1459552349,\"iss\":\"a\"}");
+        JsonWebTokenVerifier verifier = JsonWebTokenVerifierTests.verifier(JsonWebKeyResolver.of(key.getPublic()));
+
+        JsonWebTokenClaims claims = verifier.tryVerifyClaims(token, EXTRACTOR).orElseThrow();
+        assertThat(claims.isVerified()).isTrue();
+        assertThat(claims.get(ISS)).hasValue("a");
+        VerifiedJsonWebTokenCache cache = VerifiedJsonWebTokenCache.create(verifier, 16, Duration.ZERO, Duration.ZERO);
+        assertThat(cache.tryVerifyClaims(token, EXTRACTOR).orElseThrow().isVerified())
+                .isTrue();
+        assertThat(EXTRACTOR.extract(token.getToken()).orElseThrow().isVerified())
+                .isFalse();
+
+        String forged = token.getToken().substring(0, token.getToken().lastIndexOf('.') + 1) + "A".repeat(86);
+        assertThat(verifier.tryVerifyClaims(BearerToken.valueOf(forged), EXTRACTOR))
+                .isEmpty();
+    }
+
+    private static String jwt(String payload) {
+        return "Bearer eyJhbGciOiJFUzI1NiJ9."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+}
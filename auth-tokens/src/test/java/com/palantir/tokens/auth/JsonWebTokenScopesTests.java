@@ -0,0 +1,113 @@
+/*
+ * (c) Copyright 2016 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+final class JsonWebTokenScopesTests {
+
+    private static final JsonWebTokenScope READ = JsonWebTokenScope.of("tests:read");
+    private static final JsonWebTokenScope WRITE = JsonWebTokenScope.of("tests:write");
+    private static final JsonWebTokenScope ADMIN = JsonWebTokenScope.of("tests:admin");
+
+    private static final JsonWebTokenClaim<JsonWebTokenScopes> SCOPE = JsonWebTokenClaim.scopes("scope");
+    private static final JsonWebTokenClaim<JsonWebTokenScopes> SCP = JsonWebTokenClaim.scopes("scp");
+    private static final JsonWebTokenClaimExtractor EXTRACTOR = JsonWebTokenClaimExtractor.compile(SCOPE, SCP);
+
+    @Test
+    void testInternsScopes() {
+        assertThat(JsonWebTokenScope.of("tests:read")).isSameAs(READ);
+        assertThat(WRITE).isNotSameAs(READ);
+        assertThatThrownBy(() -> JsonWebTokenScope.of("tests:read tests:write"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonWebTokenScope.of("")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testExtractsSpaceSeparatedScopes() {
+        JsonWebTokenScopes scopes = scopes("{\"scope\":\"tests:read  unknown tests:write\"}", SCOPE);
+
+        assertThat(scopes.contains(READ)).isTrue();
+        assertThat(scopes.contains(WRITE)).isTrue();
+        assertThat(scopes.contains(ADMIN)).isFalse();
+        assertThat(scopes.containsAll(JsonWebTokenScopes.of(READ, WRITE))).isTrue();
+        assertThat(scopes.containsAll(JsonWebTokenScopes.of(READ, ADMIN))).isFalse();
+        assertThat(scopes.containsAny(JsonWebTokenScopes.of(READ, ADMIN))).isTrue();
+        assertThat(scopes).isEqualTo(JsonWebTokenScopes.of(WRITE, READ));
+        assertThat(scopes).hasSameHashCodeAs(JsonWebTokenScopes.of(WRITE, READ));
+        assertThat(scopes).hasToString("JsonWebTokenScopes{tests:read tests:write}");
+    }
+
+    @Test
+    void testExtractsScopeArrays() {
+        assertThat(scopes("{\"scp\":[\"tests:admin\", \"unknown\", \"tests:\\u0072ead\"]}", SCP))
+                .isEqualTo(JsonWebTokenScopes.of(ADMIN, READ));
+        assertThat(scopes("{\"scp\":[]}", SCP).isEmpty()).isTrue();
+        assertThat(EXTRACTOR
+                        .extract(jwt("{\"scp\":[\"tests:admin\",1]}"))
+                        .orElseThrow()
+                        .get(SCP))
+                .isEmpty();
+        assertThat(EXTRACTOR.extract(jwt("{\"scp\":true}")).orElseThrow().get(SCP))
+                .isEmpty();
+    }
+
+    @Test
+    void testSpansMultipleWords() {
+        List<JsonWebTokenScope> many = IntStream.range(0, 200)
+                .mapToObj(i -> JsonWebTokenScope.of("tests:many:" + i))
+                .collect(Collectors.toList());
+        JsonWebTokenScopes scopes = scopes(
+                "{\"scope\":\""
+                        + many.stream().map(JsonWebTokenScope::getName).collect(Collectors.joining(" "))
+                        + "\"}",
+                SCOPE);
+
+        assertThat(many).allMatch(scopes::contains);
+        assertThat(scopes.containsAll(JsonWebTokenScopes.of(many.toArray(JsonWebTokenScope[]::new))))
+                .isTrue();
+        assertThat(scopes.contains(READ)).isFalse();
+        assertThat(JsonWebTokenScopes.of(READ).containsAll(scopes)).isFalse();
+    }
+
+    @Test
+    void testScopesInternedLater() {
+        JsonWebTokenScopes before = JsonWebTokenScopes.of(READ);
+        JsonWebTokenScope later = JsonWebTokenScope.of("tests:later");
+
+        assertThat(before.contains(later)).isFalse();
+        assertThat(before.containsAll(JsonWebTokenScopes.of(later))).isFalse();
+        assertThat(scopes("{\"scope\":\"tests:later\"}", SCOPE).contains(later)).isTrue();
+    }
+
+    private static JsonWebTokenScopes scopes(String payload, JsonWebTokenClaim<JsonWebTokenScopes> claim) {
+        return EXTRACTOR.extract(jwt(payload)).orElseThrow().get(claim).orElseThrow();
+    }
+
+    private static String jwt(String payload) {
+        return "Bearer eyJhbGciOiJFUzI1NiJ9."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+}
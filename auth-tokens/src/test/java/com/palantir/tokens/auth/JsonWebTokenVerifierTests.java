@@ -0,0 +1,339 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECFieldFp;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.EllipticCurve;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+final class JsonWebTokenVerifierTests {
+
+    private static final String USERID = "c393f659-0301-434e-a9c9-72304a507ffc";
+    private static final String SESSION_ID = "3fc663d4-3e48-4ded-ba4e-d78af98b8363";
+    private static final String ORGANIZATION_ID = "1414b6ab-cfe5-4ffd-ac00-52aa80e8909b";
+    private static final long EXPIRATION = 1459552349;
+    private static final String PAYLOAD = "{\"sub\":\"" + uuid(USERID) + "\",\"sid\":\"" + uuid(SESSION_ID)
+            + "\",\"exp\":" + EXPIRATION + ",\"iat\":1459548749.5,\"org\":\"" + uuid(ORGANIZATION_ID) + "\"}";
+    private static final Clock CLOCK = Clock.fixed(Instant.ofEpochSecond(EXPIRATION - 60), ZoneOffset.UTC);
+
+    private static final KeyPair EC_KEY = generate("EC");
+    private static final KeyPair RSA_KEY = generate("RSA");
+    private static final KeyPair ED_KEY = generate("Ed25519");
+
+    @ParameterizedTest
+    @EnumSource(JsonWebSignatureAlgorithm.class)
+    void testVerifiesToken(JsonWebSignatureAlgorithm algorithm) {
+        KeyPair key = key(algorithm);
+        JsonWebTokenVerifier verifier = verifier(JsonWebKeyResolver.of(key.getPublic()));
+        BearerToken token = sign(algorithm, key.getPrivate(), header(algorithm, null), PAYLOAD);
+
+        VerifiedJsonWebToken verified = verifier.tryVerify(token).orElseThrow();
+        assertThat(verified.getUserId()).isEqualTo(USERID);
+        assertThat(verified.getSessionId()).contains(SESSION_ID);
+        assertThat(verified.getTokenId()).isEmpty();
+        assertThat(verified.getOrganizationId()).contains(ORGANIZATION_ID);
+        assertThat(verified.getExpiresAt()).contains(Instant.ofEpochSecond(EXPIRATION));
+        assertThat(verified.getNotBefore()).isEmpty();
+        assertThat(verified.getIssuedAt()).contains(Instant.ofEpochSecond(1459548749));
+        assertThat(verified.getKeyId()).isEmpty();
+        assertThat(verified.getAlgorithm()).isEqualTo(algorithm);
+
+        // the second verification uses the cached header and initialized signature
+        assertThat(verifier.tryVerify(token)).contains(verified);
+    }
+
+    @ParameterizedTest
+    @EnumSource(JsonWebSignatureAlgorithm.class)
+    void testRejectsTamperedToken(JsonWebSignatureAlgorithm algorithm) {
+        KeyPair key = key(algorithm);
+        JsonWebTokenVerifier verifier = verifier(JsonWebKeyResolver.of(key.getPublic()));
+        String token = sign(algorithm, key.getPrivate(), header(algorithm, null), PAYLOAD)
+                .getToken();
+        String[] segments = token.split("\\.");
+        String otherPayload = encode(PAYLOAD.replace(uuid(USERID), uuid(SESSION_ID)));
+
+        assertFailure(
+                verifier,
+                segments[0] + "." + otherPayload + "." + segments[2],
+                JsonWebTokenVerificationFailure.INVALID_SIGNATURE);
+        assertFailure(
+                verifier, segments[0] + "." + segments[1] + ".", JsonWebTokenVerificationFailure.INVALID_SIGNATURE);
+        assertFailure(
+                verifier, segments[0] + "." + segments[1] + ".AAAA", JsonWebTokenVerificationFailure.INVALID_SIGNATURE);
+        assertThat(verifier.tryVerify(BearerToken.valueOf(token))).isPresent();
+    }
+
+    @Test
+    void testResolvesKeysById() {
+        JsonWebTokenVerifier verifier =
+                verifier(JsonWebKeyResolver.of(Map.of("ec", EC_KEY.getPublic(), "rsa", RSA_KEY.getPublic())));
+        JsonWebSignatureAlgorithm es256 = JsonWebSignatureAlgorithm.ES256;
+
+        BearerToken token = sign(es256, EC_KEY.getPrivate(), header(es256, "ec"), PAYLOAD);
+        assertThat(verifier.tryVerify(token).orElseThrow().getKeyId()).contains("ec");
+
+        assertFailure(
+                verifier,
+                sign(es256, EC_KEY.getPrivate(), header(es256, null), PAYLOAD),
+                JsonWebTokenVerificationFailure.UNKNOWN_KEY);
+        assertFailure(
+                verifier,
+                sign(es256, EC_KEY.getPrivate(), header(es256, "other"), PAYLOAD),
+                JsonWebTokenVerificationFailure.UNKNOWN_KEY);
+        assertFailure(
+                verifier,
+                sign(es256, EC_KEY.getPrivate(), header(es256, "rsa"), PAYLOAD),
+                JsonWebTokenVerificationFailure.INVALID_KEY);
+    }
+
+    @Test
+    void testRejectsAlgorithmNotMatchingKey() {
+        JsonWebTokenVerifier verifier = verifier(JsonWebKeyResolver.of(EC_KEY.getPublic()));
+        JsonWebSignatureAlgorithm rs256 = JsonWebSignatureAlgorithm.RS256;
+
+        assertFailure(
+                verifier,
+                sign(rs256, RSA_KEY.getPrivate(), header(rs256, null), PAYLOAD),
+                JsonWebTokenVerificationFailure.INVALID_KEY);
+    }
+
+    @Test
+    void testRejectsEcKeysOnOtherCurves() {
+        // secp256k1 is a different curve over a 256-bit field, which the JDK can no longer generate keys for
+        ECParameterSpec secp256k1 = new ECParameterSpec(
+                new EllipticCurve(
+                        new ECFieldFp(hex("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEFFFFFC2F")),
+                        BigInteger.ZERO,
+                        BigInteger.valueOf(7)),
+                new ECPoint(
+                        hex("79BE667EF9DCBBAC55A06295CE870B07029BFCDB2DCE28D959F2815B16F81798"),
+                        hex("483ADA7726A3C4655DA4FBFC0E1108A8FD17B448A68554199C47D08FFB10D4B8")),
+                hex("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEBAAEDCE6AF48A03BBFD25E8CD0364141"),
+                1);
+        ECPublicKey key = new TestEcPublicKey(secp256k1.getGenerator(), secp256k1);
+        JsonWebSignatureAlgorithm es256 = JsonWebSignatureAlgorithm.ES256;
+
+        assertThat(es256.supportsKey(EC_KEY.getPublic())).isTrue();
+        assertThat(es256.supportsKey(key)).isFalse();
+        assertFailure(
+                verifier(JsonWebKeyResolver.of(key)),
+                sign(es256, EC_KEY.getPrivate(), header(es256, null), PAYLOAD),
+                JsonWebTokenVerificationFailure.INVALID_KEY);
+    }
+
+    @Test
+    void testRejectsInvalidHeaders() {
+        JsonWebTokenVerifier verifier = verifier(JsonWebKeyResolver.of(EC_KEY.getPublic()));
+        String rest = "." + encode(PAYLOAD) + ".AAAA";
+
+        assertFailure(verifier, "a.b", JsonWebTokenVerificationFailure.INVALID_SEGMENT_COUNT);
+        assertFailure(verifier, "a.b.c.d", JsonWebTokenVerificationFailure.INVALID_SEGMENT_COUNT);
+        assertFailure(
+                verifier, encode("{\"alg\":\"none\"}") + rest, JsonWebTokenVerificationFailure.UNSUPPORTED_ALGORITHM);
+        assertFailure(
+                verifier, encode("{\"alg\":\"HS256\"}") + rest, JsonWebTokenVerificationFailure.UNSUPPORTED_ALGORITHM);
+        assertFailure(verifier, encode("{\"typ\":\"JWT\"}") + rest, JsonWebTokenVerificationFailure.INVALID_HEADER);
+        assertFailure(
+                verifier,
+                encode("{\"alg\":\"ES256\",\"crit\":[\"exp\"]}") + rest,
+                JsonWebTokenVerificationFailure.INVALID_HEADER);
+        assertFailure(
+                verifier,
+                encode("{\"alg\":\"ES256\",\"kid\":1}") + rest,
+                JsonWebTokenVerificationFailure.INVALID_HEADER);
+        assertFailure(verifier, encode("[]") + rest, JsonWebTokenVerificationFailure.INVALID_HEADER);
+        assertFailure(verifier, "e30~" + rest, JsonWebTokenVerificationFailure.INVALID_HEADER);
+    }
+
+    @Test
+    void testRejectsInvalidClaims() {
+        JsonWebTokenVerifier verifier = verifier(JsonWebKeyResolver.of(EC_KEY.getPublic()));
+        JsonWebSignatureAlgorithm es256 = JsonWebSignatureAlgorithm.ES256;
+
+        assertFailure(
+                verifier,
+                sign(es256, EC_KEY.getPrivate(), header(es256, null), "{\"sid\":\"" + uuid(SESSION_ID) + "\"}"),
+                JsonWebTokenVerificationFailure.INVALID_CLAIMS);
+    }
+
+    @Test
+    void testRejectsExpiredTokens() {
+        JsonWebSignatureAlgorithm es256 = JsonWebSignatureAlgorithm.ES256;
+        BearerToken token = sign(es256, EC_KEY.getPrivate(), header(es256, null), PAYLOAD);
+        JsonWebKeyResolver keys = JsonWebKeyResolver.of(EC_KEY.getPublic());
+
+        Clock beforeExpiry = Clock.fixed(Instant.ofEpochSecond(EXPIRATION).minusMillis(1), ZoneOffset.UTC);
+        assertThat(JsonWebTokenVerifier.create(keys, beforeExpiry).tryVerify(token))
+                .isPresent();
+        Clock atExpiry = Clock.fixed(Instant.ofEpochSecond(EXPIRATION), ZoneOffset.UTC);
+        assertFailure(JsonWebTokenVerifier.create(keys, atExpiry), token, JsonWebTokenVerificationFailure.EXPIRED);
+        assertFailure(JsonWebTokenVerifier.create(keys), token, JsonWebTokenVerificationFailure.EXPIRED);
+    }
+
+    @Test
+    void testRejectsTokensNotYetValid() {
+        JsonWebSignatureAlgorithm es256 = JsonWebSignatureAlgorithm.ES256;
+        long notBefore = EXPIRATION - 3600;
+        BearerToken token = sign(
+                es256,
+                EC_KEY.getPrivate(),
+                header(es256, null),
+                "{\"sub\":\"" + uuid(USERID) + "\",\"nbf\":" + notBefore + ",\"exp\":" + EXPIRATION + "}");
+        JsonWebKeyResolver keys = JsonWebKeyResolver.of(EC_KEY.getPublic());
+
+        Clock beforeNotBefore = Clock.fixed(Instant.ofEpochSecond(notBefore).minusMillis(1), ZoneOffset.UTC);
+        assertFailure(
+                JsonWebTokenVerifier.create(keys, beforeNotBefore),
+                token,
+                JsonWebTokenVerificationFailure.NOT_YET_VALID);
+        Clock atNotBefore = Clock.fixed(Instant.ofEpochSecond(notBefore), ZoneOffset.UTC);
+        assertThat(JsonWebTokenVerifier.create(keys, atNotBefore).tryVerify(token))
+                .hasValueSatisfying(
+                        verified -> assertThat(verified.getNotBefore()).contains(Instant.ofEpochSecond(notBefore)));
+    }
+
+    static JsonWebTokenVerifier verifier(JsonWebKeyResolver keys) {
+        return JsonWebTokenVerifier.create(keys, CLOCK);
+    }
+
+    private static void assertFailure(
+            JsonWebTokenVerifier verifier, String token, JsonWebTokenVerificationFailure failure) {
+        assertFailure(verifier, BearerToken.valueOf(token), failure);
+    }
+
+    private static void assertFailure(
+            JsonWebTokenVerifier verifier, BearerToken token, JsonWebTokenVerificationFailure failure) {
+        JsonWebTokenVerificationResult result = verifier.verify(token);
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getFailure()).contains(failure);
+        assertThat(verifier.tryVerify(token)).isEmpty();
+    }
+
+    private static KeyPair key(JsonWebSignatureAlgorithm algorithm) {
+        switch (algorithm) {
+            case ES256:
+                return EC_KEY;
+            case RS256:
+                return RSA_KEY;
+            case EDDSA:
+                return ED_KEY;
+        }
+        throw new IllegalArgumentException();
+    }
+
+    static String header(JsonWebSignatureAlgorithm algorithm, String keyId) {
+        return "{\"alg\":\"" + algorithm.getName() + "\"" + (keyId == null ? "" : ",\"kid\":\"" + keyId + "\"") + "}";
+    }
+
+    static BearerToken sign(JsonWebSignatureAlgorithm algorithm, PrivateKey key, String header, String payload) {
+        String input = encode(header) + "." + encode(payload);
+        try {
+            Signature signature = Signature.getInstance(algorithm.signatureAlgorithm());
+            signature.initSign(key);
+            signature.update(input.getBytes(StandardCharsets.US_ASCII));
+            return BearerToken.valueOf(
+                    input + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature.sign()));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String uuid(String value) {
+        UUID uuid = UUID.fromString(value);
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    private static BigInteger hex(String value) {
+        return new BigInteger(value, 16);
+    }
+
+    static KeyPair generate(String algorithm) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm);
+            if (algorithm.equals("EC")) {
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+            } else if (algorithm.equals("RSA")) {
+                generator.initialize(2048);
+            }
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class TestEcPublicKey implements ECPublicKey {
+        private final ECPoint point;
+        private final ECParameterSpec params;
+
+        TestEcPublicKey(ECPoint point, ECParameterSpec params) {
+            this.point = point;
+            this.params = params;
+        }
+
+        @Override
+        public ECPoint getW() {
+            return point;
+        }
+
+        @Override
+        public ECParameterSpec getParams() {
+            return params;
+        }
+
+        @Override
+        public String getAlgorithm() {
+            return "EC";
+        }
+
+        @Override
+        public String getFormat() {
+            return null;
+        }
+
+        @Override
+        public byte[] getEncoded() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * (c) Copyright 2016 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class UnverifiedJsonWebTokenBatchTests {
+
+    private static final String SESSION_TOKEN = "Bearer eyJhbGciOiJFUzI1NiJ9."
+            + "eyJleHAiOjE0NTk1NTIzNDksInNpZCI6IlA4WmoxRDVJVGUyNlR0Z"
+            + "UsrWXVEWXc9PSIsInN1YiI6Inc1UDJXUU1CUTA2cHlYSXdTbEIvL0E9PSJ9"
+            + ".XwPO_EEDVj6BBLScuf70_CH4jyI1ECmgVSoXLHpGlK-yIqm8MyUyFyNQTu8jh9kYheW-zBl64gmTnatkjjDH1A";
+    private static final UUID USER_ID = UUID.fromString("c393f659-0301-434e-a9c9-72304a507ffc");
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void after() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void testMatchesSequentialParsing() {
+        List<String> headers = headers(10_000);
+
+        UnverifiedJsonWebTokenBatch batch = UnverifiedJsonWebTokenBatch.parse(headers, pool);
+
+        assertThat(batch.size()).isEqualTo(headers.size());
+        for (int i = 0; i < headers.size(); i++) {
+            UnverifiedJsonWebTokenParseResult expected = UnverifiedJsonWebToken.parse(headers.get(i));
+            assertThat(batch.get(i)).isEqualTo(expected.getToken());
+            assertThat(batch.getFailure(i)).isEqualTo(expected.getFailure());
+            assertThat(batch.isParsed(i)).isEqualTo(expected.isSuccess());
+        }
+        assertThat(batch.failureCount()).isEqualTo(headers.size() / 3 + 1);
+    }
+
+    @Test
+    void testColumns() {
+        String organizationToken = jwt("{\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\",\"org\":\"P8Zj1D5ITe26TteK+YuDYw==\"}");
+        UnverifiedJsonWebTokenBatch batch =
+                UnverifiedJsonWebTokenBatch.parse(List.of(SESSION_TOKEN, "Bearer not.a.jwt", organizationToken));
+
+        assertThat(batch.getUserIdMostSignificantBits(0)).isEqualTo(USER_ID.getMostSignificantBits());
+        assertThat(batch.getUserIdLeastSignificantBits(0)).isEqualTo(USER_ID.getLeastSignificantBits());
+        assertThat(batch.hasSessionId(0)).isTrue();
+        assertThat(new UUID(batch.getSessionIdMostSignificantBits(0), batch.getSessionIdLeastSignificantBits(0)))
+                .isEqualTo(UnverifiedJsonWebToken.tryParse(SESSION_TOKEN)
+                        .flatMap(UnverifiedJsonWebToken::getUnverifiedSessionIdAsUuid)
+                        .orElseThrow());
+        assertThat(batch.hasOrganizationId(0)).isFalse();
+        assertThat(batch.hasTokenId(0)).isFalse();
+
+        assertThat(batch.isParsed(1)).isFalse();
+        assertThat(batch.hasSessionId(1)).isFalse();
+        assertThat(batch.getUserIdMostSignificantBits(1)).isZero();
+
+        assertThat(batch.hasOrganizationId(2)).isTrue();
+        assertThat(batch.getOrganizationIdMostSignificantBits(2)).isEqualTo(batch.getSessionIdMostSignificantBits(0));
+        assertThat(batch.getOrganizationIdLeastSignificantBits(2)).isEqualTo(batch.getSessionIdLeastSignificantBits(0));
+    }
+
+    @Test
+    void testIteratesFailures() {
+        List<String> headers = headers(200);
+        UnverifiedJsonWebTokenBatch batch = UnverifiedJsonWebTokenBatch.parse(headers, pool);
+
+        List<Integer> failures = new ArrayList<>();
+        for (int i = batch.nextFailure(0); i >= 0; i = batch.nextFailure(i + 1)) {
+            failures.add(i);
+        }
+        assertThat(failures)
+                .isEqualTo(
+                        IntStream.range(0, 200).filter(i -> i % 3 == 0).boxed().collect(Collectors.toList()));
+        assertThat(batch.nextFailure(200)).isEqualTo(-1);
+        assertThat(batch.nextFailure(199)).isEqualTo(-1);
+    }
+
+    @Test
+    void testParsesStreams() {
+        List<String> headers = headers(5_000);
+        Iterable<String> unsized = headers::iterator;
+
+        UnverifiedJsonWebTokenBatch fromStream = UnverifiedJsonWebTokenBatch.parse(headers.stream(), pool);
+        UnverifiedJsonWebTokenBatch fromSpliterator = UnverifiedJsonWebTokenBatch.parse(unsized.spliterator(), pool);
+
+        for (int i = 0; i < headers.size(); i++) {
+            Optional<UnverifiedJsonWebToken> expected = UnverifiedJsonWebToken.tryParse(headers.get(i));
+            assertThat(fromStream.get(i)).isEqualTo(expected);
+            assertThat(fromSpliterator.get(i)).isEqualTo(expected);
+        }
+        assertThat(UnverifiedJsonWebTokenBatch.parse(Stream.<String>empty(), pool)
+                        .size())
+                .isZero();
+    }
+
+    /** Returns headers in which every third header, starting with the first, cannot be parsed. */
+    private static List<String> headers(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> i % 3 == 0
+                        ? "Bearer invalid." + i
+                        : jwt("{\"sub\":\"" + Base64.getEncoder().encodeToString(bytes(i)) + "\",\"jti\":\""
+                                + Base64.getEncoder().encodeToString(bytes(-i)) + "\"}"))
+                .collect(Collectors.toList());
+    }
+
+    private static byte[] bytes(int seed) {
+        UUID uuid = new UUID(seed * 0x9E3779B97F4A7C15L, seed);
+        byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (uuid.getMostSignificantBits() >>> (56 - 8 * i));
+            bytes[i + 8] = (byte) (uuid.getLeastSignificantBits() >>> (56 - 8 * i));
+        }
+        return bytes;
+    }
+
+    private static String jwt(String payload) {
+        return "Bearer eyJhbGciOiJFUzI1NiJ9."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+}
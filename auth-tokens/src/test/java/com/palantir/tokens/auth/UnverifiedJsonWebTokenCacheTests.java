@@ -0,0 +1,173 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.tokens.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+final class UnverifiedJsonWebTokenCacheTests {
+
+    private static final String SESSION_TOKEN = "Bearer eyJhbGciOiJFUzI1NiJ9."
+            + "eyJleHAiOjE0NTk1NTIzNDksInNpZCI6IlA4WmoxRDVJVGUyNlR0Z"
+            + "UsrWXVEWXc9PSIsInN1YiI6Inc1UDJXUU1CUTA2cHlYSXdTbEIvL0E9PSJ9"
+            + ".XwPO_EEDVj6BBLScuf70_CH4jyI1ECmgVSoXLHpGlK-yIqm8MyUyFyNQTu8jh9kYheW-zBl64gmTnatkjjDH1A";
+
+    @Test
+    void testReturnsCachedToken() {
+        UnverifiedJsonWebTokenCache cache = UnverifiedJsonWebTokenCache.create(16);
+
+        Optional<UnverifiedJsonWebToken> first = cache.tryParse(SESSION_TOKEN);
+        Optional<UnverifiedJsonWebToken> second = cache.tryParse(SESSION_TOKEN);
+
+        assertThat(first).isEqualTo(UnverifiedJsonWebToken.tryParse(SESSION_TOKEN));
+        assertThat(second).isSameAs(first);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testDoesNotCacheInvalidTokens() {
+        UnverifiedJsonWebTokenCache cache = UnverifiedJsonWebTokenCache.create(16);
+
+        assertThat(cache.tryParse("Bearer not.a.jwt")).isEmpty();
+        assertThat(cache.tryParse("Bearer not.a.jwt")).isEmpty();
+
+        assertThat(cache.missCount()).isEqualTo(2);
+        assertThat(cache.hitCount()).isZero();
+    }
+
+    @Test
+    void testDistinguishesTokens() {
+        UnverifiedJsonWebTokenCache cache = UnverifiedJsonWebTokenCache.create(16);
+
+        assertThat(cache.tryParse(SESSION_TOKEN)).isPresent();
+        assertThat(cache.tryParse(SESSION_TOKEN + "A")).isPresent();
+        assertThat(cache.tryParse(SESSION_TOKEN.replace("_EEDVj", "_EEDVk"))).isPresent();
+
+        assertThat(cache.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testFingerprintsWithSipHash() {
+        // Reference vectors of SipHash-2-4 for the key and messages formed of the bytes 0, 1, 2, ...
+        long key0 = 0x0706050403020100L;
+        long key1 = 0x0f0e0d0c0b0a0908L;
+        assertThat(TokenFingerprinter.sipHash(littleEndianBytes(0), key0, key1)).isEqualTo(0x726fdb47dd0e0e31L);
+        assertThat(TokenFingerprinter.sipHash(littleEndianBytes(4), key0, key1)).isEqualTo(0x93f5f5799a932462L);
+        assertThat(TokenFingerprinter.sipHash(littleEndianBytes(7), key0, key1)).isEqualTo(0xf723ca908e7af2eeL);
+    }
+
+    @Test
+    void testDoesNotReturnResultForCraftedHeader() {
+        // A Thue-Morse difference pattern of 2^11 characters in every fourth character makes these headers collide
+        // under any seeded polynomial hash modulo 2^64 which reads every fourth character into one lane
+        StringBuilder valid = new StringBuilder(SESSION_TOKEN.substring(0, SESSION_TOKEN.lastIndexOf('.') + 1));
+        while (valid.length() % 4 != 0) {
+            valid.append('A');
+        }
+        StringBuilder malformed = new StringBuilder(valid);
+        for (int index = 0; index < 4 << 11; index++) {
+            boolean positive = Integer.bitCount(index / 4) % 2 == 0;
+            valid.append(positive ? 'b' : '-');
+            malformed.append(positive ? 'a' : '.');
+        }
+        TokenFingerprinter fingerprinter = new TokenFingerprinter();
+        assertThat(fingerprinter.high(malformed.toString())).isNotEqualTo(fingerprinter.high(valid.toString()));
+        assertThat(fingerprinter.low(malformed.toString())).isNotEqualTo(fingerprinter.low(valid.toString()));
+
+        UnverifiedJsonWebTokenCache cache = UnverifiedJsonWebTokenCache.create(16);
+        assertThat(cache.tryParse(valid.toString())).isPresent();
+        assertThat(cache.tryParse(malformed.toString())).isEmpty();
+        assertThat(cache.hitCount()).isZero();
+        assertThat(cache.tryParse(valid.toString())).isPresent();
+        assertThat(cache.hitCount()).isOne();
+    }
+
+    @Test
+    void testBoundedSize() {
+        FingerprintTable<Integer> table = new FingerprintTable<>(100);
+        assertThat(table.capacity()).isEqualTo(64);
+
+        for (int i = 0; i < 10_000; i++) {
+            table.put(i * 0x9E3779B97F4A7C15L, i, i);
+            assertThat(table.get(i * 0x9E3779B97F4A7C15L, i)).isEqualTo(i);
+        }
+        assertThat(table.size()).isEqualTo(table.capacity());
+    }
+
+    @Test
+    void testEvictsUnreferencedEntries() {
+        FingerprintTable<Integer> table = new FingerprintTable<>(FingerprintTable.WAYS);
+        for (int i = 0; i < FingerprintTable.WAYS; i++) {
+            table.put(0, i, i);
+        }
+        table.get(0, 0);
+        table.get(0, 1);
+        table.get(0, 3);
+        table.put(0, 100, 100);
+
+        assertThat(table.get(0, 2)).isNull();
+        assertThat(table.get(0, 0)).isZero();
+        assertThat(table.get(0, 1)).isEqualTo(1);
+        assertThat(table.get(0, 3)).isEqualTo(3);
+        assertThat(table.get(0, 100)).isEqualTo(100);
+        assertThat(table.size()).isEqualTo(FingerprintTable.WAYS);
+    }
+
+    @Test
+    void testRejectsTooSmallCaches() {
+        assertThatThrownBy(() -> UnverifiedJsonWebTokenCache.create(3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+        UnverifiedJsonWebTokenCache cache = UnverifiedJsonWebTokenCache.create(16);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = IntStream.range(0, 4)
+                    .mapToObj(_i -> executor.submit(() -> {
+                        for (int j = 0; j < 1_000; j++) {
+                            assertThat(cache.tryParse(SESSION_TOKEN)).isPresent();
+                        }
+                    }))
+                    .toArray(Future<?>[]::new);
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(cache.hitCount() + cache.missCount()).isEqualTo(4_000);
+        assertThat(cache.missCount()).isLessThanOrEqualTo(4);
+    }
+
+    /** Returns the string of {@code length} characters whose UTF-16LE encoding is the bytes 0, 1, 2, ... */
+    private static String littleEndianBytes(int length) {
+        char[] chars = new char[length];
+        for (int index = 0; index < length; index++) {
+            chars[index] = (char) (index * 2 | (index * 2 + 1) << 8);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+final class UnverifiedJsonWebTokenDatesTests {
+
+    private static final String SESSION_TOKEN = "Bearer eyJhbGciOiJFUzI1NiJ9."
+            + "eyJleHAiOjE0NTk1NTIzNDksInNpZCI6IlA4WmoxRDVJVGUyNlR0Z"
+            + "UsrWXVEWXc9PSIsInN1YiI6Inc1UDJXUU1CUTA2cHlYSXdTbEIvL0E9PSJ9"
+            + ".XwPO_EEDVj6BBLScuf70_CH4jyI1ECmgVSoXLHpGlK-yIqm8MyUyFyNQTu8jh9kYheW-zBl64gmTnatkjjDH1A";
+    private static final long EXPIRATION = 1459552349;
+
+    @Test
+    void testReadsDates() {
+        String token = jwt("{\"iat\":1459548749.25,\"nbf\":1459548700,\"exp\":1459552349,\"sub\":\"not a uuid\"}");
+
+        assertThat(UnverifiedJsonWebTokenDates.getExpiration(token)).isEqualTo(EXPIRATION);
+        assertThat(UnverifiedJsonWebTokenDates.getNotBefore(token)).isEqualTo(1459548700);
+        assertThat(UnverifiedJsonWebTokenDates.getIssuedAt(token)).isEqualTo(1459548749);
+        assertThat(UnverifiedJsonWebTokenDates.getExpiration(SESSION_TOKEN)).isEqualTo(EXPIRATION);
+        assertThat(UnverifiedJsonWebTokenDates.getExpiration(SESSION_TOKEN.substring("Bearer ".length())))
+                .isEqualTo(EXPIRATION);
+        assertThat(UnverifiedJsonWebTokenDates.getNotBefore(SESSION_TOKEN))
+                .isEqualTo(UnverifiedJsonWebTokenDates.ABSENT);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = '|',
+            value = {
+                "{\"exp\":\"1459552349\"}",
+                "{\"exp\":1.459552349E9}",
+                "{\"exp\":1459552349.}",
+                "{\"exp\":1234567890123456789}",
+                "{\"exp\":null}",
+                "{\"exp\":[1459552349]}",
+                "{\"nbf\":1459552349}",
+            })
+    void testIgnoresUnsupportedValues(String payload) {
+        assertThat(UnverifiedJsonWebTokenDates.getExpiration(jwt(payload)))
+                .isEqualTo(UnverifiedJsonWebTokenDates.ABSENT);
+        // the claims parsed by UnverifiedJsonWebToken are unaffected
+        assertThat(UnverifiedJsonWebToken.parse(jwt(payload.replace("{", "{\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\",")))
+                        .isSuccess())
+                .isTrue();
+    }
+
+    @Test
+    void testIgnoresInvalidTokens() {
+        assertThat(UnverifiedJsonWebTokenDates.getExpiration("Bearer not.a.jwt"))
+                .isEqualTo(UnverifiedJsonWebTokenDates.ABSENT);
+        assertThat(UnverifiedJsonWebTokenDates.getExpiration("Basic " + SESSION_TOKEN.substring(7)))
+                .isEqualTo(UnverifiedJsonWebTokenDates.ABSENT);
+        assertThat(UnverifiedJsonWebTokenDates.getExpiration(jwt("{\"exp\":1459552349")))
+                .isEqualTo(UnverifiedJsonWebTokenDates.ABSENT);
+        assertThat(UnverifiedJsonWebTokenDates.getExpiration(null)).isEqualTo(UnverifiedJsonWebTokenDates.ABSENT);
+        assertThat(UnverifiedJsonWebTokenDates.isExpired("Bearer not.a.jwt", Instant.MAX, Duration.ZERO))
+                .isFalse();
+    }
+
+    @Test
+    void testIsExpired() {
+        Instant expiration = Instant.ofEpochSecond(EXPIRATION);
+        Duration skew = Duration.ofMillis(1500);
+
+        assertThat(UnverifiedJsonWebTokenDates.isExpired(SESSION_TOKEN, expiration.minusNanos(1), Duration.ZERO))
+                .isFalse();
+        assertThat(UnverifiedJsonWebTokenDates.isExpired(SESSION_TOKEN, expiration, Duration.ZERO))
+                .isTrue();
+        assertThat(UnverifiedJsonWebTokenDates.isExpired(
+                        SESSION_TOKEN, expiration.plus(skew).minusNanos(1), skew))
+                .isFalse();
+        assertThat(UnverifiedJsonWebTokenDates.isExpired(SESSION_TOKEN, expiration.plus(skew), skew))
+                .isTrue();
+        assertThat(UnverifiedJsonWebTokenDates.isExpired(SESSION_TOKEN, expiration.minusSeconds(1), skew.negated()))
+                .isTrue();
+        assertThat(UnverifiedJsonWebTokenDates.isExpired(SESSION_TOKEN, Instant.MIN, Duration.ZERO))
+                .isFalse();
+    }
+
+    private static String jwt(String payload) {
+        return "Bearer eyJhbGciOiJFUzI1NiJ9."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+}
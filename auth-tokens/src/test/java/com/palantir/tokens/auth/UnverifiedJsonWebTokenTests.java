@@ -18,10 +18,19 @@ package com.palantir.tokens.auth;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.testing.Assertions;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
 final class UnverifiedJsonWebTokenTests {
@@ -73,6 +82,122 @@ final class UnverifiedJsonWebTokenTests {
         assertThat(tryToken).contains(token);
     }
 
+    @Test
+    void testAsJwt_uuidClaims() {
+        UnverifiedJsonWebToken token = UnverifiedJsonWebToken.of(ALL_CLAIMS_TOKEN);
+        UUID userId = UUID.fromString(USERID);
+        assertThat(token.getUnverifiedUserIdAsUuid()).isEqualTo(userId);
+        assertThat(token.getUnverifiedUserIdMostSignificantBits()).isEqualTo(userId.getMostSignificantBits());
+        assertThat(token.getUnverifiedUserIdLeastSignificantBits()).isEqualTo(userId.getLeastSignificantBits());
+        assertThat(token.getUnverifiedSessionIdAsUuid()).contains(UUID.fromString(SESSION_ID));
+        assertThat(token.getUnverifiedTokenIdAsUuid()).contains(UUID.fromString(TOKEN_ID));
+        assertThat(token.getUnverifiedOrganizationIdAsUuid()).contains(UUID.fromString(ORGANIZATION_ID));
+
+        UnverifiedJsonWebToken requiredClaims = UnverifiedJsonWebToken.of(REQUIRED_CLAIMS_TOKEN);
+        assertThat(requiredClaims.getUnverifiedUserIdAsUuid()).isEqualTo(userId);
+        assertThat(requiredClaims.getUnverifiedSessionIdAsUuid()).isEmpty();
+        assertThat(requiredClaims.getUnverifiedTokenIdAsUuid()).isEmpty();
+        assertThat(requiredClaims.getUnverifiedOrganizationIdAsUuid()).isEmpty();
+    }
+
+    @Test
+    void testAsJwt_claimPredicates() {
+        UnverifiedJsonWebToken token = UnverifiedJsonWebToken.of(ALL_CLAIMS_TOKEN);
+        UUID userId = UUID.fromString(USERID);
+        UUID other = UUID.fromString(ORGANIZATION_ID);
+        assertThat(token.hasUnverifiedUserId(userId)).isTrue();
+        assertThat(token.hasUnverifiedUserId(userId.getMostSignificantBits(), userId.getLeastSignificantBits()))
+                .isTrue();
+        assertThat(token.hasUnverifiedUserId(userId.getMostSignificantBits(), other.getLeastSignificantBits()))
+                .isFalse();
+        assertThat(token.hasUnverifiedUserId(other)).isFalse();
+        assertThat(token.hasUnverifiedSessionId(UUID.fromString(SESSION_ID))).isTrue();
+        assertThat(token.hasUnverifiedTokenId(UUID.fromString(TOKEN_ID))).isTrue();
+        assertThat(token.hasUnverifiedOrganizationId(other)).isTrue();
+        assertThat(token.hasUnverifiedSessionId(other)).isFalse();
+
+        UnverifiedJsonWebToken requiredClaims = UnverifiedJsonWebToken.of(REQUIRED_CLAIMS_TOKEN);
+        assertThat(requiredClaims.hasUnverifiedUserId(userId)).isTrue();
+        assertThat(requiredClaims.hasUnverifiedSessionId(0L, 0L)).isFalse();
+        assertThat(requiredClaims.hasUnverifiedTokenId(0L, 0L)).isFalse();
+        assertThat(requiredClaims.hasUnverifiedOrganizationId(new UUID(0L, 0L))).isFalse();
+    }
+
+    @Test
+    void testAsJwt_claimsAreMemoized() {
+        UnverifiedJsonWebToken token = UnverifiedJsonWebToken.of(ALL_CLAIMS_TOKEN);
+        assertThat(token.getUnverifiedUserId()).isSameAs(token.getUnverifiedUserId());
+        assertThat(token.getUnverifiedSessionId()).isSameAs(token.getUnverifiedSessionId());
+        assertThat(token.toString())
+                .isEqualTo("UnverifiedJsonWebToken{unverifiedUserId=" + USERID + ", unverifiedSessionId=" + SESSION_ID
+                        + ", unverifiedTokenId=" + TOKEN_ID + ", unverifiedOrganizationId=" + ORGANIZATION_ID + "}");
+        assertThat(UnverifiedJsonWebToken.of(REQUIRED_CLAIMS_TOKEN).toString())
+                .isEqualTo("UnverifiedJsonWebToken{unverifiedUserId=" + USERID + "}");
+    }
+
+    @Test
+    void testAsJwt_nullClaimEqualsAbsentClaim() {
+        UnverifiedJsonWebToken token = UnverifiedJsonWebToken.of(
+                jwt("{\"sid\":\"P8Zj1D5ITe26TteK+YuDYw==\",\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\",\"sid\":null}"));
+        assertThat(token).isEqualTo(UnverifiedJsonWebToken.of(REQUIRED_CLAIMS_TOKEN));
+        assertThat(token).hasSameHashCodeAs(UnverifiedJsonWebToken.of(REQUIRED_CLAIMS_TOKEN));
+    }
+
+    @Test
+    void testAsJwt_fromRegion() {
+        UnverifiedJsonWebToken token = UnverifiedJsonWebToken.of(ALL_CLAIMS_TOKEN);
+        String header = "x: Bearer " + ALL_CLAIMS_TOKEN.getToken() + "\r\n";
+        byte[] bytes = header.getBytes(StandardCharsets.US_ASCII);
+        int end = header.length() - 2;
+
+        assertThat(UnverifiedJsonWebToken.tryParse(header, 3, end)).contains(token);
+        assertThat(UnverifiedJsonWebToken.tryParse(bytes, 3, end - 3)).contains(token);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        assertThat(UnverifiedJsonWebToken.tryParse(direct, 3, end - 3)).contains(token);
+        assertThat(direct.position()).isZero();
+
+        assertThat(UnverifiedJsonWebToken.tryParse(header, 3, end - 1)).contains(token);
+        assertThat(UnverifiedJsonWebToken.tryParse(header, 0, end)).isEmpty();
+        assertThat(UnverifiedJsonWebToken.tryParse(bytes, 3, end - 2)).isEmpty();
+    }
+
+    @Test
+    void testAsJwt_fromBearerToken() {
+        assertThat(UnverifiedJsonWebToken.tryParse(ALL_CLAIMS_TOKEN))
+                .contains(UnverifiedJsonWebToken.of(ALL_CLAIMS_TOKEN));
+        assertThat(UnverifiedJsonWebToken.tryParse(INVALID_BEARER_TOKEN)).isEmpty();
+        assertThat(UnverifiedJsonWebToken.tryParse(INVALID_PAYLOAD_TOKEN)).isEmpty();
+    }
+
+    @Test
+    void testParse_success() {
+        UnverifiedJsonWebTokenParseResult result = UnverifiedJsonWebToken.parse("Bearer " + ALL_CLAIMS_TOKEN);
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getToken()).contains(UnverifiedJsonWebToken.of(ALL_CLAIMS_TOKEN));
+        assertThat(result.getFailure()).isEmpty();
+    }
+
+    @Test
+    void testParse_failures() {
+        assertParseFailure("Bearer", UnverifiedJsonWebTokenParseFailure.INVALID_SEGMENT_COUNT);
+        assertParseFailure("a.b.c.d", UnverifiedJsonWebTokenParseFailure.INVALID_SEGMENT_COUNT);
+        assertParseFailure("Bearer a b.c.d", UnverifiedJsonWebTokenParseFailure.INVALID_BEARER_TOKEN);
+        assertParseFailure("Bearer =a.b.c", UnverifiedJsonWebTokenParseFailure.INVALID_BEARER_TOKEN);
+        assertParseFailure(INVALID_ENCODING_TOKEN.getToken(), UnverifiedJsonWebTokenParseFailure.INVALID_BASE64);
+        assertParseFailure(INVALID_PAYLOAD_TOKEN.getToken(), UnverifiedJsonWebTokenParseFailure.INVALID_JSON);
+        assertParseFailure(
+                jwt("{\"sub\":\"w5P2WQMBQ06pyXIwSl*//A==\"}").getToken(),
+                UnverifiedJsonWebTokenParseFailure.INVALID_BASE64);
+        assertParseFailure(
+                jwt("{\"sub\":\"w5P2WQMB\",").getToken(), UnverifiedJsonWebTokenParseFailure.INVALID_UUID_LENGTH);
+        assertParseFailure(
+                jwt("{\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\",").getToken(),
+                UnverifiedJsonWebTokenParseFailure.INVALID_JSON);
+        assertParseFailure(
+                jwt("{\"sid\":\"w5P2WQMBQ06pyXIwSlB//A==\"}").getToken(),
+                UnverifiedJsonWebTokenParseFailure.MISSING_SUBJECT);
+    }
+
     @Test
     void invalidJwt_parseReturnsEmpty() {
         Optional<UnverifiedJsonWebToken> parsedJwt = UnverifiedJsonWebToken.tryParse(INVALID_BEARER_TOKEN.getToken());
@@ -98,7 +223,7 @@ final class UnverifiedJsonWebTokenTests {
         Assertions.assertThatLoggableExceptionThrownBy(() -> UnverifiedJsonWebToken.of(INVALID_ENCODING_TOKEN))
                 .hasLogMessage("Invalid JWT: cannot parse payload")
                 .hasNoArgs()
-                .hasCauseInstanceOf(IllegalArgumentException.class);
+                .hasNoCause();
     }
 
     @Test
@@ -106,6 +231,114 @@ final class UnverifiedJsonWebTokenTests {
         Assertions.assertThatLoggableExceptionThrownBy(() -> UnverifiedJsonWebToken.of(INVALID_PAYLOAD_TOKEN))
                 .hasLogMessage("Invalid JWT: cannot parse payload")
                 .hasNoArgs()
-                .hasCauseInstanceOf(IOException.class);
+                .hasNoCause();
+    }
+
+    @Test
+    void testAsJwt_ignoresUnknownClaims() {
+        UnverifiedJsonWebToken token = UnverifiedJsonWebToken.of(jwt("{\"aud\":[\"a\",{\"b\":\"}\"}],"
+                + "\"exp\":1.5e3, \"admin\" : false,\"name\":\"\\\"sub\\\"\",\"nested\":{\"sub\":null},"
+                + "\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\",\"sid\":null}"));
+        assertThat(token.getUnverifiedUserId()).isEqualTo(USERID);
+        assertThat(token.getUnverifiedSessionId()).isEmpty();
+    }
+
+    @Test
+    void testAsJwt_escapedAndUnpaddedClaims() {
+        UnverifiedJsonWebToken token = UnverifiedJsonWebToken.of(jwt("{\"sub\":\"w5P2WQMBQ06pyXIwSlB\\/\\u002fA\"}"));
+        assertThat(token.getUnverifiedUserId()).isEqualTo(USERID);
+    }
+
+    @Test
+    void testAsJwt_largePayload() {
+        String padding = "x".repeat(64 * 1024);
+        UnverifiedJsonWebToken token =
+                UnverifiedJsonWebToken.of(jwt("{\"pad\":\"" + padding + "\",\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\"}"));
+        assertThat(token.getUnverifiedUserId()).isEqualTo(USERID);
+        assertThat(UnverifiedJsonWebToken.of(REQUIRED_CLAIMS_TOKEN).getUnverifiedUserId())
+                .isEqualTo(USERID);
+    }
+
+    @Test
+    void invalidJwt_missingSubject() {
+        Assertions.assertThatLoggableExceptionThrownBy(() -> UnverifiedJsonWebToken.of(jwt("{\"sid\":null}")))
+                .hasLogMessage("Invalid JWT: missing sub claim")
+                .hasNoArgs();
+    }
+
+    @Test
+    void invalidJwt_invalidUuidLength() {
+        Assertions.assertThatLoggableExceptionThrownBy(
+                        () -> UnverifiedJsonWebToken.of(jwt("{\"sub\":\"w5P2WQMBQ06pyXIwSlB/\"}")))
+                .hasLogMessage("Invalid JWT: cannot decode UUID, require 16 bytes")
+                .hasExactlyArgs(SafeArg.of("bytesLength", 15));
+    }
+
+    @Test
+    void invalidJwt_invalidJson() {
+        for (String payload : Arrays.asList(
+                "", "[]", "{", "{\"sub\"}", "{\"sub\":1}", "{\"a\":}", "{\"a\":[}", "{\"a\":1 \"b\":2}")) {
+            Assertions.assertThatLoggableExceptionThrownBy(() -> UnverifiedJsonWebToken.of(jwt(payload)))
+                    .hasLogMessage("Invalid JWT: cannot parse payload");
+        }
+    }
+
+    @Test
+    void testAsJwt_matchesJackson() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        Random random = new Random(0);
+        for (int i = 0; i < 1_000; i++) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("exp", random.nextLong());
+            payload.put("sub", uuidBytes(random));
+            if (random.nextBoolean()) {
+                payload.put("sid", uuidBytes(random));
+            }
+            if (random.nextBoolean()) {
+                payload.put("jti", uuidBytes(random));
+            }
+            if (random.nextBoolean()) {
+                payload.put("org", uuidBytes(random));
+            }
+            payload.put("scp", Arrays.asList("read", "write"));
+
+            UnverifiedJsonWebToken token = UnverifiedJsonWebToken.of(jwt(mapper.writeValueAsString(payload)));
+            assertThat(token.getUnverifiedUserId()).isEqualTo(uuid(payload.get("sub")));
+            assertThat(token.getUnverifiedSessionId())
+                    .isEqualTo(Optional.ofNullable(payload.get("sid")).map(UnverifiedJsonWebTokenTests::uuid));
+            assertThat(token.getUnverifiedTokenId())
+                    .isEqualTo(Optional.ofNullable(payload.get("jti")).map(UnverifiedJsonWebTokenTests::uuid));
+            assertThat(token.getUnverifiedOrganizationId())
+                    .isEqualTo(Optional.ofNullable(payload.get("org")).map(UnverifiedJsonWebTokenTests::uuid));
+            assertThat(token.getUnverifiedUserIdAsUuid()).hasToString(token.getUnverifiedUserId());
+            assertThat(token.getUnverifiedSessionIdAsUuid().map(UUID::toString))
+                    .isEqualTo(token.getUnverifiedSessionId());
+        }
+    }
+
+    private static void assertParseFailure(String header, UnverifiedJsonWebTokenParseFailure failure) {
+        UnverifiedJsonWebTokenParseResult result = UnverifiedJsonWebToken.parse(header);
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getToken()).isEmpty();
+        assertThat(result.getFailure()).contains(failure);
+        assertThat(UnverifiedJsonWebToken.parse(header)).isSameAs(result);
+        assertThat(UnverifiedJsonWebToken.tryParse(header)).isEmpty();
+    }
+
+    private static BearerToken jwt(String payload) {
+        return BearerToken.valueOf("header."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".signature");
+    }
+
+    private static byte[] uuidBytes(Random random) {
+        byte[] bytes = new byte[16];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String uuid(Object bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap((byte[]) bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
     }
 }
@@ -0,0 +1,192 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class VerifiedJsonWebTokenCacheTests {
+
+    private static final long EXPIRATION = 1459552349;
+    private static final String USERID = "c393f659-0301-434e-a9c9-72304a507ffc";
+    private static final String PAYLOAD =
+            "{\"sub\":\"" + JsonWebTokenVerifierTests.uuid(USERID) + "\",\"exp\":" + EXPIRATION + "}";
+    private static final KeyPair KEY = JsonWebTokenVerifierTests.generate("EC");
+    private static final JsonWebSignatureAlgorithm ES256 = JsonWebSignatureAlgorithm.ES256;
+
+    private final MutableClock clock = new MutableClock(Instant.ofEpochSecond(EXPIRATION - 600));
+    private final VerifiedJsonWebTokenCache cache = VerifiedJsonWebTokenCache.create(
+            JsonWebTokenVerifier.create(JsonWebKeyResolver.of(KEY.getPublic()), clock),
+            16,
+            Duration.ofMinutes(1),
+            Duration.ofSeconds(10));
+
+    @Test
+    void testReturnsCachedResultUntilExpiry() {
+        BearerToken token = sign(PAYLOAD);
+
+        JsonWebTokenVerificationResult first = cache.verify(token);
+        assertThat(first.getToken().orElseThrow().getUserId()).isEqualTo(USERID);
+        assertThat(cache.verify(BearerToken.valueOf(token.getToken()))).isSameAs(first);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+
+        // entries are evicted the configured skew before the token expires
+        clock.set(Instant.ofEpochSecond(EXPIRATION - 60).minusMillis(1));
+        assertThat(cache.verify(token)).isSameAs(first);
+        clock.set(Instant.ofEpochSecond(EXPIRATION - 60));
+        assertThat(cache.verify(token).isSuccess()).isTrue();
+        assertThat(cache.missCount()).isEqualTo(2);
+        clock.set(Instant.ofEpochSecond(EXPIRATION));
+        assertThat(cache.verify(token).getFailure()).contains(JsonWebTokenVerificationFailure.EXPIRED);
+        assertThat(cache.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testCachesInvalidSignaturesBriefly() {
+        String valid = sign(PAYLOAD).getToken();
+        BearerToken token = BearerToken.valueOf(valid.substring(0, valid.lastIndexOf('.') + 1) + "A".repeat(86));
+
+        assertThat(cache.verify(token).getFailure()).contains(JsonWebTokenVerificationFailure.INVALID_SIGNATURE);
+        assertThat(cache.verify(token).getFailure()).contains(JsonWebTokenVerificationFailure.INVALID_SIGNATURE);
+        assertThat(cache.negativeHitCount()).isEqualTo(1);
+
+        clock.set(clock.instant().plusSeconds(10));
+        assertThat(cache.verify(token).isSuccess()).isFalse();
+        assertThat(cache.missCount()).isEqualTo(2);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testDoesNotCacheOtherResults() {
+        BearerToken withoutExpiry = sign("{\"sub\":\"" + JsonWebTokenVerifierTests.uuid(USERID) + "\"}");
+        BearerToken invalidHeader = BearerToken.valueOf("e30.e30.AAAA");
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(cache.verify(withoutExpiry).isSuccess()).isTrue();
+            assertThat(cache.verify(invalidHeader).getFailure())
+                    .contains(JsonWebTokenVerificationFailure.INVALID_HEADER);
+        }
+        assertThat(cache.hitCount()).isZero();
+        assertThat(cache.missCount()).isEqualTo(4);
+    }
+
+    @Test
+    void testDoesNotCacheTokensNotYetValid() {
+        long notBefore = EXPIRATION - 300;
+        BearerToken token = sign("{\"sub\":\"" + JsonWebTokenVerifierTests.uuid(USERID) + "\",\"nbf\":" + notBefore
+                + ",\"exp\":" + EXPIRATION + "}");
+
+        assertThat(cache.verify(token).getFailure()).contains(JsonWebTokenVerificationFailure.NOT_YET_VALID);
+        assertThat(cache.verify(token).getFailure()).contains(JsonWebTokenVerificationFailure.NOT_YET_VALID);
+        assertThat(cache.hitCount()).isZero();
+
+        clock.set(Instant.ofEpochSecond(notBefore));
+        JsonWebTokenVerificationResult valid = cache.verify(token);
+        assertThat(valid.isSuccess()).isTrue();
+        assertThat(cache.verify(token)).isSameAs(valid);
+        assertThat(cache.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testVerifiesAgainOnceKeyIsRemoved(@TempDir Path directory) throws IOException {
+        KeyPair other = JsonWebTokenVerifierTests.generate("EC");
+        Path file = directory.resolve("keys.json");
+        Files.writeString(
+                file,
+                "{\"keys\":[" + JsonWebKeyStoreTests.ecJwk("a", KEY.getPublic()) + ","
+                        + JsonWebKeyStoreTests.ecJwk("b", other.getPublic()) + "]}");
+        JsonWebKeyStore store = JsonWebKeyStore.load(file);
+        VerifiedJsonWebTokenCache storeCache = VerifiedJsonWebTokenCache.create(
+                JsonWebTokenVerifier.create(store, clock), 16, Duration.ofMinutes(1), Duration.ofSeconds(10));
+        BearerToken token = JsonWebTokenVerifierTests.sign(
+                ES256, KEY.getPrivate(), JsonWebTokenVerifierTests.header(ES256, "a"), PAYLOAD);
+
+        JsonWebTokenVerificationResult first = storeCache.verify(token);
+        assertThat(first.isSuccess()).isTrue();
+        assertThat(storeCache.verify(token)).isSameAs(first);
+
+        // keys read again by a reload are new instances, so the token is verified once more against them
+        Files.writeString(
+                file,
+                "{\"keys\":[" + JsonWebKeyStoreTests.ecJwk("b", other.getPublic()) + ","
+                        + JsonWebKeyStoreTests.ecJwk("a", KEY.getPublic()) + "]}");
+        assertThat(store.reload()).isTrue();
+        JsonWebTokenVerificationResult reverified = storeCache.verify(token);
+        assertThat(reverified.isSuccess()).isTrue();
+        assertThat(reverified).isNotSameAs(first);
+        assertThat(storeCache.verify(token)).isSameAs(reverified);
+        assertThat(storeCache.missCount()).isEqualTo(2);
+
+        Files.writeString(file, JsonWebKeyStoreTests.ecJwk("b", other.getPublic()));
+        assertThat(store.reload()).isTrue();
+        assertThat(storeCache.verify(token).getFailure()).contains(JsonWebTokenVerificationFailure.UNKNOWN_KEY);
+        assertThat(storeCache.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testRejectsInvalidConfiguration() {
+        JsonWebTokenVerifier verifier = JsonWebTokenVerifier.create(JsonWebKeyResolver.of(KEY.getPublic()));
+        assertThatThrownBy(() -> VerifiedJsonWebTokenCache.create(verifier, 16, Duration.ofSeconds(-1), Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> VerifiedJsonWebTokenCache.create(verifier, 2, Duration.ZERO, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static BearerToken sign(String payload) {
+        return JsonWebTokenVerifierTests.sign(
+                ES256, KEY.getPrivate(), JsonWebTokenVerifierTests.header(ES256, null), payload);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant value) {
+            this.instant = value;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
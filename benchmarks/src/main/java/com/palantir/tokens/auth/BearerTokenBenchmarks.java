@@ -0,0 +1,82 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(1)
+@Threads(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 3, time = 2)
+@State(Scope.Benchmark)
+public class BearerTokenBenchmarks {
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-._~+/";
+
+    @Param({"100", "1024", "4096", "16384"})
+    private int length;
+
+    private String token;
+    private byte[] tokenBytes;
+    private CharSequence tokenSequence;
+
+    @Setup
+    public final void before() {
+        Random random = new Random(0);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length - 2; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        token = builder.append("==").toString();
+        tokenBytes = token.getBytes(StandardCharsets.US_ASCII);
+        tokenSequence = AsciiCharSequence.of(tokenBytes, 0, tokenBytes.length);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final BearerToken valueOfString() {
+        return BearerToken.valueOf(token);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final BearerToken valueOfBytes() {
+        return BearerToken.valueOf(tokenBytes, 0, tokenBytes.length);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final boolean validateString() {
+        return BearerTokenValidator.isValid(token, 0, token.length());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final boolean validateBytes() {
+        return BearerTokenValidator.isValid(tokenSequence, 0, tokenBytes.length);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.tokens.auth.http.BearerTokenLoggingFeature;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.FeatureContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken by {@link BearerTokenLoggingFeature} to configure every endpoint of a synthetic application,
+ * as happens once when a Jersey application starts.
+ * <p>
+ * The application is compiled when the benchmark is set up and has {@link #SERVICES} services of
+ * {@link #ENDPOINTS_PER_SERVICE} endpoints each, declared in the same way as Conjure services: the JAX-RS annotations
+ * live on an interface which is implemented by the resource class. Endpoints alternately take an Authorization
+ * header, a {@link BearerToken} cookie, or neither.
+ */
+@Fork(1)
+@Threads(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 3, time = 2)
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BearerTokenLoggingFeatureBenchmarks {
+    private static final int SERVICES = 10;
+    private static final int ENDPOINTS_PER_SERVICE = 1_000;
+
+    private final List<ResourceInfo> endpoints = new ArrayList<>(SERVICES * ENDPOINTS_PER_SERVICE);
+    private final FeatureContext context = (FeatureContext) Proxy.newProxyInstance(
+            FeatureContext.class.getClassLoader(),
+            new Class<?>[] {FeatureContext.class},
+            (proxy, _method, _args) -> proxy);
+
+    @Setup
+    public final void before() throws Exception {
+        Path directory = Files.createTempDirectory("endpoints");
+        List<String> sources = new ArrayList<>();
+        for (int service = 0; service < SERVICES; service++) {
+            sources.add(write(directory, "Service" + service, serviceInterface(service)));
+            sources.add(write(directory, "Service" + service + "Resource", serviceResource(service)));
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> arguments = new ArrayList<>(
+                List.of("-classpath", System.getProperty("java.class.path"), "-d", directory.toString(), "-nowarn"));
+        arguments.addAll(sources);
+        if (compiler.run(null, null, null, arguments.toArray(new String[0])) != 0) {
+            throw new IllegalStateException("Failed to compile endpoints");
+        }
+
+        ClassLoader loader = new URLClassLoader(
+                new URL[] {directory.toUri().toURL()}, BearerTokenLoggingFeatureBenchmarks.class.getClassLoader());
+        for (int service = 0; service < SERVICES; service++) {
+            Class<?> resourceClass = loader.loadClass("Service" + service + "Resource");
+            for (Method method : resourceClass.getDeclaredMethods()) {
+                endpoints.add(new Endpoint(resourceClass, method));
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public final BearerTokenLoggingFeature configureEndpoints() {
+        BearerTokenLoggingFeature feature = new BearerTokenLoggingFeature();
+        for (ResourceInfo endpoint : endpoints) {
+            feature.configure(endpoint, context);
+        }
+        return feature;
+    }
+
+    private static String serviceInterface(int service) {
+        StringBuilder source = new StringBuilder()
+                .append("@jakarta.ws.rs.Path(\"/service")
+                .append(service)
+                .append("\")\npublic interface Service")
+                .append(service)
+                .append(" {\n");
+        for (int endpoint = 0; endpoint < ENDPOINTS_PER_SERVICE; endpoint++) {
+            source.append("    @jakarta.ws.rs.GET\n    @jakarta.ws.rs.Path(\"/endpoint")
+                    .append(endpoint)
+                    .append("/{id}\")\n    String endpoint")
+                    .append(endpoint)
+                    .append('(')
+                    .append(authParameter(endpoint))
+                    .append("@jakarta.ws.rs.PathParam(\"id\") String id);\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static String serviceResource(int service) {
+        StringBuilder source = new StringBuilder()
+                .append("public final class Service")
+                .append(service)
+                .append("Resource implements Service")
+                .append(service)
+                .append(" {\n");
+        for (int endpoint = 0; endpoint < ENDPOINTS_PER_SERVICE; endpoint++) {
+            source.append("    @Override\n    public String endpoint")
+                    .append(endpoint)
+                    .append('(')
+                    .append(authParameterType(endpoint))
+                    .append("String id) {\n        return id;\n    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static String authParameter(int endpoint) {
+        switch (endpoint % 3) {
+            case 0:
+                return "@jakarta.ws.rs.HeaderParam(\"Authorization\") com.palantir.tokens.auth.AuthHeader authHeader, ";
+            case 1:
+                return "@jakarta.ws.rs.CookieParam(\"TOKEN\") com.palantir.tokens.auth.BearerToken token, ";
+            default:
+                return "";
+        }
+    }
+
+    private static String authParameterType(int endpoint) {
+        switch (endpoint % 3) {
+            case 0:
+                return "com.palantir.tokens.auth.AuthHeader authHeader, ";
+            case 1:
+                return "com.palantir.tokens.auth.BearerToken token, ";
+            default:
+                return "";
+        }
+    }
+
+    private static String write(Path directory, String className, String source) {
+        Path file = directory.resolve(className + ".java");
+        try {
+            Files.writeString(file, source, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return file.toString();
+    }
+
+    private static final class Endpoint implements ResourceInfo {
+        private final Class<?> resourceClass;
+        private final Method resourceMethod;
+
+        Endpoint(Class<?> resourceClass, Method resourceMethod) {
+            this.resourceClass = resourceClass;
+            this.resourceMethod = resourceMethod;
+        }
+
+        @Override
+        public Method getResourceMethod() {
+            return resourceMethod;
+        }
+
+        @Override
+        public Class<?> getResourceClass() {
+            return resourceClass;
+        }
+    }
+}
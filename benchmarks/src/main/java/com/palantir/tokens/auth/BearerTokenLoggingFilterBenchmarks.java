@@ -0,0 +1,83 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import com.palantir.tokens.auth.http.BearerTokenLoggingFilter;
+import com.palantir.tokens.auth.http.LazyBearerTokenLoggingFilter;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-request cost of the logging filters for a request whose identity is never used, comparing the
+ * filter which decodes the token up front with the one which defers it.
+ */
+@Fork(1)
+@Threads(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 3, time = 2)
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BearerTokenLoggingFilterBenchmarks {
+    private static final String AUTH_HEADER = "Bearer eyJhbGciOiJFUzI1NiJ9."
+            + "eyJleHAiOjE0NTk1NTIzNDksInNpZCI6IlA4WmoxRDVJVGUyNlR0Z"
+            + "UsrWXVEWXc9PSIsInN1YiI6Inc1UDJXUU1CUTA2cHlYSXdTbEIvL0E9PSJ9"
+            + ".XwPO_EEDVj6BBLScuf70_CH4jyI1ECmgVSoXLHpGlK-yIqm8MyUyFyNQTu8jh9kYheW-zBl64gmTnatkjjDH1A";
+
+    private final Map<String, Object> properties = new HashMap<>();
+    private final ContainerRequestContext requestContext = (ContainerRequestContext) Proxy.newProxyInstance(
+            ContainerRequestContext.class.getClassLoader(),
+            new Class<?>[] {ContainerRequestContext.class},
+            (_proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getHeaderString":
+                        return HttpHeaders.AUTHORIZATION.equals(args[0]) ? AUTH_HEADER : null;
+                    case "setProperty":
+                        return properties.put((String) args[0], args[1]);
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    private final BearerTokenLoggingFilter eagerFilter = new BearerTokenLoggingFilter();
+    private final LazyBearerTokenLoggingFilter lazyFilter = new LazyBearerTokenLoggingFilter();
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final Map<String, Object> eagerIdentity() {
+        eagerFilter.filter(requestContext);
+        return properties;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final Map<String, Object> lazyIdentity() {
+        lazyFilter.filter(requestContext);
+        return properties;
+    }
+}
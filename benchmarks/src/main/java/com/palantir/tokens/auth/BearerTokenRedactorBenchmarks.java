@@ -0,0 +1,102 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(1)
+@Threads(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 3, time = 2)
+@State(Scope.Benchmark)
+public class BearerTokenRedactorBenchmarks {
+    private static final String JWT = "eyJhbGciOiJFUzI1NiJ9."
+            + "eyJleHAiOjE0NTk1NTIzNDksInNpZCI6IlA4WmoxRDVJVGUyNlR0Z"
+            + "UsrWXVEWXc9PSIsInN1YiI6Inc1UDJXUU1CUTA2cHlYSXdTbEIvL0E9PSJ9"
+            + ".XwPO_EEDVj6BBLScuf70_CH4jyI1ECmgVSoXLHpGlK-yIqm8MyUyFyNQTu8jh9kYheW-zBl64gmTnatkjjDH1A";
+    private static final String PREFIX = "2026-10-17T10:00:00.000Z INFO [qtp-1234] c.p.f.s.DatasetResource - "
+            + "Processed request for dataset ri.foundry.main.dataset.1234 in 12 ms, ";
+
+    // The regex equivalent of the redactor, as commonly used by log pipelines
+    private static final Pattern PATTERN =
+            Pattern.compile("(?i)(?<![A-Za-z0-9\\-._~+/])(bearer +)[A-Za-z0-9\\-._~+/]+=*"
+                    + "|(?<![A-Za-z0-9\\-._~+/])eyJ[A-Za-z0-9_-]*\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]*");
+
+    @Param({"clean", "bearer", "jwt"})
+    private String line;
+
+    private String input;
+    private char[] chars;
+    private final StringBuilder out = new StringBuilder();
+
+    @Setup
+    public final void before() {
+        switch (line) {
+            case "clean":
+                input = PREFIX + "user agent was Browser/1.0 and the response had 1234 bytes";
+                break;
+            case "bearer":
+                input = PREFIX + "failed with header Authorization: Bearer " + JWT;
+                break;
+            case "jwt":
+                input = PREFIX + "callback url was https://example.com/callback?token=" + JWT + "&state=abc";
+                break;
+            default:
+                throw new IllegalArgumentException(line);
+        }
+        chars = input.toCharArray();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final String redact() {
+        return BearerTokenRedactor.redact(input);
+    }
+
+    // Redacts into a reused builder, so that with -prof gc clean lines show that scanning a char[] does not allocate
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final StringBuilder redactCharArray() throws IOException {
+        out.setLength(0);
+        BearerTokenRedactor.redact(chars, 0, chars.length, out);
+        return out;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final String redactWithRegex() {
+        Matcher matcher = PATTERN.matcher(input);
+        if (!matcher.find()) {
+            return input;
+        }
+        return matcher.replaceAll(result -> result.group(1) != null
+                ? result.group(1) + BearerTokenRedactor.REDACTED
+                : BearerTokenRedactor.REDACTED);
+    }
+}
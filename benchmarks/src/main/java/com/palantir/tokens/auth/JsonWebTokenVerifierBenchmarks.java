@@ -0,0 +1,100 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.tokens.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.Base64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures verifications per second on a single core, for each supported algorithm. */
+@Fork(1)
+@Threads(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 3, time = 2)
+@State(Scope.Benchmark)
+public class JsonWebTokenVerifierBenchmarks {
+    private static final String HEADER = "{\"alg\":\"%s\",\"kid\":\"key\"}";
+    private static final String PAYLOAD =
+            "{\"exp\":4102444800,\"sid\":\"P8Zj1D5ITe26TteK+YuDYw==\",\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\"}";
+
+    @Param({"ES256", "RS256", "EDDSA"})
+    private JsonWebSignatureAlgorithm algorithm;
+
+    private JsonWebTokenVerifier verifier;
+    private VerifiedJsonWebTokenCache cache;
+    private BearerToken token;
+
+    @Setup
+    public final void before() throws GeneralSecurityException {
+        KeyPair key = generate(algorithm);
+        verifier = JsonWebTokenVerifier.create(JsonWebKeyResolver.of(key.getPublic()));
+        cache = VerifiedJsonWebTokenCache.create(verifier, 1024, Duration.ofMinutes(1), Duration.ofSeconds(10));
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String input = encoder.encodeToString(
+                        String.format(HEADER, algorithm.getName()).getBytes(StandardCharsets.UTF_8))
+                + "."
+                + encoder.encodeToString(PAYLOAD.getBytes(StandardCharsets.UTF_8));
+        Signature signature = Signature.getInstance(algorithm.signatureAlgorithm());
+        signature.initSign(key.getPrivate());
+        signature.update(input.getBytes(StandardCharsets.US_ASCII));
+        token = BearerToken.valueOf(input + "." + encoder.encodeToString(signature.sign()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final JsonWebTokenVerificationResult verify() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final JsonWebTokenVerificationResult verifyCached() {
+        return cache.verify(token);
+    }
+
+    private static KeyPair generate(JsonWebSignatureAlgorithm algorithm) throws GeneralSecurityException {
+        switch (algorithm) {
+            case ES256:
+                KeyPairGenerator ec = KeyPairGenerator.getInstance("EC");
+                ec.initialize(new ECGenParameterSpec("secp256r1"));
+                return ec.generateKeyPair();
+            case RS256:
+                KeyPairGenerator rsa = KeyPairGenerator.getInstance("RSA");
+                rsa.initialize(2048);
+                return rsa.generateKeyPair();
+            case EDDSA:
+                return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        }
+        throw new IllegalArgumentException("Unknown algorithm");
+    }
+}
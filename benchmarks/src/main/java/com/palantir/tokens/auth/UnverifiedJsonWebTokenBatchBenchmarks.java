@@ -0,0 +1,87 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.tokens.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(1)
+@Threads(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 3, time = 2)
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UnverifiedJsonWebTokenBatchBenchmarks {
+    private static final int SIZE = 100_000;
+
+    private List<String> headers;
+
+    @Setup
+    public final void before() {
+        Random random = new Random(0);
+        headers = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            headers.add(jwt("{\"exp\":1459552349,\"sid\":\"" + uuid(random) + "\",\"sub\":\"" + uuid(random)
+                    + "\",\"org\":\"" + uuid(random) + "\"}"));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final UnverifiedJsonWebTokenBatch parseBatch() {
+        return UnverifiedJsonWebTokenBatch.parse(headers);
+    }
+
+    /** Baseline for {@link #parseBatch}, parsing every header into an {@link UnverifiedJsonWebToken}. */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final List<Optional<UnverifiedJsonWebToken>> parseSequentially() {
+        List<Optional<UnverifiedJsonWebToken>> tokens = new ArrayList<>(headers.size());
+        for (String header : headers) {
+            tokens.add(UnverifiedJsonWebToken.tryParse(header));
+        }
+        return tokens;
+    }
+
+    private static String uuid(Random random) {
+        byte[] bytes = new byte[16];
+        random.nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private static String jwt(String payload) {
+        return "Bearer eyJhbGciOiJFUzI1NiJ9."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".XwPO_EEDVj6BBLScuf70_CH4jyI1ECmgVSoXLHpGlK-yIqm8MyUyFyNQTu8jh9kYheW-zBl64gmTnatkjjDH1A";
+    }
+}
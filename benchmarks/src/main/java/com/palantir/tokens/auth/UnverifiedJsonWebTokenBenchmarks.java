@@ -16,7 +16,16 @@
 
 package com.palantir.tokens.auth;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -31,10 +40,46 @@ import org.openjdk.jmh.annotations.Warmup;
 @Measurement(iterations = 3, time = 3)
 public class UnverifiedJsonWebTokenBenchmarks {
     private static final String NOT_JWT = "NotJwt".repeat(40);
+    private static final String INVALID_BEARER_TOKEN = "Bearer not a.json.web token";
+    private static final String INVALID_BASE64 = "Bearer eyJhbGciOiJFUzI1NiJ9.eyJzdWIiOiJ3NVAy~~~~.signature";
+    private static final String INVALID_JSON = jwt("{\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\" \"exp\":1459552349}");
+    private static final String MISSING_SUBJECT = jwt("{\"exp\":1459552349,\"sid\":\"P8Zj1D5ITe26TteK+YuDYw==\"}");
+    private static final String INVALID_UUID_LENGTH = jwt("{\"exp\":1459552349,\"sub\":\"w5P2WQMBQ06pyXIw\"}");
     private static final String SESSION_TOKEN = "Bearer eyJhbGciOiJFUzI1NiJ9."
             + "eyJleHAiOjE0NTk1NTIzNDksInNpZCI6IlA4WmoxRDVJVGUyNlR0Z"
             + "UsrWXVEWXc9PSIsInN1YiI6Inc1UDJXUU1CUTA2cHlYSXdTbEIvL0E9PSJ9"
             + ".XwPO_EEDVj6BBLScuf70_CH4jyI1ECmgVSoXLHpGlK-yIqm8MyUyFyNQTu8jh9kYheW-zBl64gmTnatkjjDH1A";
+    private static final byte[] SESSION_TOKEN_BYTES = SESSION_TOKEN.getBytes(StandardCharsets.US_ASCII);
+    private static final UnverifiedJsonWebTokenCache CACHE = UnverifiedJsonWebTokenCache.create(1024);
+    private static final Instant NOW = Instant.ofEpochSecond(1459552000);
+    private static final Duration SKEW = Duration.ofMinutes(1);
+    private static final UUID SESSION_USER_ID = UUID.fromString("c393f659-0301-434e-a9c9-72304a507ffc");
+    private static final BearerToken SESSION_BEARER_TOKEN =
+            AuthHeader.valueOf(SESSION_TOKEN).getBearerToken();
+    private static final String EXTENDED_TOKEN = jwt("{\"iss\":\"https://multipass.example.com\","
+            + "\"aud\":[\"foundry\",\"gotham\"],\"exp\":1459552349,\"iat\":1459548749,"
+            + "\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\",\"sid\":\"P8Zj1D5ITe26TteK+YuDYw==\","
+            + "\"groups\":[\"admins\",\"users\",\"readers\"],\"metadata\":{\"client\":\"cli\",\"version\":3},"
+            + "\"tenant\":\"example\"}");
+    private static final JsonWebTokenClaim<List<String>> AUDIENCE = JsonWebTokenClaim.stringList("aud");
+    private static final JsonWebTokenClaim<String> ISSUER = JsonWebTokenClaim.string("iss");
+    private static final JsonWebTokenClaim<Long> EXPIRATION = JsonWebTokenClaim.number("exp");
+    private static final JsonWebTokenClaim<String> TENANT = JsonWebTokenClaim.string("tenant");
+    private static final JsonWebTokenClaimExtractor EXTRACTOR =
+            JsonWebTokenClaimExtractor.compile(AUDIENCE, ISSUER, EXPIRATION, TENANT);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonWebTokenScope READ = JsonWebTokenScope.of("compass:read");
+    private static final JsonWebTokenScope WRITE = JsonWebTokenScope.of("compass:write");
+    private static final JsonWebTokenScopes REQUIRED_SCOPES = JsonWebTokenScopes.of(READ, WRITE);
+    private static final List<String> REQUIRED_SCOPE_NAMES = List.of("compass:read", "compass:write");
+    private static final JsonWebTokenClaim<JsonWebTokenScopes> SCOPE = JsonWebTokenClaim.scopes("scope");
+    private static final JsonWebTokenClaimExtractor SCOPE_EXTRACTOR = JsonWebTokenClaimExtractor.compile(SCOPE);
+    private static final String SCOPED_TOKEN = jwt("{\"sub\":\"w5P2WQMBQ06pyXIwSlB//A==\","
+            + "\"scope\":\"openid offline_access compass:read compass:write api:datasets-read api:ontologies-read\"}");
+    private static final JsonWebTokenScopes TOKEN_SCOPES =
+            SCOPE_EXTRACTOR.extract(SCOPED_TOKEN).orElseThrow().get(SCOPE).orElseThrow();
+    private static final List<String> TOKEN_SCOPE_NAMES = List.of(
+            "openid", "offline_access", "compass:read", "compass:write", "api:datasets-read", "api:ontologies-read");
 
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
@@ -42,9 +87,131 @@ public class UnverifiedJsonWebTokenBenchmarks {
         return UnverifiedJsonWebToken.tryParse(NOT_JWT);
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final Optional<UnverifiedJsonWebToken> parseInvalidBearerToken() {
+        return UnverifiedJsonWebToken.tryParse(INVALID_BEARER_TOKEN);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final Optional<UnverifiedJsonWebToken> parseInvalidBase64() {
+        return UnverifiedJsonWebToken.tryParse(INVALID_BASE64);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final Optional<UnverifiedJsonWebToken> parseInvalidJson() {
+        return UnverifiedJsonWebToken.tryParse(INVALID_JSON);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final Optional<UnverifiedJsonWebToken> parseMissingSubject() {
+        return UnverifiedJsonWebToken.tryParse(MISSING_SUBJECT);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final Optional<UnverifiedJsonWebToken> parseInvalidUuidLength() {
+        return UnverifiedJsonWebToken.tryParse(INVALID_UUID_LENGTH);
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
     public final Optional<UnverifiedJsonWebToken> parseSessionToken() {
         return UnverifiedJsonWebToken.tryParse(SESSION_TOKEN);
     }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final long peekSessionTokenExpiration() {
+        return UnverifiedJsonWebTokenDates.getExpiration(SESSION_TOKEN);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final boolean isSessionTokenExpired() {
+        return UnverifiedJsonWebTokenDates.isExpired(SESSION_TOKEN, NOW, SKEW);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final Optional<UnverifiedJsonWebToken> parseSessionTokenBytes() {
+        return UnverifiedJsonWebToken.tryParse(SESSION_TOKEN_BYTES, 0, SESSION_TOKEN_BYTES.length);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final Optional<UnverifiedJsonWebToken> parseSessionTokenCached() {
+        return CACHE.tryParse(SESSION_TOKEN);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final UnverifiedJsonWebToken parseSessionBearerToken() {
+        return UnverifiedJsonWebToken.of(SESSION_BEARER_TOKEN);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final String parseSessionBearerTokenUserId() {
+        return UnverifiedJsonWebToken.of(SESSION_BEARER_TOKEN).getUnverifiedUserId();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final UUID parseSessionBearerTokenUserIdAsUuid() {
+        return UnverifiedJsonWebToken.of(SESSION_BEARER_TOKEN).getUnverifiedUserIdAsUuid();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final boolean matchSessionBearerTokenUserId() {
+        return UnverifiedJsonWebToken.of(SESSION_BEARER_TOKEN).hasUnverifiedUserId(SESSION_USER_ID);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final Optional<JsonWebTokenClaims> extractExtendedClaims() {
+        return EXTRACTOR.extract(EXTENDED_TOKEN);
+    }
+
+    /** Baseline for {@link #extractExtendedClaims}, reading the same claims from a Jackson tree. */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final JsonNode extractExtendedClaimsWithJackson() throws IOException {
+        int firstDot = EXTENDED_TOKEN.indexOf('.');
+        String payload = EXTENDED_TOKEN.substring(firstDot + 1, EXTENDED_TOKEN.indexOf('.', firstDot + 1));
+        JsonNode tree = MAPPER.readTree(Base64.getUrlDecoder().decode(payload));
+        tree.path("aud");
+        tree.path("iss");
+        tree.path("exp");
+        return tree.path("tenant");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final Optional<JsonWebTokenClaims> extractScopes() {
+        return SCOPE_EXTRACTOR.extract(SCOPED_TOKEN);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final boolean checkRequiredScopes() {
+        return TOKEN_SCOPES.containsAll(REQUIRED_SCOPES);
+    }
+
+    /** Baseline for {@link #checkRequiredScopes}, testing the scopes held as a list of strings. */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public final boolean checkRequiredScopeNames() {
+        return TOKEN_SCOPE_NAMES.containsAll(REQUIRED_SCOPE_NAMES);
+    }
+
+    private static String jwt(String payload) {
+        return "Bearer eyJhbGciOiJFUzI1NiJ9."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".XwPO_EEDVj6BBLScuf70_CH4jyI1ECmgVSoXLHpGlK-yIqm8MyUyFyNQTu8jh9kYheW-zBl64gmTnatkjjDH1A";
+    }
 }